@@ -0,0 +1,38 @@
+// Platform vs virtual thread comparison at 2k concurrent connections.
+//
+// Start the app twice, once per mode, and run this script against each:
+//   VIRTUAL_THREADS_ENABLED=false mvn spring-boot:run
+//   VIRTUAL_THREADS_ENABLED=true  mvn spring-boot:run
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=platform k6/virtual-threads-test.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e MODE=virtual  k6/virtual-threads-test.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+    scenarios: {
+        slow_clients: {
+            executor: 'constant-vus',
+            vus: 2000,
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: __ENV.MODE || 'unknown' },
+};
+
+const PRODUCTS_QUERY = JSON.stringify({
+    query: 'query { activeProducts(page: 0, size: 20) { content { id name price } totalElements } }',
+});
+
+export default function () {
+    // Mixed REST and GraphQL reads, both of which block on JDBC
+    const rest = http.get(`${BASE_URL}/api/products?page=0&size=20`);
+    check(rest, { 'rest 200': (r) => r.status === 200 });
+
+    const gql = http.post(`${BASE_URL}/graphql`, PRODUCTS_QUERY, {
+        headers: { 'Content-Type': 'application/json' },
+    });
+    check(gql, { 'graphql 200': (r) => r.status === 200 });
+}
@@ -6,6 +6,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
@@ -34,12 +35,6 @@ public class PerformanceAspect {
     @Pointcut("within(com.miracle.smart_ecommerce_api_v1..controller..*)")
     public void controllerMethods() {}
 
-    /**
-     * Pointcut for all repository methods (matches project package)
-     */
-    @Pointcut("within(com.miracle.smart_ecommerce_api_v1..repository..*)")
-    public void repositoryMethods() {}
-
     /**
      * Around advice - monitors service layer performance
      */
@@ -56,15 +51,7 @@ public class PerformanceAspect {
         return measureAndLog(joinPoint, "Controller");
     }
 
-    /**
-     * Around advice - monitors repository performance
-     */
-    @Around("repositoryMethods()")
-    public Object monitorRepositoryPerformance(ProceedingJoinPoint joinPoint) throws Throwable {
-        return measureAndLog(joinPoint, "Repository");
-    }
-
-    private Object measureAndLog(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+    static Object measureAndLog(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
         String methodName = joinPoint.getSignature().toShortString();
         long startTime = System.currentTimeMillis();
 
@@ -83,7 +70,7 @@ public class PerformanceAspect {
         }
     }
 
-    private void logPerformance(String layer, String methodName, long executionTime) {
+    private static void logPerformance(String layer, String methodName, long executionTime) {
         if (executionTime >= VERY_SLOW_THRESHOLD_MS) {
             log.warn("[{}] VERY SLOW: {} took {} ms", layer, methodName, executionTime);
         } else if (executionTime >= SLOW_THRESHOLD_MS) {
@@ -92,5 +79,20 @@ public class PerformanceAspect {
             log.debug("[{}] {} completed in {} ms", layer, methodName, executionTime);
         }
     }
-}
 
+    /**
+     * Repository timing. Off by default: transactions open at service entry, and a proxy around
+     * every SQL call costs more than it tells. Enable with app.aop.repository-timing.enabled=true
+     * when chasing a slow query.
+     */
+    @Aspect
+    @Component
+    @ConditionalOnProperty(prefix = "app.aop.repository-timing", name = "enabled", havingValue = "true")
+    public static class RepositoryTiming {
+
+        @Around("within(com.miracle.smart_ecommerce_api_v1..repository..*)")
+        public Object monitorRepositoryPerformance(ProceedingJoinPoint joinPoint) throws Throwable {
+            return measureAndLog(joinPoint, "Repository");
+        }
+    }
+}
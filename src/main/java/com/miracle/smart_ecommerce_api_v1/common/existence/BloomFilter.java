@@ -0,0 +1,90 @@
+package com.miracle.smart_ecommerce_api_v1.common.existence;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over UUIDs. {@link #mightContain} never returns false for an id that
+ * was {@link #put}; it returns true for an absent id with roughly the configured probability.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) (bitCount >>> 6));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Size a filter for the expected number of ids and target false-positive rate.
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        // Whole 64-bit words, within what an AtomicLongArray can index
+        bits = Math.min(Math.max(64, (bits + 63) & ~63L), (long) Integer.MAX_VALUE << 6);
+        int hashes = (int) Math.max(1, Math.round((double) bits / n * ln2));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(UUID id) {
+        long h1 = hash1(id);
+        long h2 = hash2(id);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    public boolean mightContain(UUID id) {
+        long h1 = hash1(id);
+        long h2 = hash2(id);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // Two independent hashes combined as h1 + i * h2 (Kirsch-Mitzenmacher)
+    private static long hash1(UUID id) {
+        return mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits()));
+    }
+
+    private static long hash2(UUID id) {
+        // Odd, so successive probes never collapse onto the same bit
+        return mix(id.getLeastSignificantBits() + 0x9E3779B97F4A7C15L ^ id.getMostSignificantBits()) | 1;
+    }
+
+    // MurmurHash3 64-bit finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
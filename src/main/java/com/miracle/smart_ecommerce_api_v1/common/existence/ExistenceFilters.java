@@ -0,0 +1,201 @@
+package com.miracle.smart_ecommerce_api_v1.common.existence;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.common.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional Bloom filters of the ids of users, products and categories, so an existence check
+ * for an id that was never created is answered without a query.
+ * Each filter is built from the table on a background thread and kept current by the
+ * repositories' inserts; deleted ids stay in it (a false positive just falls through to
+ * the database) until the periodic rebuild drops them. Until a filter is built, and while
+ * a bulk load holds it, every check falls through to the database.
+ * Only inserts made through this instance are seen between rebuilds, so enable it only when
+ * a single instance writes these tables.
+ */
+@Component
+@Slf4j
+public class ExistenceFilters {
+
+    public enum Kind {
+        USERS("app_user"),
+        PRODUCTS("product"),
+        CATEGORIES("product_category");
+
+        private final String table;
+
+        Kind(String table) {
+            this.table = table;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Kind, Slot> slots = new EnumMap<>(Kind.class);
+
+    @Value("${app.existence-filter.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.existence-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.existence-filter.min-capacity:100000}")
+    private long minCapacity;
+
+    @Value("${app.existence-filter.rebuild-interval:1h}")
+    private Duration rebuildInterval;
+
+    @Value("${app.existence-filter.catch-up-window:5m}")
+    private Duration catchUpWindow;
+
+    private ScheduledExecutorService builder;
+
+    public ExistenceFilters(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (Kind kind : Kind.values()) {
+            slots.put(kind, new Slot());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        builder = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("existence-filter").daemon().factory());
+        builder.scheduleWithFixedDelay(this::rebuildAll, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (builder != null) {
+            builder.shutdownNow();
+        }
+    }
+
+    /**
+     * False only when the id has certainly never been inserted; true means "ask the database".
+     */
+    public boolean mightExist(Kind kind, UUID id) {
+        BloomFilter filter = slots.get(kind).current;
+        return filter == null || id == null || filter.mightContain(id);
+    }
+
+    /**
+     * Record a newly inserted id. Call it as soon as the row is written, before commit: a
+     * rolled-back insert only costs a false positive.
+     */
+    public void added(Kind kind, UUID id) {
+        if (id == null) {
+            return;
+        }
+        Slot slot = slots.get(kind);
+        BloomFilter current = slot.current;
+        BloomFilter building = slot.building;
+        if (current != null) {
+            current.put(id);
+        }
+        if (building != null) {
+            building.put(id);
+        }
+    }
+
+    /**
+     * Stop answering from the filter while rows are loaded in a way that does not report their ids.
+     * Every hold must be followed by {@link #release}, which rebuilds the filter.
+     */
+    public void hold(Kind kind) {
+        Slot slot = slots.get(kind);
+        synchronized (slot) {
+            slot.holds++;
+            slot.current = null;
+        }
+    }
+
+    public void release(Kind kind) {
+        Slot slot = slots.get(kind);
+        synchronized (slot) {
+            slot.holds = Math.max(0, slot.holds - 1);
+        }
+        if (builder != null) {
+            builder.execute(() -> rebuild(kind));
+        }
+    }
+
+    /**
+     * Hold the filter until the current transaction completes, then rebuild it.
+     */
+    public void holdUntilCompletion(Kind kind) {
+        hold(kind);
+        TransactionCallbacks.afterCompletion(() -> release(kind));
+    }
+
+    private void rebuildAll() {
+        for (Kind kind : Kind.values()) {
+            rebuild(kind);
+        }
+    }
+
+    private void rebuild(Kind kind) {
+        Slot slot = slots.get(kind);
+        synchronized (slot) {
+            if (slot.holds > 0) {
+                return;
+            }
+        }
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + kind.table, Long.class);
+            // Headroom for growth until the next rebuild
+            BloomFilter filter = BloomFilter.create(Math.max(minCapacity, (count != null ? count : 0) * 2),
+                    falsePositiveRate);
+            slot.building = filter;
+
+            Instant started = Instant.now();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(
+                    JdbcUtils.streaming("SELECT id FROM " + kind.table),
+                    rs -> { filter.put(rs.getObject(1, UUID.class)); }));
+            // Rows whose transaction was already open when the scan took its snapshot
+            jdbcTemplate.query("SELECT id FROM " + kind.table + " WHERE created_at >= ?",
+                    rs -> { filter.put(rs.getObject(1, UUID.class)); },
+                    Timestamp.from(started.minus(catchUpWindow)));
+
+            synchronized (slot) {
+                if (slot.holds == 0) {
+                    slot.current = filter;
+                }
+            }
+            log.debug("Rebuilt {} existence filter: {} ids, {} bits, {} hashes",
+                    kind, count, filter.bitCount(), filter.hashCount());
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild {} existence filter: {}", kind, e.getMessage());
+        } finally {
+            slot.building = null;
+        }
+    }
+
+    private static final class Slot {
+        volatile BloomFilter current;
+        volatile BloomFilter building;
+        int holds;
+    }
+}
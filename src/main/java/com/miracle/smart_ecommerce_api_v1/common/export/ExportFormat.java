@@ -0,0 +1,42 @@
+package com.miracle.smart_ecommerce_api_v1.common.export;
+
+import com.miracle.smart_ecommerce_api_v1.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Streaming export formats.
+ */
+public enum ExportFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Attachment file name for an export of the given resource, e.g. products.csv
+     */
+    public String fileName(String resource) {
+        return resource + "." + extension;
+    }
+
+    public static ExportFormat from(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.miracle.smart_ecommerce_api_v1.common.export;
+
+import com.miracle.smart_ecommerce_api_v1.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps concurrent streaming exports.
+ *
+ * Each export holds a pooled connection and a database gate permit until the last row is written,
+ * which can take as long as the async request timeout. Exports beyond the cap are refused with
+ * 503 up front instead of queueing for connections that ordinary requests need.
+ */
+@Component
+public class ExportLimiter {
+
+    private final Semaphore permits;
+
+    public ExportLimiter(@Value("${app.exports.max-concurrent:2}") int maxConcurrent) {
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Take a permit now and wrap the body so it is released once streaming ends, however it ends
+     */
+    public StreamingResponseBody limit(StreamingResponseBody body) {
+        if (!permits.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many exports in progress");
+        }
+        return out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package com.miracle.smart_ecommerce_api_v1.common.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes export records straight to an output stream, one at a time.
+ * Values are passed in column order; nothing is buffered beyond the stream buffer,
+ * so memory use does not grow with the export size.
+ */
+public abstract class ExportWriter implements Closeable {
+
+    protected final List<String> columns;
+
+    protected ExportWriter(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public static ExportWriter open(OutputStream out, ExportFormat format, List<String> columns,
+                                    ObjectMapper objectMapper) {
+        try {
+            return switch (format) {
+                case NDJSON -> new NdjsonWriter(out, columns, objectMapper);
+                case CSV -> new CsvWriter(out, columns, objectMapper);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write one record. IO failures (typically a client disconnect) are rethrown unchecked,
+     * which aborts the surrounding query.
+     */
+    public void write(Object... values) {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " values but got " + values.length);
+        }
+        try {
+            writeRecord(values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected abstract void writeRecord(Object[] values) throws IOException;
+
+    private static final class NdjsonWriter extends ExportWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonWriter(OutputStream out, List<String> columns, ObjectMapper objectMapper) throws IOException {
+            super(columns);
+            this.generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        protected void writeRecord(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(columns.get(i));
+                if (values[i] instanceof RawJson raw) {
+                    generator.writeRawValue(raw.json());
+                } else {
+                    generator.writeObject(values[i]);
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static final class CsvWriter extends ExportWriter {
+
+        private final Writer writer;
+        private final ObjectMapper objectMapper;
+
+        CsvWriter(OutputStream out, List<String> columns, ObjectMapper objectMapper) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            this.objectMapper = objectMapper;
+            writeRecord(columns.toArray());
+        }
+
+        @Override
+        protected void writeRecord(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCell(values[i]);
+            }
+            writer.write('\n');
+        }
+
+        private void writeCell(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = switch (value) {
+                case RawJson raw -> raw.json();
+                case List<?> list -> objectMapper.writeValueAsString(list);
+                default -> value.toString();
+            };
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.miracle.smart_ecommerce_api_v1.common.export;
+
+/**
+ * A value that is already JSON text (e.g. a json_agg column).
+ * Embedded as-is in NDJSON and written as a single cell in CSV.
+ */
+public record RawJson(String json) {
+}
@@ -0,0 +1,43 @@
+package com.miracle.smart_ecommerce_api_v1.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset-paged response: the client passes {@code nextCursor} back to get the following page.
+ *
+ * @param <T> the type of items in the page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int pageSize;
+    private long totalElements;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Create a page from up to {@code size + 1} fetched rows; the extra row only signals a next page
+     */
+    public static <T> CursorPageResponse<T> of(List<T> fetched, int size, long totalElements,
+                                               Function<T, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .pageSize(size)
+                .totalElements(totalElements)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null)
+                .build();
+    }
+}
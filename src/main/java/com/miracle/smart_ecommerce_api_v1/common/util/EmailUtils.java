@@ -0,0 +1,21 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import java.util.Locale;
+
+/**
+ * Utility class for email addresses.
+ */
+public final class EmailUtils {
+
+    private EmailUtils() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Canonical form used for storage and lookups: trimmed and lower-cased.
+     * Matches the lower(email_address) unique index on app_user.
+     */
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,90 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.NonNull;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Base RowMapper that resolves column positions once per ResultSet.
+ *
+ * Subclasses declare their columns in a fixed order and read them by index
+ * ({@code col[NAME]}) instead of by label, which avoids the driver's per-call
+ * label lookup. A column may list alternatives as {@code "role|roles"}; a column
+ * missing from the result resolves to index 0 and reads as null through the
+ * index-based {@link JdbcUtils} helpers, so projections can share a mapper.
+ */
+public abstract class IndexedRowMapper<T> implements RowMapper<T> {
+
+    private final String[] columns;
+
+    /**
+     * Mappers are shared singletons, so the resolved positions are kept per thread. The entry is
+     * removed after the last row; the ResultSet is only weakly held in case mapping stops early.
+     */
+    private final ThreadLocal<Resolved> resolved = new ThreadLocal<>();
+
+    private record Resolved(WeakReference<ResultSet> resultSet, int[] positions) {
+    }
+
+    protected IndexedRowMapper(String... columns) {
+        this.columns = columns;
+    }
+
+    @Override
+    public final T mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+        Resolved current = resolved.get();
+        if (current == null || current.resultSet().get() != rs) {
+            current = new Resolved(new WeakReference<>(rs), resolve(rs));
+            resolved.set(current);
+        }
+        T row = mapRow(rs, current.positions());
+        if (isLast(rs)) {
+            resolved.remove();
+        }
+        return row;
+    }
+
+    /**
+     * Map the current row; {@code col[i]} is the 1-based position of the i-th declared column, or 0 if absent.
+     */
+    protected abstract T mapRow(ResultSet rs, int[] col) throws SQLException;
+
+    private static boolean isLast(ResultSet rs) throws SQLException {
+        try {
+            return rs.isLast();
+        } catch (SQLFeatureNotSupportedException e) {
+            // Left to the next ResultSet on this thread to replace
+            return false;
+        }
+    }
+
+    private int[] resolve(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int count = metaData.getColumnCount();
+        Map<String, Integer> byLabel = new HashMap<>(count * 2);
+        for (int i = count; i >= 1; i--) {
+            // iterate backwards so the first occurrence of a duplicate label wins, as with findColumn()
+            byLabel.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), i);
+        }
+
+        int[] positions = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            for (String candidate : columns[i].split("\\|")) {
+                Integer position = byLabel.get(candidate);
+                if (position != null) {
+                    positions[i] = position;
+                    break;
+                }
+            }
+        }
+        return positions;
+    }
+}
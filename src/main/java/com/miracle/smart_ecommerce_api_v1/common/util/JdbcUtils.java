@@ -1,6 +1,15 @@
 package com.miracle.smart_ecommerce_api_v1.common.util;
 
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.math.BigDecimal;
 import java.sql.Array;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
@@ -17,8 +26,14 @@ import java.util.UUID;
  * Utility class for JDBC operations.
  * Provides helper methods for extracting values from ResultSet.
  */
+@Slf4j
 public final class JdbcUtils {
 
+    /**
+     * Rows per round trip when streaming a result set through a server-side cursor
+     */
+    public static final int STREAM_FETCH_SIZE = 1000;
+
     private JdbcUtils() {
         // Utility class, prevent instantiation
     }
@@ -89,68 +104,92 @@ public final class JdbcUtils {
         return rs.wasNull() ? null : value;
     }
 
+    // ------------------------------------------------------------------------
+    // Index-based readers (see IndexedRowMapper); index 0 means "column absent"
+    // ------------------------------------------------------------------------
+
     /**
-     * Get String list from PostgreSQL JSONB array
+     * Get UUID by column position, reading the driver's native UUID without string parsing
      */
-    public static List<String> getStringListFromJsonb(ResultSet rs, String columnName) throws SQLException {
-        String json = rs.getString(columnName);
-        if (json == null || json.isEmpty() || json.equals("null")) {
-            return new ArrayList<>();
-        }
+    public static UUID getUUID(ResultSet rs, int index) throws SQLException {
+        return index == 0 ? null : rs.getObject(index, UUID.class);
+    }
+
+    public static String getString(ResultSet rs, int index) throws SQLException {
+        return index == 0 ? null : rs.getString(index);
+    }
 
-        // Simple JSON array parsing (for arrays like ["url1", "url2"])
-        // Remove brackets and split by comma
-        json = json.trim();
-        if (json.startsWith("[") && json.endsWith("]")) {
-            json = json.substring(1, json.length() - 1);
+    public static BigDecimal getBigDecimal(ResultSet rs, int index) throws SQLException {
+        return index == 0 ? null : rs.getBigDecimal(index);
+    }
+
+    public static Integer getInteger(ResultSet rs, int index) throws SQLException {
+        if (index == 0) {
+            return null;
         }
+        int value = rs.getInt(index);
+        return rs.wasNull() ? null : value;
+    }
 
-        if (json.isEmpty()) {
-            return new ArrayList<>();
+    /**
+     * Primitive int by column position; null and absent columns read as the default
+     */
+    public static int getInt(ResultSet rs, int index, int defaultValue) throws SQLException {
+        if (index == 0) {
+            return defaultValue;
         }
+        int value = rs.getInt(index);
+        return rs.wasNull() ? defaultValue : value;
+    }
 
-        List<String> result = new ArrayList<>();
-        // Split by comma, handling quoted strings
-        String[] parts = json.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)");
-        for (String part : parts) {
-            String cleaned = part.trim();
-            // Remove quotes
-            if (cleaned.startsWith("\"") && cleaned.endsWith("\"")) {
-                cleaned = cleaned.substring(1, cleaned.length() - 1);
-            }
-            if (!cleaned.isEmpty()) {
-                result.add(cleaned);
-            }
+    public static Boolean getBoolean(ResultSet rs, int index) throws SQLException {
+        if (index == 0) {
+            return null;
         }
-        return result;
+        boolean value = rs.getBoolean(index);
+        return rs.wasNull() ? null : value;
     }
 
     /**
-     * Convert String list to PostgreSQL JSONB format
+     * Get OffsetDateTime (UTC) by column position
      */
-    public static String toJsonbArray(List<String> list) {
-        if (list == null || list.isEmpty()) {
-            return "[]";
+    public static OffsetDateTime getOffsetDateTime(ResultSet rs, int index) throws SQLException {
+        if (index == 0) {
+            return null;
         }
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < list.size(); i++) {
-            if (i > 0) sb.append(",");
-            sb.append("\"").append(escapeJsonString(list.get(i))).append("\"");
+        Timestamp timestamp = rs.getTimestamp(index);
+        return timestamp != null ? timestamp.toInstant().atOffset(ZoneOffset.UTC) : null;
+    }
+
+    /**
+     * Get String list from PostgreSQL JSONB array
+     */
+    public static List<String> getStringListFromJsonb(ResultSet rs, String columnName) throws SQLException {
+        return parseJsonbStringList(rs.getString(columnName));
+    }
+
+    /**
+     * Get String list from PostgreSQL JSONB array by column position
+     */
+    public static List<String> getStringListFromJsonb(ResultSet rs, int index) throws SQLException {
+        return index == 0 ? new ArrayList<>() : parseJsonbStringList(rs.getString(index));
+    }
+
+    private static List<String> parseJsonbStringList(String json) {
+        try {
+            return JsonbArrayCodec.decode(json);
+        } catch (IllegalArgumentException e) {
+            // One bad row should not fail a whole page; the stored value is left as is
+            log.warn("Ignoring malformed JSONB array: {}", e.getMessage());
+            return new ArrayList<>();
         }
-        sb.append("]");
-        return sb.toString();
     }
 
     /**
-     * Escape special characters in JSON string
+     * Convert String list to PostgreSQL JSONB format
      */
-    private static String escapeJsonString(String str) {
-        if (str == null) return "";
-        return str.replace("\\", "\\\\")
-                  .replace("\"", "\\\"")
-                  .replace("\n", "\\n")
-                  .replace("\r", "\\r")
-                  .replace("\t", "\\t");
+    public static String toJsonbArray(List<String> list) {
+        return JsonbArrayCodec.encode(list);
     }
 
     /**
@@ -186,5 +225,40 @@ public final class JdbcUtils {
             throw new IllegalArgumentException("Page size cannot exceed 100");
         }
     }
-}
 
+    /**
+     * Whether a query returns any row. Wraps it in SELECT EXISTS, so the database stops at the
+     * first match instead of counting them all.
+     */
+    public static boolean exists(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (" + sql + ")", Boolean.class, args));
+    }
+
+    /**
+     * Statement creator for streaming reads. PostgreSQL only fetches through a cursor,
+     * instead of materialising the whole result, when a fetch size is set and autocommit
+     * is off, so callers must run inside a transaction.
+     */
+    public static PreparedStatementCreator streaming(String sql, Object... args) {
+        return con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            new ArgumentPreparedStatementSetter(args).setValues(ps);
+            return ps;
+        };
+    }
+
+    /**
+     * Name of the constraint a failed statement violated, or null when the cause is not a
+     * PostgreSQL constraint error. Lets callers tell which foreign key or unique key fired.
+     */
+    public static String violatedConstraint(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psql) {
+                ServerErrorMessage message = psql.getServerErrorMessage();
+                return message != null ? message.getConstraint() : null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,237 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-pass codec for JSONB string arrays such as {@code ["a.jpg","b.jpg"]}.
+ *
+ * Decoding scans the text once and allocates only the resulting strings; elements
+ * without escapes are taken as substrings. Handles every JSON escape including
+ * {@code \\uXXXX}. JSON nulls are skipped and other scalars are kept as their literal text.
+ * Nested arrays and objects are skipped whole, as the old regex split tolerated them.
+ */
+public final class JsonbArrayCodec {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonbArrayCodec() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Decode a JSON array of strings. Null, blank or {@code null} input decodes to an empty list.
+     *
+     * @throws IllegalArgumentException if the text is not a JSON array of scalars
+     */
+    public static List<String> decode(String json) {
+        List<String> result = new ArrayList<>();
+        if (json == null) {
+            return result;
+        }
+        int length = json.length();
+        int pos = skipWhitespace(json, 0);
+        if (pos == length) {
+            return result;
+        }
+        if (json.startsWith("null", pos)) {
+            // Only a lone null token, as jsonb returns for a JSON null
+            if (skipWhitespace(json, pos + 4) != length) {
+                throw malformed(json, pos + 4, "unexpected text after null");
+            }
+            return result;
+        }
+        if (json.charAt(pos) != '[') {
+            throw malformed(json, pos, "expected '['");
+        }
+        pos = skipWhitespace(json, pos + 1);
+        if (pos < length && json.charAt(pos) == ']') {
+            return result;
+        }
+
+        while (pos < length) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                pos = readString(json, pos + 1, result);
+            } else if (c == '[' || c == '{') {
+                pos = skipNested(json, pos);
+            } else {
+                int start = pos;
+                while (pos < length && json.charAt(pos) != ',' && json.charAt(pos) != ']'
+                        && !Character.isWhitespace(json.charAt(pos))) {
+                    pos++;
+                }
+                if (start == pos) {
+                    throw malformed(json, pos, "expected a value");
+                }
+                String literal = json.substring(start, pos);
+                if (!"null".equals(literal)) {
+                    result.add(literal);
+                }
+            }
+
+            pos = skipWhitespace(json, pos);
+            if (pos == length) {
+                break;
+            }
+            c = json.charAt(pos);
+            if (c == ']') {
+                return result;
+            }
+            if (c != ',') {
+                throw malformed(json, pos, "expected ',' or ']'");
+            }
+            pos = skipWhitespace(json, pos + 1);
+        }
+        throw malformed(json, length, "unterminated array");
+    }
+
+    /**
+     * Encode strings as a JSON array; null or empty input encodes to {@code []}, null elements to JSON null.
+     */
+    public static String encode(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "[]";
+        }
+        int capacity = 2;
+        for (String value : values) {
+            capacity += (value != null ? value.length() : 4) + 3;
+        }
+        StringBuilder sb = new StringBuilder(capacity);
+        sb.append('[');
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String value = values.get(i);
+            if (value == null) {
+                sb.append("null");
+            } else {
+                appendQuoted(sb, value);
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Read a string body starting after the opening quote; returns the position after the closing quote.
+     */
+    private static int readString(String json, int start, List<String> out) {
+        int length = json.length();
+        int pos = start;
+        // Fast path: no escapes, take a substring
+        while (pos < length) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                out.add(json.substring(start, pos));
+                return pos + 1;
+            }
+            if (c == '\\') {
+                break;
+            }
+            pos++;
+        }
+
+        StringBuilder sb = new StringBuilder(pos - start + 16);
+        sb.append(json, start, pos);
+        while (pos < length) {
+            char c = json.charAt(pos++);
+            if (c == '"') {
+                out.add(sb.toString());
+                return pos;
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos == length) {
+                break;
+            }
+            char escaped = json.charAt(pos++);
+            switch (escaped) {
+                case '"', '\\', '/' -> sb.append(escaped);
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (pos + 4 > length) {
+                        throw malformed(json, pos, "truncated unicode escape");
+                    }
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(json.charAt(pos + i), 16);
+                        if (digit < 0) {
+                            throw malformed(json, pos + i, "invalid unicode escape");
+                        }
+                        code = (code << 4) | digit;
+                    }
+                    sb.append((char) code);
+                    pos += 4;
+                }
+                default -> throw malformed(json, pos - 1, "invalid escape '\\" + escaped + "'");
+            }
+        }
+        throw malformed(json, length, "unterminated string");
+    }
+
+    /**
+     * Skip a nested array or object starting at its opening bracket; returns the position after it.
+     */
+    private static int skipNested(String json, int start) {
+        int length = json.length();
+        int depth = 0;
+        int pos = start;
+        while (pos < length) {
+            char c = json.charAt(pos++);
+            if (c == '"') {
+                // Brackets inside strings do not count
+                while (pos < length && json.charAt(pos) != '"') {
+                    pos += json.charAt(pos) == '\\' ? 2 : 1;
+                }
+                pos++;
+            } else if (c == '[' || c == '{') {
+                depth++;
+            } else if ((c == ']' || c == '}') && --depth == 0) {
+                return pos;
+            }
+        }
+        throw malformed(json, length, "unterminated nested value");
+    }
+
+    private static void appendQuoted(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                case '\b' -> sb.append("\\b");
+                case '\f' -> sb.append("\\f");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static int skipWhitespace(String json, int pos) {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static IllegalArgumentException malformed(String json, int pos, String reason) {
+        return new IllegalArgumentException("Malformed JSON array at position " + pos + ": " + reason);
+    }
+}
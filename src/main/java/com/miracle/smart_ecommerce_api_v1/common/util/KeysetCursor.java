@@ -0,0 +1,40 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import com.miracle.smart_ecommerce_api_v1.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a feed ordered by {@code (created_at DESC, id DESC)}.
+ * Encoded as an opaque URL-safe token; the timestamp keeps Postgres' microsecond precision.
+ */
+public record KeysetCursor(OffsetDateTime createdAt, UUID id) {
+
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(Instant.EPOCH, createdAt.toInstant());
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((micros + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a client-supplied cursor; null or blank means the first page
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 2);
+            Instant createdAt = Instant.EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS);
+            return new KeysetCursor(createdAt.atOffset(ZoneOffset.UTC), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
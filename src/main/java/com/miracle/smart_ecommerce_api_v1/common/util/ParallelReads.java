@@ -0,0 +1,150 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import com.miracle.smart_ecommerce_api_v1.config.ReplicaRoutingDataSource;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent read legs of a composite service call in parallel on virtual threads.
+ *
+ * - Each leg borrows its own connection, so total latency is the slowest leg, not the sum.
+ * - The first failing leg cancels (interrupts) the others and its exception is rethrown as is.
+ * - Each leg runs in its own read-only transaction, so it is eligible for a read replica
+ *   exactly like a {@code @Transactional(readOnly = true)} service method would be.
+ * - MDC (correlation id, user id), the request identity map and the request's primary pin
+ *   (read-your-writes, see {@link ReplicaRoutingDataSource}) are carried into every leg.
+ * - Inside an active transaction the legs run inline on the caller's thread, because other
+ *   threads would not see the transaction's uncommitted writes or share its connection.
+ */
+@Component
+public class ParallelReads {
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("parallel-read-", 0).factory());
+
+    private final TransactionTemplate readOnly;
+
+    public ParallelReads(PlatformTransactionManager transactionManager) {
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+    }
+
+    /**
+     * Result of two parallel legs
+     */
+    public record Both<A, B>(A first, B second) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public <A, B> Both<A, B> both(Supplier<A> first, Supplier<B> second) {
+        List<Object> results = all(Arrays.asList((Supplier<Object>) first, (Supplier<Object>) second));
+        return new Both<>((A) results.get(0), (B) results.get(1));
+    }
+
+    /**
+     * Run all legs and return their results in the order given.
+     */
+    public <T> List<T> all(List<? extends Supplier<? extends T>> legs) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            List<T> results = new ArrayList<>(legs.size());
+            for (Supplier<? extends T> leg : legs) {
+                results.add(leg.get());
+            }
+            return results;
+        }
+        if (legs.size() < 2) {
+            List<T> results = new ArrayList<>(legs.size());
+            for (Supplier<? extends T> leg : legs) {
+                results.add(readOnly.execute(status -> leg.get()));
+            }
+            return results;
+        }
+
+        boolean pinned = ReplicaRoutingDataSource.isPinned();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        Map<RequestIdentityMap.Key, Optional<?>> identityMap = RequestIdentityMap.current();
+        Object[] results = new Object[legs.size()];
+        CompletionService<Void> completion = new ExecutorCompletionService<>(EXECUTOR);
+        List<Future<Void>> futures = new ArrayList<>(legs.size());
+        try {
+            for (int i = 0; i < legs.size(); i++) {
+                int index = i;
+                Supplier<? extends T> leg = legs.get(i);
+                futures.add(completion.submit(() -> {
+                    runWithContext(mdc, identityMap, pinned,
+                            () -> results[index] = readOnly.execute(status -> leg.get()));
+                    return null;
+                }));
+            }
+            for (int i = 0; i < legs.size(); i++) {
+                completion.take().get();
+            }
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for parallel reads");
+        }
+
+        List<T> list = new ArrayList<>(results.length);
+        for (Object result : results) {
+            @SuppressWarnings("unchecked")
+            T value = (T) result;
+            list.add(value);
+        }
+        return list;
+    }
+
+    private static void runWithContext(Map<String, String> mdc, Map<RequestIdentityMap.Key, Optional<?>> identityMap,
+                                       boolean pinned, Runnable task) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        RequestIdentityMap.bind(identityMap);
+        if (pinned) {
+            ReplicaRoutingDataSource.pin();
+        }
+        try {
+            task.run();
+        } finally {
+            ReplicaRoutingDataSource.clearPin();
+            RequestIdentityMap.bind(null);
+            MDC.clear();
+        }
+    }
+
+    private static void cancelAll(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,125 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Request-scoped identity map (first-level cache) for entity lookups by id.
+ *
+ * Bound to the current thread for the duration of an HTTP request by
+ * {@code RequestIdentityMapFilter}; outside a request every call goes straight to the loader.
+ * Repositories evict an entity when they write it, so a request always sees its own writes,
+ * and nothing outlives the request, so there are no stale reads across requests.
+ *
+ * The map keeps its own copy of each entity and hands every caller a fresh copy, so a caller
+ * that mutates its entity (and then fails validation) cannot leak the change to later lookups.
+ * Entries loaded inside a read-write transaction are dropped if that transaction rolls back.
+ */
+public final class RequestIdentityMap {
+
+    private static final ThreadLocal<Map<Key, Optional<?>>> CURRENT = new ThreadLocal<>();
+
+    private RequestIdentityMap() {
+        // Utility class, prevent instantiation
+    }
+
+    public record Key(Class<?> type, Object id) {
+    }
+
+    /**
+     * Bind a fresh identity map to the current thread.
+     */
+    public static void open() {
+        CURRENT.set(new ConcurrentHashMap<>());
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * The map bound to the current thread, or null outside a request.
+     * Used to share the request's map with worker threads (see {@link ParallelReads}).
+     */
+    public static Map<Key, Optional<?>> current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind an existing map (from {@link #current()}) to the current thread; null unbinds.
+     */
+    public static void bind(Map<Key, Optional<?>> map) {
+        if (map == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(map);
+        }
+    }
+
+    /**
+     * Return the entity for the id from the map, loading and remembering it on the first call.
+     * Misses (empty results) are remembered too. {@code copy} must return an independent copy
+     * of the entity; the map stores one and returns another on every hit.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<T> find(Class<T> type, Object id, Supplier<Optional<T>> loader, UnaryOperator<T> copy) {
+        Map<Key, Optional<?>> map = CURRENT.get();
+        if (map == null || id == null) {
+            return loader.get();
+        }
+        Key key = new Key(type, id);
+        Optional<?> cached = map.get(key);
+        if (cached != null) {
+            return ((Optional<T>) cached).map(copy);
+        }
+        Optional<T> loaded = loader.get();
+        map.put(key, loaded.map(copy));
+        evictOnRollback(map, key);
+        return loaded;
+    }
+
+    /**
+     * A row read inside a read-write transaction may include that transaction's own writes,
+     * which are gone again if it rolls back.
+     */
+    private static void evictOnRollback(Map<Key, Optional<?>> map, Key key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    map.remove(key);
+                }
+            }
+        });
+    }
+
+    /**
+     * Forget an entity after it has been written.
+     */
+    public static void evict(Class<?> type, Object id) {
+        Map<Key, Optional<?>> map = CURRENT.get();
+        if (map != null && id != null) {
+            map.remove(new Key(type, id));
+        }
+    }
+
+    /**
+     * Forget all entities of a type, e.g. after a bulk write.
+     */
+    public static void evictAll(Class<?> type) {
+        Map<Key, Optional<?>> map = CURRENT.get();
+        if (map != null) {
+            map.keySet().removeIf(key -> key.type() == type);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utility class for deferring work to the end of the current transaction.
+ * Outside a transaction (no synchronization active) the work runs immediately.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Run once the current transaction commits; skipped if it rolls back.
+     * For cache evictions that must not let a racing read re-cache the old rows.
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Run once the current transaction ends, whether it commits or rolls back.
+     * For releasing something held for the duration of the transaction.
+     */
+    public static void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
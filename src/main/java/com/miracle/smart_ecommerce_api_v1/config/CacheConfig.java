@@ -26,7 +26,6 @@ public class CacheConfig {
     // Cache names - one per entity type
     public static final String USERS_CACHE = "users";
     public static final String PRODUCTS_CACHE = "products";
-    public static final String CATEGORIES_CACHE = "categories";
     public static final String ORDERS_CACHE = "orders";
     public static final String ADDRESSES_CACHE = "addresses";
     public static final String CART_CACHE = "cart";
@@ -40,7 +39,6 @@ public class CacheConfig {
         cacheManager.setCaches(Arrays.asList(
             buildEntityCache(USERS_CACHE),
             buildEntityCache(PRODUCTS_CACHE),
-            buildEntityCache(CATEGORIES_CACHE),
             buildEntityCache(ORDERS_CACHE),
             buildEntityCache(ADDRESSES_CACHE),
             buildEntityCache(CART_CACHE),
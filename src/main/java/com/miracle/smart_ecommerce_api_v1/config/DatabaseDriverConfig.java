@@ -0,0 +1,129 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.Driver;
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.core.BaseConnection;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+/**
+ * Applies {@link DriverTuningProperties} to the Hikari pools and reports the effective
+ * driver settings once at startup, as read back from a connection and the driver's own URL parsing.
+ */
+@Slf4j
+@Configuration
+public class DatabaseDriverConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseDriverPostProcessor() {
+        return new DriverTuningPostProcessor();
+    }
+
+    /**
+     * Logs what a pooled connection actually runs with, so a typo in the URL or an
+     * overriding data-source property shows up at startup instead of in latency graphs.
+     */
+    @Bean
+    public ApplicationRunner driverSettingsReport(DataSource dataSource, Environment environment) {
+        DriverTuningProperties properties = bindProperties(environment);
+        return args -> {
+            try (Connection con = dataSource.getConnection()) {
+                PGConnection pg = con.unwrap(PGConnection.class);
+                boolean rewrite = con.isWrapperFor(BaseConnection.class)
+                        && con.unwrap(BaseConnection.class).getQueryExecutor().isReWriteBatchedInsertsEnabled();
+                String planCacheMode;
+                try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery("SHOW plan_cache_mode")) {
+                    planCacheMode = rs.next() ? rs.getString(1) : "unknown";
+                }
+                Properties effective = effectiveDriverProperties(dataSource);
+                Integer cacheQueries = effective != null ? PGProperty.PREPARED_STATEMENT_CACHE_QUERIES.getInt(effective) : null;
+                Integer cacheSizeMiB = effective != null ? PGProperty.PREPARED_STATEMENT_CACHE_SIZE_MIB.getInt(effective) : null;
+                log.info("pgjdbc settings: prepareThreshold={}, defaultRowFetchSize={}, reWriteBatchedInserts={}, "
+                                + "preparedStatementCacheQueries={}, preparedStatementCacheSizeMiB={}, plan_cache_mode={}",
+                        pg.getPrepareThreshold(), pg.getDefaultFetchSize(), rewrite,
+                        cacheQueries != null ? cacheQueries : "unknown", cacheSizeMiB != null ? cacheSizeMiB : "unknown",
+                        planCacheMode);
+                if (properties.isEnabled() && (pg.getPrepareThreshold() != properties.getPrepareThreshold()
+                        || rewrite != properties.isReWriteBatchedInserts()
+                        || (cacheQueries != null && cacheQueries != properties.getPreparedStatementCacheQueries())
+                        || (cacheSizeMiB != null && cacheSizeMiB != properties.getPreparedStatementCacheSizeMiB()))) {
+                    log.warn("pgjdbc settings differ from {}.*; check spring.datasource.url and hikari data-source-properties",
+                            DriverTuningProperties.PREFIX);
+                }
+            } catch (SQLException e) {
+                log.warn("Could not verify pgjdbc settings: {}", e.getMessage());
+            }
+        };
+    }
+
+    /**
+     * The connection does not expose its statement cache limits, so resolve them the way the driver
+     * does: the pool's URL parameters over its data-source properties. Null if the pool is not Hikari
+     * or the URL is not a PostgreSQL one.
+     */
+    private static Properties effectiveDriverProperties(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            return null;
+        }
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        // Hikari hands the driver every data-source property as a string
+        Properties defaults = new Properties();
+        pool.getDataSourceProperties().forEach((key, value) -> defaults.setProperty(key.toString(), value.toString()));
+        return pool.getJdbcUrl() != null ? Driver.parseURL(pool.getJdbcUrl(), defaults) : null;
+    }
+
+    static class DriverTuningPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+        private DriverTuningProperties properties = new DriverTuningProperties();
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.properties = bindProperties(environment);
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+            // Before initialization: the pool must not have opened a connection yet
+            if (bean instanceof HikariDataSource pool) {
+                apply(pool, properties);
+            }
+            return bean;
+        }
+    }
+
+    /**
+     * Push the driver settings into a pool that has not started yet; also used for replica pools.
+     */
+    static void apply(HikariDataSource pool, DriverTuningProperties properties) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        pool.addDataSourceProperty("prepareThreshold", properties.getPrepareThreshold());
+        pool.addDataSourceProperty("preparedStatementCacheQueries", properties.getPreparedStatementCacheQueries());
+        pool.addDataSourceProperty("preparedStatementCacheSizeMiB", properties.getPreparedStatementCacheSizeMiB());
+        pool.addDataSourceProperty("reWriteBatchedInserts", properties.isReWriteBatchedInserts());
+        pool.addDataSourceProperty("defaultRowFetchSize", properties.getDefaultRowFetchSize());
+    }
+
+    static DriverTuningProperties bindProperties(Environment environment) {
+        return Binder.get(environment)
+                .bind(DriverTuningProperties.PREFIX, DriverTuningProperties.class)
+                .orElseGet(DriverTuningProperties::new);
+    }
+}
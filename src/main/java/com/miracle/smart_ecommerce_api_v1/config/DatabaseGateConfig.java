@@ -0,0 +1,71 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Places a {@link GatedDataSource} in front of the pooled DataSource.
+ *
+ * Intended for the virtual-thread execution mode ({@code spring.threads.virtual.enabled}),
+ * where request concurrency is no longer bounded by the Tomcat thread pool and the
+ * connection pool becomes the only real limiter.
+ */
+@Slf4j
+@Configuration
+public class DatabaseGateConfig {
+
+    @Bean
+    public static BeanPostProcessor databaseGatePostProcessor() {
+        return new DatabaseGatePostProcessor();
+    }
+
+    static class DatabaseGatePostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+        private DatabaseGateProperties properties = new DatabaseGateProperties();
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.properties = bindProperties(environment);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            // Only physical pools are gated; proxies and routers sit in front of pools that already are
+            if (!properties.isEnabled() || !(bean instanceof DataSource dataSource)
+                    || bean instanceof DelegatingDataSource || bean instanceof AbstractRoutingDataSource) {
+                return bean;
+            }
+            return gate(dataSource, beanName, properties);
+        }
+    }
+
+    /**
+     * Wrap a pool in a {@link GatedDataSource}; also used for pools that are not beans (read replicas).
+     */
+    static GatedDataSource gate(DataSource dataSource, String name, DatabaseGateProperties properties) {
+        int permits = properties.getPermits();
+        if (permits <= 0) {
+            permits = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+        }
+        log.info("Gating DataSource '{}' with {} fair permits (acquire timeout {})",
+                name, permits, properties.getAcquireTimeout());
+        return new GatedDataSource(dataSource, permits, properties.getAcquireTimeout());
+    }
+
+    static DatabaseGateProperties bindProperties(Environment environment) {
+        return Binder.get(environment)
+                .bind(DatabaseGateProperties.PREFIX, DatabaseGateProperties.class)
+                .orElseGet(DatabaseGateProperties::new);
+    }
+}
@@ -0,0 +1,24 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Settings for the DB concurrency gate placed in front of the DataSource.
+ * Bound from {@code app.datasource.gate.*}.
+ */
+@Data
+public class DatabaseGateProperties {
+
+    public static final String PREFIX = "app.datasource.gate";
+
+    /** Whether connection acquisition is gated by a fair semaphore */
+    private boolean enabled = true;
+
+    /** Concurrent connection holders allowed; 0 means the Hikari maximum pool size */
+    private int permits = 0;
+
+    /** How long a caller waits for a permit before failing */
+    private Duration acquireTimeout = Duration.ofSeconds(20);
+}
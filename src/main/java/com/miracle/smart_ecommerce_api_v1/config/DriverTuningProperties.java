@@ -0,0 +1,34 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import lombok.Data;
+
+/**
+ * pgjdbc settings applied to every Hikari pool.
+ * Bound from {@code app.datasource.driver.*}.
+ *
+ * Server-side prepared statements are per connection; behind a transaction-pooling
+ * PgBouncer set {@code prepare-threshold: 0}.
+ */
+@Data
+public class DriverTuningProperties {
+
+    public static final String PREFIX = "app.datasource.driver";
+
+    /** Whether the settings below are pushed to the driver; false leaves pgjdbc defaults */
+    private boolean enabled = true;
+
+    /** Executions of a statement before it is prepared server-side (pgjdbc default 5; 0 disables) */
+    private int prepareThreshold = 3;
+
+    /** Per-connection cache of parsed statements, by count (pgjdbc default 256) */
+    private int preparedStatementCacheQueries = 512;
+
+    /** Per-connection cache of parsed statements, by size (pgjdbc default 5) */
+    private int preparedStatementCacheSizeMiB = 10;
+
+    /** Rewrite batched INSERTs into multi-row INSERTs */
+    private boolean reWriteBatchedInserts = true;
+
+    /** Default rows per fetch for statements without their own fetch size; 0 reads the whole result */
+    private int defaultRowFetchSize = 0;
+}
@@ -1,8 +1,14 @@
 package com.miracle.smart_ecommerce_api_v1.config;
 
+import com.miracle.smart_ecommerce_api_v1.graphql.persisted.PersistedQueryDocumentCache;
+import com.miracle.smart_ecommerce_api_v1.graphql.persisted.PersistedQueryDocumentProvider;
+import com.miracle.smart_ecommerce_api_v1.graphql.persisted.PersistedQueryProperties;
+import com.miracle.smart_ecommerce_api_v1.graphql.persisted.PersistedQueryRegistry;
 import graphql.scalars.ExtendedScalars;
 import graphql.schema.GraphQLScalarType;
 import org.springframework.boot.autoconfigure.graphql.GraphQlProperties;
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -14,9 +20,10 @@ import org.springframework.web.servlet.function.ServerResponse;
 
 /**
  * GraphQL Configuration
- * Registers custom scalar types for GraphQL schema
+ * Registers custom scalar types for GraphQL schema and the persisted query support
  */
 @Configuration
+@EnableConfigurationProperties(PersistedQueryProperties.class)
 public class GraphQLConfig {
 
     @Bean
@@ -39,5 +46,25 @@ public class GraphQLConfig {
                 .scalar(bigDecimalScalar)
                 .build();
     }
-}
 
+    @Bean
+    public PersistedQueryRegistry persistedQueryRegistry(PersistedQueryProperties properties) {
+        return PersistedQueryRegistry.load(properties.getLocation());
+    }
+
+    @Bean
+    public PersistedQueryDocumentCache persistedQueryDocumentCache(PersistedQueryRegistry registry,
+                                                                   PersistedQueryProperties properties) {
+        return new PersistedQueryDocumentCache(registry, properties.getCacheSize(), properties.isAllowUnregistered());
+    }
+
+    /**
+     * Serve parsed and validated documents from the persisted query cache,
+     * so parse/validate only run on the first request for a given document.
+     */
+    @Bean
+    public GraphQlSourceBuilderCustomizer persistedQueryCustomizer(PersistedQueryDocumentCache documentCache) {
+        PersistedQueryDocumentProvider provider = new PersistedQueryDocumentProvider(documentCache);
+        return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(provider));
+    }
+}
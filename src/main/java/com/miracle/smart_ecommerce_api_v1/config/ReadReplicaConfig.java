@@ -0,0 +1,110 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.Filter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Primary/replica DataSource wiring, active when {@code app.datasource.replicas.enabled=true}.
+ *
+ * Replaces Boot's single pooled DataSource: the primary and every replica get their own
+ * Hikari pool (configured from {@code spring.datasource.hikari}) and DB gate, and the
+ * application-wide DataSource becomes a lazy proxy over {@link ReplicaRoutingDataSource}.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = ReadReplicaProperties.PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                             ReadReplicaProperties replicaProperties,
+                                                             Environment environment) {
+        DatabaseGateProperties gate = DatabaseGateConfig.bindProperties(environment);
+
+        HikariDataSource primaryPool = pool(environment, "primary", dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(), 0);
+        primaryPool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        int index = 0;
+        for (ReadReplicaProperties.Node node : replicaProperties.getNodes()) {
+            String name = node.getName() != null ? node.getName() : "replica-" + index;
+            index++;
+            HikariDataSource replicaPool = pool(environment, name, node.getUrl(),
+                    node.getUsername() != null ? node.getUsername() : dataSourceProperties.determineUsername(),
+                    node.getPassword() != null ? node.getPassword() : dataSourceProperties.determinePassword(),
+                    node.getMaximumPoolSize());
+            replicaPool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replicaPool.setReadOnly(true);
+            replicas.put(name, gate.isEnabled() ? DatabaseGateConfig.gate(replicaPool, name, gate) : replicaPool);
+        }
+
+        DataSource primary = gate.isEnabled() ? DatabaseGateConfig.gate(primaryPool, "primary", gate) : primaryPool;
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, replicaProperties.getMaxLag());
+        if (!replicas.isEmpty()) {
+            routing.startHealthChecks(replicaProperties.getHealthCheckInterval());
+        }
+        log.info("Routing read-only transactions across {} replica(s): {}", replicas.size(), replicas.keySet());
+        return routing;
+    }
+
+    /**
+     * The DataSource everything else uses. The lazy proxy defers the physical connection
+     * (and so the routing decision) until the first statement, when the transaction's
+     * read-only flag is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Clears the read-your-writes pin at the end of every request.
+     */
+    @Bean
+    public FilterRegistrationBean<Filter> replicaPinFilter() {
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>((request, response, chain) -> {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                ReplicaRoutingDataSource.clearPin();
+            }
+        });
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static HikariDataSource pool(Environment environment, String name, String url,
+                                         String username, String password, int maximumPoolSize) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(pool.getPoolName() != null ? pool.getPoolName() + "-" + name : name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        if (maximumPoolSize > 0) {
+            pool.setMaximumPoolSize(maximumPoolSize);
+        }
+        DatabaseDriverConfig.apply(pool, DatabaseDriverConfig.bindProperties(environment));
+        return pool;
+    }
+}
@@ -0,0 +1,47 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas that serve {@code @Transactional(readOnly = true)} work.
+ * Pool settings are inherited from {@code spring.datasource.hikari}.
+ */
+@Data
+@ConfigurationProperties(prefix = ReadReplicaProperties.PREFIX)
+public class ReadReplicaProperties {
+
+    public static final String PREFIX = "app.datasource.replicas";
+
+    /** Route read-only transactions to replicas; when false the primary serves everything */
+    private boolean enabled = false;
+
+    /** How often each replica is probed for reachability and replay lag */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /** Replicas lagging further behind than this are taken out of rotation */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Data
+    public static class Node {
+
+        private String name;
+
+        private String url;
+
+        /** Defaults to spring.datasource.username */
+        private String username;
+
+        /** Defaults to spring.datasource.password */
+        private String password;
+
+        /** 0 means the primary's maximum pool size */
+        private int maximumPoolSize = 0;
+    }
+}
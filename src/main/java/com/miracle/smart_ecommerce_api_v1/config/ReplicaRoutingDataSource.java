@@ -0,0 +1,242 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes read-only transactions to healthy replicas (round robin) and everything else to the primary.
+ *
+ * The routing key is read when a connection is first used, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}; otherwise the
+ * transaction manager fetches the connection before the read-only flag is bound.
+ *
+ * Once a request has run a read-write transaction it is pinned to the primary, so it reads
+ * its own writes regardless of replica lag. The pin is cleared by {@link #clearPin()} at the
+ * end of the request.
+ *
+ * Both the pin and the read-only flag are thread-local. Work handed to another thread sees
+ * neither: with no transaction of its own it goes to the primary, and a read-only transaction
+ * opened there could reach a replica despite the request's pin. {@code ParallelReads} handles
+ * this for its legs (own read-only transaction, pin carried over); any other fan-out must do
+ * the same or accept primary-only, unpinned semantics.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    // SQL-level lag: zero when everything received has been replayed, NULL on a non-replica
+    private static final String LAG_SQL = """
+            SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                        ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END
+            """;
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final Pool primary;
+    private final List<Pool> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Duration maxLag;
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag) {
+        this.primary = new Pool(PRIMARY, primary);
+        this.maxLag = maxLag;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            this.replicas.add(new Pool(name, dataSource));
+            targets.put(name, dataSource);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Pin the current request to the primary.
+     */
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clearPin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Pool pool = route();
+        pool.routed.increment();
+        return pool.name;
+    }
+
+    private Pool route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                pin();
+            }
+            return primary;
+        }
+        if (PINNED.get() != null) {
+            primary.pinnedReads.increment();
+            return primary;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Pool replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        // No healthy replica: the primary takes the read rather than failing it
+        primary.fallbackReads.increment();
+        return primary;
+    }
+
+    /**
+     * Probe the replicas on a fixed schedule.
+     */
+    public void startHealthChecks(Duration interval) {
+        healthChecker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health").daemon().factory());
+        healthChecker.scheduleWithFixedDelay(this::checkHealth,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Probe every replica once; unreachable or lagging replicas leave the rotation until they recover.
+     */
+    public void checkHealth() {
+        for (Pool replica : replicas) {
+            boolean healthy;
+            try (Connection con = replica.dataSource.getConnection();
+                 Statement st = con.createStatement()) {
+                st.setQueryTimeout((int) Math.max(1, maxLag.toSeconds()));
+                try (ResultSet rs = st.executeQuery(LAG_SQL)) {
+                    rs.next();
+                    double lag = rs.getDouble(1);
+                    replica.lagSeconds = rs.wasNull() ? 0 : lag;
+                }
+                healthy = replica.lagSeconds <= maxLag.toSeconds();
+                replica.lastError = healthy ? null : "replay lag " + Math.round(replica.lagSeconds) + "s";
+            } catch (SQLException | RuntimeException e) {
+                healthy = false;
+                replica.lastError = e.getMessage();
+            }
+
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("Replica '{}' is back in rotation", replica.name);
+                } else {
+                    log.warn("Replica '{}' taken out of rotation: {}", replica.name, replica.lastError);
+                }
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    /**
+     * Routing and pool counters for each target, primary first.
+     */
+    public List<PoolStats> getStats() {
+        List<PoolStats> stats = new ArrayList<>(replicas.size() + 1);
+        stats.add(primary.stats("primary"));
+        for (Pool replica : replicas) {
+            stats.add(replica.stats("replica"));
+        }
+        return stats;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        // The pools are not beans of their own, so nothing else closes them
+        for (Pool pool : replicas) {
+            close(pool.dataSource);
+        }
+        close(primary.dataSource);
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    public record PoolStats(
+            String name,
+            String role,
+            boolean healthy,
+            long routedConnections,
+            long pinnedReads,
+            long fallbackReads,
+            Double lagSeconds,
+            String lastError,
+            Integer activeConnections,
+            Integer idleConnections,
+            Integer threadsAwaitingConnection) {
+    }
+
+    private static final class Pool {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final LongAdder routed = new LongAdder();
+        private final LongAdder pinnedReads = new LongAdder();
+        private final LongAdder fallbackReads = new LongAdder();
+        private volatile boolean healthy = true;
+        private volatile double lagSeconds;
+        private volatile String lastError;
+
+        Pool(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        PoolStats stats(String role) {
+            HikariPoolMXBean pool = null;
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                }
+            } catch (SQLException e) {
+                // stats are best effort
+            }
+            boolean replica = !PRIMARY.equals(name);
+            return new PoolStats(name, role, healthy, routed.sum(), pinnedReads.sum(), fallbackReads.sum(),
+                    replica ? lagSeconds : null, lastError,
+                    pool != null ? pool.getActiveConnections() : null,
+                    pool != null ? pool.getIdleConnections() : null,
+                    pool != null ? pool.getThreadsAwaitingConnection() : null);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.RequestIdentityMap;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * Binds a {@link RequestIdentityMap} for the duration of each request.
+ * Runs first so the auth filter and the services share the same map.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdentityMapFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        RequestIdentityMap.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestIdentityMap.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Per-endpoint multipart size limits.
+ *
+ * The servlet container applies one multipart limit to the whole dispatcher, so
+ * {@code spring.servlet.multipart} is set to the largest upload any endpoint accepts (the product
+ * import). This filter holds every other path to {@code app.uploads.max-request-size}, rejecting by
+ * Content-Length before the body is read; multipart requests without one are refused there too.
+ */
+@Component
+public class UploadLimitFilter extends OncePerRequestFilter {
+
+    private static final String IMPORT_PATH = "/api/products/import";
+
+    private final long defaultLimit;
+    private final long importLimit;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public UploadLimitFilter(@Value("${app.uploads.max-request-size:10MB}") DataSize defaultLimit,
+                             @Value("${app.products.import.max-upload-size:512MB}") DataSize importLimit,
+                             @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        this.defaultLimit = defaultLimit.toBytes();
+        this.importLimit = importLimit.toBytes();
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.toLowerCase().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
+            boolean isImport = request.getRequestURI().startsWith(IMPORT_PATH);
+            long limit = isImport ? importLimit : defaultLimit;
+            long length = request.getContentLengthLong();
+            // The container still enforces the import limit on chunked uploads
+            if (length > limit || (length < 0 && !isImport)) {
+                exceptionResolver.resolveException(request, response, null, new MaxUploadSizeExceededException(limit));
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
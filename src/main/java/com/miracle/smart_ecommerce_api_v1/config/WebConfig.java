@@ -26,6 +26,13 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true)
                 .maxAge(3600);
+
+        // Persisted GraphQL queries over GET
+        registry.addMapping("/graphql/persisted/**")
+                .allowedOrigins("http://localhost:3000", "http://localhost:4200", "http://localhost:5173")
+                .allowedMethods("GET", "OPTIONS")
+                .allowedHeaders("*")
+                .allowCredentials(true)
+                .maxAge(3600);
     }
 }
-
@@ -3,8 +3,11 @@ package com.miracle.smart_ecommerce_api_v1.controller;
 import java.time.OffsetDateTime;
 
 import com.miracle.smart_ecommerce_api_v1.common.response.ApiResponse;
+import com.miracle.smart_ecommerce_api_v1.config.ReplicaRoutingDataSource;
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.PasswordHasher;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -22,6 +25,14 @@ import java.util.Map;
 @Tag(name = "Home", description = "Home and health check APIs")
 public class HomeController {
 
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final PasswordHasher passwordHasher;
+
+    public HomeController(ObjectProvider<ReplicaRoutingDataSource> replicaRouting, PasswordHasher passwordHasher) {
+        this.replicaRouting = replicaRouting;
+        this.passwordHasher = passwordHasher;
+    }
+
     @GetMapping
     @Operation(summary = "Home", description = "Returns welcome message and API info")
     public ResponseEntity<ApiResponse<Map<String, Object>>> home() {
@@ -51,5 +62,22 @@ public class HomeController {
         health.put("timestamp", OffsetDateTime.now());
         return ResponseEntity.ok(ApiResponse.success(health));
     }
-}
 
+    @GetMapping("/health/datasources")
+    @Operation(summary = "DataSource routing stats", description = "Per-pool health, lag and routing counters when read replicas are enabled")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> dataSources() {
+        Map<String, Object> info = new HashMap<>();
+        ReplicaRoutingDataSource routing = replicaRouting.getIfAvailable();
+        info.put("replicasEnabled", routing != null);
+        if (routing != null) {
+            info.put("pools", routing.getStats());
+        }
+        return ResponseEntity.ok(ApiResponse.success(info));
+    }
+
+    @GetMapping("/health/password-hashing")
+    @Operation(summary = "Password hashing stats", description = "Hashing pool occupancy, rejections, hash latency and queue wait")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> passwordHashing() {
+        return ResponseEntity.ok(ApiResponse.success(passwordHasher.getStats()));
+    }
+}
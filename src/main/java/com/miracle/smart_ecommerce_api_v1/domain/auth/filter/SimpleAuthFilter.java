@@ -1,12 +1,14 @@
 package com.miracle.smart_ecommerce_api_v1.domain.auth.filter;
 
-import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepository;
-import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.AdminAccess;
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.PrincipalCache;
 import org.slf4j.MDC;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -20,16 +22,28 @@ import java.util.UUID;
  * Simple filter that reads X-User-Id header (if provided) and places userId and role into MDC
  * so downstream components can access the authenticated user. This is intentionally simple
  * and does not replace a real security framework.
+ * The principal is resolved through {@link PrincipalCache}, so most requests need no DB round trip.
+ *
+ * Most endpoints still run without a principal; an unknown or inactive user is only logged. Admin
+ * endpoints are the exception: they are rejected here, before the request body is read, unless the
+ * header names an active admin, and their controllers check again through {@link AdminAccess}.
  */
 @Component
 public class SimpleAuthFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(SimpleAuthFilter.class);
-    private final UserRepository userRepository;
+    /**
+     * Request attribute holding the resolved {@link PrincipalCache.Principal} of an active user
+     */
+    public static final String PRINCIPAL_ATTRIBUTE = SimpleAuthFilter.class.getName() + ".principal";
 
-    public SimpleAuthFilter(UserRepository userRepository) {
-        this.userRepository = userRepository;
-        log.info("SimpleAuthFilter instantiated and ready to process requests");
+    private final PrincipalCache principalCache;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public SimpleAuthFilter(PrincipalCache principalCache,
+                            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+        this.principalCache = principalCache;
+        this.exceptionResolver = exceptionResolver;
     }
 
     @Override
@@ -43,26 +57,38 @@ public class SimpleAuthFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
             return;
         }
-        
-        log.info("SimpleAuthFilter processing request: {} with X-User-Id: {}", requestURI, userIdHeader);
-        
+
+        PrincipalCache.Principal resolved = null;
         if (userIdHeader != null && !userIdHeader.isBlank()) {
             try {
                 UUID userId = UUID.fromString(userIdHeader);
-                Optional<User> maybe = userRepository.findById(userId);
-                if (maybe.isPresent()) {
-                    User u = maybe.get();
-                    MDC.put("userId", u.getId().toString());
-                    MDC.put("userRole", u.getRole());
-                    log.info("User context added to MDC: userId={}, role={}", u.getId(), u.getRole());
+                Optional<PrincipalCache.Principal> maybe = principalCache.get(userId);
+                if (maybe.isPresent() && maybe.get().active()) {
+                    PrincipalCache.Principal principal = maybe.get();
+                    resolved = principal;
+                    request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+                    MDC.put("userId", principal.userId().toString());
+                    MDC.put("userRole", principal.role());
+                    log.debug("User context added to MDC: userId={}, role={}", principal.userId(), principal.role());
+                } else if (maybe.isPresent()) {
+                    log.warn("X-User-Id header refers to an inactive user: {}", userIdHeader);
                 } else {
                     log.warn("X-User-Id header contained unknown userId: {}", userIdHeader);
                 }
             } catch (IllegalArgumentException e) {
                 log.warn("X-User-Id header contained invalid UUID: {}", userIdHeader);
             }
-        } else {
-            log.info("No X-User-Id header found in request: {}", requestURI);
+        }
+
+        if (isAdminEndpoint(requestURI)) {
+            try {
+                AdminAccess.requireAdmin(resolved);
+            } catch (RuntimeException e) {
+                MDC.remove("userId");
+                MDC.remove("userRole");
+                exceptionResolver.resolveException(request, response, null, e);
+                return;
+            }
         }
 
         try {
@@ -71,7 +97,6 @@ public class SimpleAuthFilter extends OncePerRequestFilter {
             // Always clean up MDC to prevent context leakage
             MDC.remove("userId");
             MDC.remove("userRole");
-            log.info("MDC context cleared for request: {}", requestURI);
         }
     }
 
@@ -79,11 +104,21 @@ public class SimpleAuthFilter extends OncePerRequestFilter {
      * Determines if the endpoint is public and doesn't require authentication
      */
     private boolean isPublicEndpoint(String requestURI) {
-        return requestURI.startsWith("/api/products") ||
+        return (requestURI.startsWith("/api/products") && !isAdminEndpoint(requestURI)) ||
                requestURI.startsWith("/api/categories") ||
                requestURI.startsWith("/api/auth") ||
                requestURI.equals("/api/health") ||
                requestURI.startsWith("/swagger-ui") ||
                requestURI.startsWith("/v3/api-docs");
     }
+
+    /**
+     * Endpoints that only an active admin may call: bulk import replaces catalog rows wholesale,
+     * and exports stream every product or every customer's orders
+     */
+    private boolean isAdminEndpoint(String requestURI) {
+        return requestURI.startsWith("/api/products/import") ||
+               requestURI.startsWith("/api/products/export") ||
+               requestURI.startsWith("/api/orders/export");
+    }
 }
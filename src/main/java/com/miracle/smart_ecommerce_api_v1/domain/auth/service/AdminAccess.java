@@ -0,0 +1,35 @@
+package com.miracle.smart_ecommerce_api_v1.domain.auth.service;
+
+import com.miracle.smart_ecommerce_api_v1.domain.auth.filter.SimpleAuthFilter;
+import com.miracle.smart_ecommerce_api_v1.exception.ForbiddenException;
+import com.miracle.smart_ecommerce_api_v1.exception.UnauthorizedException;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Role check for admin-only operations, based on the principal {@link SimpleAuthFilter} resolved.
+ */
+public final class AdminAccess {
+
+    public static final String ADMIN_ROLE = "ADMIN";
+
+    private AdminAccess() {
+    }
+
+    /**
+     * Fail with 401 when the request carries no active user and with 403 when that user is not an admin
+     */
+    public static PrincipalCache.Principal requireAdmin(HttpServletRequest request) {
+        return requireAdmin((PrincipalCache.Principal) request.getAttribute(SimpleAuthFilter.PRINCIPAL_ATTRIBUTE));
+    }
+
+    public static PrincipalCache.Principal requireAdmin(PrincipalCache.Principal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("An active user is required (X-User-Id)");
+        }
+        if (!ADMIN_ROLE.equals(principal.role())) {
+            throw new ForbiddenException("Admin role required");
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,201 @@
+package com.miracle.smart_ecommerce_api_v1.domain.auth.service;
+
+import com.miracle.smart_ecommerce_api_v1.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs password hashing on a small dedicated pool instead of the request thread.
+ *
+ * BCrypt is deliberately CPU-bound, so a login storm hashing on request threads takes every core
+ * and starves unrelated traffic. Here at most {@code threads} hashes run at once; callers wait in a
+ * bounded queue, and a call is refused up front with {@link ServiceUnavailableException} when the
+ * queue is full or the wait it would face (queue depth x recent hash time) exceeds {@code max-wait}.
+ */
+@Component
+@Slf4j
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String BUSY_MESSAGE = "Too many sign-in attempts in progress, please retry shortly";
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final int threads;
+    private final long maxWaitNanos;
+    private final ThreadPoolExecutor executor;
+
+    // Moving average of recent hash times
+    private volatile long recentHashNanos;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder upgraded = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${app.auth.password.bcrypt-strength:10}") int strength,
+                          @Value("${app.auth.password.hashing.threads:0}") int threads,
+                          @Value("${app.auth.password.hashing.queue-capacity:64}") int queueCapacity,
+                          @Value("${app.auth.password.hashing.max-wait:2s}") Duration maxWait) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        // 0 = half the cores, leaving the rest for everything else
+        this.threads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        // Seed the wait estimate so the first burst is bounded too
+        long started = System.nanoTime();
+        passwordEncoder.encode("calibration");
+        this.recentHashNanos = System.nanoTime() - started;
+        log.info("Password hashing pool: {} threads, queue {}, max wait {}, bcrypt cost {} (~{} ms per hash)",
+                this.threads, queueCapacity, maxWait, strength, recentHashNanos / 1_000_000);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Whether a stored hash was made with a different BCrypt cost than the configured one
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        return m.find() && Integer.parseInt(m.group(1)) != strength;
+    }
+
+    /**
+     * After a successful match, re-hash the password at the configured cost in the background and
+     * hand the new hash to {@code store}. Only done when the pool is idle; otherwise the upgrade
+     * waits for a later sign-in.
+     */
+    public void upgradeIfNeeded(String rawPassword, String encodedPassword, Consumer<String> store) {
+        if (!needsUpgrade(encodedPassword) || !executor.getQueue().isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    store.accept(timed(() -> passwordEncoder.encode(rawPassword)));
+                    upgraded.increment();
+                } catch (Exception e) {
+                    log.warn("Password hash upgrade failed: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipped password hash upgrade: hashing pool busy");
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long count = hashes.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", threads);
+        stats.put("active", executor.getActiveCount());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueRemaining", executor.getQueue().remainingCapacity());
+        stats.put("bcryptStrength", strength);
+        stats.put("hashes", count);
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("upgraded", upgraded.sum());
+        stats.put("avgHashMillis", count > 0 ? hashNanos.sum() / count / 1_000_000.0 : 0.0);
+        stats.put("maxHashMillis", maxHashNanos.get() / 1_000_000.0);
+        stats.put("avgQueueWaitMillis", count > 0 ? queueWaitNanos.sum() / count / 1_000_000.0 : 0.0);
+        stats.put("maxQueueWaitMillis", maxQueueWaitNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    private <T> T run(Callable<T> work) {
+        int queued = executor.getQueue().size();
+        // Refuse now rather than time out later when the backlog alone would exceed the wait budget
+        if (queued > 0 && (queued + 1L) * recentHashNanos / threads > maxWaitNanos) {
+            rejected.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        }
+
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - submittedAt;
+                queueWaitNanos.add(waited);
+                maxQueueWaitNanos.accumulate(waited);
+                return timed(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T timed(Callable<T> work) throws Exception {
+        long started = System.nanoTime();
+        try {
+            return work.call();
+        } finally {
+            long took = System.nanoTime() - started;
+            hashes.increment();
+            hashNanos.add(took);
+            maxHashNanos.accumulate(took);
+            long recent = recentHashNanos;
+            recentHashNanos = recent + (took - recent) / 8;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.miracle.smart_ecommerce_api_v1.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.miracle.smart_ecommerce_api_v1.common.util.TransactionCallbacks;
+import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived cache of authenticated principals (user id -> role, active flag).
+ *
+ * Lets {@code SimpleAuthFilter} resolve the caller with a hash lookup instead of a
+ * database round trip per request. User writes invalidate the entry after commit; the TTL bounds
+ * staleness for changes made outside this instance.
+ */
+@Component
+public class PrincipalCache {
+
+    /**
+     * The parts of a user the request pipeline needs
+     */
+    public record Principal(UUID userId, String role, boolean active) {
+    }
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Principal> principals;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${app.auth.principal-cache.ttl:60s}") Duration ttl,
+                          @Value("${app.auth.principal-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Resolve a principal, loading it on a miss. Unknown users are not cached.
+     */
+    public Optional<Principal> get(UUID userId) {
+        return Optional.ofNullable(principals.get(userId, id -> userRepository.findSummaryById(id)
+                .map(user -> new Principal(user.getId(), user.getRole(), !Boolean.FALSE.equals(user.getIsActive())))
+                .orElse(null)));
+    }
+
+    /**
+     * Drop a user's entry once the current transaction commits (immediately outside one), so a
+     * request racing the write cannot reload the old role or active flag and keep it for the TTL.
+     */
+    public void invalidate(UUID userId) {
+        TransactionCallbacks.afterCommit(() -> principals.invalidate(userId));
+    }
+}
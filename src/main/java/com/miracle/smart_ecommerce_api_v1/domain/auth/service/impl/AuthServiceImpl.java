@@ -1,11 +1,13 @@
 package com.miracle.smart_ecommerce_api_v1.domain.auth.service.impl;
 
+import com.miracle.smart_ecommerce_api_v1.common.util.EmailUtils;
 import com.miracle.smart_ecommerce_api_v1.domain.auth.dto.AuthResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.auth.service.AuthService;
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.PasswordHasher;
 import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepository;
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
+import com.miracle.smart_ecommerce_api_v1.exception.ServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -15,11 +17,11 @@ import java.util.Optional;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
-    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthServiceImpl(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
     }
 
     @Override
@@ -29,7 +31,7 @@ public class AuthServiceImpl implements AuthService {
             return null;
         }
 
-        String normalizedEmail = email.trim();
+        String normalizedEmail = EmailUtils.normalize(email);
 
         Optional<User> maybeUser = userRepository.findByEmail(normalizedEmail);
         if (maybeUser.isEmpty()) {
@@ -53,7 +55,10 @@ public class AuthServiceImpl implements AuthService {
 
         boolean matches = false;
         try {
-            matches = passwordEncoder.matches(password, storedHash);
+            matches = passwordHasher.matches(password, storedHash);
+        } catch (ServiceUnavailableException ex) {
+            // Hashing pool saturated: surface as 503 so the client retries, not as bad credentials
+            throw ex;
         } catch (Exception ex) {
             log.error("Error while checking password for user id={}: {}", user.getId(), ex.getMessage());
             return null;
@@ -64,6 +69,10 @@ public class AuthServiceImpl implements AuthService {
             return null;
         }
 
+        // Hashes made at an older BCrypt cost are re-hashed in the background while we hold the password
+        passwordHasher.upgradeIfNeeded(password, storedHash,
+                newHash -> userRepository.replacePasswordHash(user.getId(), storedHash, newHash));
+
         String role = user.getRole();
         if (role == null) {
             role = "CUSTOMER"; // fallback default
@@ -2,6 +2,7 @@ package com.miracle.smart_ecommerce_api_v1.domain.cart.repository;
 
 import java.time.OffsetDateTime;
 
+import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
 import com.miracle.smart_ecommerce_api_v1.domain.cart.entity.CartItem;
 import com.miracle.smart_ecommerce_api_v1.domain.cart.entity.ShoppingCart;
 import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
@@ -10,7 +11,6 @@ import com.miracle.smart_ecommerce_api_v1.domain.order.mapper.ShoppingCartMapper
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.util.List;
@@ -40,7 +40,6 @@ public class CartRepositoryImpl implements CartRepository {
     // ========================================================================
 
     @Override
-    @Transactional
     public ShoppingCart saveCart(ShoppingCart cart) {
         String sql = """
             INSERT INTO shopping_cart (user_id, created_at)
@@ -55,7 +54,6 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<ShoppingCart> findCartById(UUID id) {
         String sql = "SELECT * FROM shopping_cart WHERE id = ?";
         try {
@@ -67,7 +65,6 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<ShoppingCart> findCartByUserId(UUID userId) {
         String sql = "SELECT * FROM shopping_cart WHERE user_id = ?";
         try {
@@ -79,36 +76,29 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional
     public void deleteCartById(UUID id) {
         String sql = "DELETE FROM shopping_cart WHERE id = ?";
         jdbcTemplate.update(sql, id);
     }
 
     @Override
-    @Transactional
     public void deleteCartByUserId(UUID userId) {
         String sql = "DELETE FROM shopping_cart WHERE user_id = ?";
         jdbcTemplate.update(sql, userId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsCartByUserId(UUID userId) {
-        String sql = "SELECT COUNT(*) FROM shopping_cart WHERE user_id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, userId);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM shopping_cart WHERE user_id = ?", userId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ShoppingCart> findAll(int page, int size) {
         String sql = "SELECT * FROM shopping_cart ORDER BY created_at DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, cartRowMapper, size, page * size);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long count() {
         String sql = "SELECT COUNT(*) FROM shopping_cart";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
@@ -120,7 +110,6 @@ public class CartRepositoryImpl implements CartRepository {
     // ========================================================================
 
     @Override
-    @Transactional
     public CartItem addItem(CartItem item) {
         String sql = """
             INSERT INTO cart_item (cart_id, product_id, quantity)
@@ -139,7 +128,6 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional
     public CartItem updateItemQuantity(UUID itemId, int quantity) {
         String sql = """
             UPDATE cart_item SET quantity = ?
@@ -158,7 +146,6 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<CartItem> findItemById(UUID itemId) {
         String sql = "SELECT * FROM cart_item WHERE id = ?";
         try {
@@ -170,14 +157,12 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<CartItem> findItemsByCartId(UUID cartId) {
         String sql = "SELECT * FROM cart_item WHERE cart_id = ? ORDER BY id DESC";
         return jdbcTemplate.query(sql, itemRowMapper, cartId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<CartItem> findItemByCartIdAndProductId(UUID cartId, UUID productId) {
         String sql = "SELECT * FROM cart_item WHERE cart_id = ? AND product_id = ?";
         try {
@@ -189,7 +174,6 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional
     public void deleteItemById(UUID itemId) {
         String sql = "DELETE FROM cart_item WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, itemId);
@@ -199,14 +183,12 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional
     public void deleteAllItemsByCartId(UUID cartId) {
         String sql = "DELETE FROM cart_item WHERE cart_id = ?";
         jdbcTemplate.update(sql, cartId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public int countItemsByCartId(UUID cartId) {
         String sql = "SELECT COALESCE(SUM(quantity), 0) FROM cart_item WHERE cart_id = ?";
         Integer count = jdbcTemplate.queryForObject(sql, Integer.class, cartId);
@@ -214,10 +196,7 @@ public class CartRepositoryImpl implements CartRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsItemByCartIdAndProductId(UUID cartId, UUID productId) {
-        String sql = "SELECT COUNT(*) FROM cart_item WHERE cart_id = ? AND product_id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, cartId, productId);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM cart_item WHERE cart_id = ? AND product_id = ?", cartId, productId);
     }
 }
@@ -1,8 +1,10 @@
 package com.miracle.smart_ecommerce_api_v1.domain.cart.service;
 
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
+import com.miracle.smart_ecommerce_api_v1.common.util.ParallelReads;
 import com.miracle.smart_ecommerce_api_v1.domain.cart.entity.CartItem;
 import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.ProductSummary;
 import com.miracle.smart_ecommerce_api_v1.domain.cart.entity.ShoppingCart;
 import com.miracle.smart_ecommerce_api_v1.domain.cart.dto.AddToCartRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.cart.dto.CartResponse;
@@ -21,7 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.miracle.smart_ecommerce_api_v1.config.CacheConfig.*;
@@ -37,15 +41,18 @@ public class CartServiceImpl implements CartService {
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final ParallelReads parallelReads;
 
 
     @Override
-    @Transactional(readOnly = true)
     public PageResponse<CartResponse> getAllCarts(int page, int size) {
         log.debug("Getting all carts - page: {}, size: {}", page, size);
 
-        List<ShoppingCart> carts = cartRepository.findAll(page, size);
-        long total = cartRepository.count();
+        ParallelReads.Both<List<ShoppingCart>, Long> pageAndTotal = parallelReads.both(
+                () -> cartRepository.findAll(page, size),
+                () -> cartRepository.count());
+        List<ShoppingCart> carts = pageAndTotal.first();
+        long total = pageAndTotal.second();
 
         List<CartResponse> responses = carts.stream()
                 .map(this::buildCartResponse)
@@ -55,7 +62,6 @@ public class CartServiceImpl implements CartService {
     }
 
     @Override
-    @Transactional
     @Cacheable(value = CART_CACHE, key = "#userId")
     public CartResponse getCartByUserId(UUID userId) {
         log.debug("Getting cart for user: {}", userId);
@@ -202,8 +208,14 @@ public class CartServiceImpl implements CartService {
     private CartResponse buildCartResponse(ShoppingCart cart) {
         List<CartItem> items = cartRepository.findItemsByCartId(cart.getId());
 
+        // One projection query for all products in the cart
+        Map<UUID, ProductSummary> products = productRepository.findSummariesByIds(
+                        items.stream().map(CartItem::getProductId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ProductSummary::getId, Function.identity()));
+
         List<CartResponse.CartItemResponse> itemResponses = items.stream()
-                .map(this::mapToCartItemResponse)
+                .map(item -> mapToCartItemResponse(item, products.get(item.getProductId())))
                 .collect(Collectors.toList());
 
         int totalItems = itemResponses.stream()
@@ -224,9 +236,7 @@ public class CartServiceImpl implements CartService {
                 .build();
     }
 
-    private CartResponse.CartItemResponse mapToCartItemResponse(CartItem item) {
-        Product product = productRepository.findById(item.getProductId()).orElse(null);
-
+    private CartResponse.CartItemResponse mapToCartItemResponse(CartItem item, ProductSummary product) {
         String productName = product != null ? product.getName() : "Unknown Product";
         String productImage = product != null ? product.getPrimaryImage() : null;
         BigDecimal unitPrice = product != null ? product.getPrice() : BigDecimal.ZERO;
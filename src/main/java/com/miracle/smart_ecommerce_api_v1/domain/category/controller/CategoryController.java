@@ -52,6 +52,13 @@ public class CategoryController {
         return ResponseEntity.ok(ApiResponse.success(categories));
     }
 
+    @GetMapping("/tree")
+    @Operation(summary = "Get category tree", description = "Retrieves top-level categories with nested subcategories and product counts")
+    public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategoryTree() {
+        List<CategoryResponse> tree = categoryService.getCategoryTree();
+        return ResponseEntity.ok(ApiResponse.success(tree));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update category", description = "Updates an existing category")
     public ResponseEntity<ApiResponse<CategoryResponse>> updateCategory(
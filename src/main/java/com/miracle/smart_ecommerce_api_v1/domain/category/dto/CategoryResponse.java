@@ -1,5 +1,6 @@
 package com.miracle.smart_ecommerce_api_v1.domain.category.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,6 +20,12 @@ public class CategoryResponse {
 
     private UUID id;
     private String categoryName;
+    private UUID parentId;
     private Long productCount;
+    private Long activeProductCount;
+
+    // Only filled in by the category tree
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CategoryResponse> children;
 }
 
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 /**
  * Request DTO for creating a new category.
  */
@@ -18,4 +20,7 @@ public class CreateCategoryRequest {
     @NotBlank(message = "Category name is required")
     @Size(min = 2, max = 100, message = "Category name must be between 2 and 100 characters")
     private String categoryName;
+
+    // Optional; omit for a top-level category, or on update to keep the current parent
+    private UUID parentId;
 }
@@ -29,5 +29,8 @@ public class Category {
     @Size(min = 2, max = 100, message = "Category name must be between 2 and 100 characters")
     private String categoryName;
 
+    // null for a top-level category
+    private UUID parentId;
+
 }
 
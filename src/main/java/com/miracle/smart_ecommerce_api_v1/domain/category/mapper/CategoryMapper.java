@@ -20,6 +20,7 @@ public class CategoryMapper implements RowMapper<Category> {
         return Category.builder()
                 .id(JdbcUtils.getUUID(rs, "id"))
                 .categoryName(rs.getString("category_name"))
+                .parentId(JdbcUtils.getUUID(rs, "parent_id"))
                 .build();
     }
 }
@@ -1,12 +1,13 @@
 package com.miracle.smart_ecommerce_api_v1.domain.category.repository;
 
+import com.miracle.smart_ecommerce_api_v1.common.existence.ExistenceFilters;
+import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
 import com.miracle.smart_ecommerce_api_v1.domain.category.entity.Category;
 import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
 import com.miracle.smart_ecommerce_api_v1.domain.category.mapper.CategoryMapper;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,32 +21,36 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
     private final JdbcTemplate jdbcTemplate;
     private final CategoryMapper categoryRowMapper;
+    private final ExistenceFilters existenceFilters;
 
-    public CategoryRepositoryImpl(JdbcTemplate jdbcTemplate, CategoryMapper categoryRowMapper) {
+    public CategoryRepositoryImpl(JdbcTemplate jdbcTemplate, CategoryMapper categoryRowMapper,
+                                  ExistenceFilters existenceFilters) {
         this.jdbcTemplate = jdbcTemplate;
         this.categoryRowMapper = categoryRowMapper;
+        this.existenceFilters = existenceFilters;
     }
 
     @Override
-    @Transactional
     public Category save(Category category) {
         String sql = """
-            INSERT INTO product_category (category_name)
-            VALUES (?)
+            INSERT INTO product_category (category_name, parent_id)
+            VALUES (?, ?)
             RETURNING *
             """;
 
-        return jdbcTemplate.queryForObject(sql, categoryRowMapper,
-                category.getCategoryName()
+        Category saved = jdbcTemplate.queryForObject(sql, categoryRowMapper,
+                category.getCategoryName(),
+                category.getParentId()
         );
+        existenceFilters.added(ExistenceFilters.Kind.CATEGORIES, saved.getId());
+        return saved;
     }
 
     @Override
-    @Transactional
     public Category update(Category category) {
         String sql = """
             UPDATE product_category
-            SET category_name = ?
+            SET category_name = ?, parent_id = ?
             WHERE id = ?
             RETURNING *
             """;
@@ -53,6 +58,7 @@ public class CategoryRepositoryImpl implements CategoryRepository {
         try {
             return jdbcTemplate.queryForObject(sql, categoryRowMapper,
                     category.getCategoryName(),
+                    category.getParentId(),
                     category.getId()
             );
         } catch (EmptyResultDataAccessException e) {
@@ -61,7 +67,6 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Category> findById(UUID id) {
         String sql = "SELECT * FROM product_category WHERE id = ?";
         try {
@@ -73,7 +78,6 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Category> findByName(String name) {
         String sql = "SELECT * FROM product_category WHERE category_name = ?";
         try {
@@ -85,7 +89,6 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<Category> findAll() {
         String sql = "SELECT * FROM product_category ORDER BY category_name";
         return jdbcTemplate.query(sql, categoryRowMapper);
@@ -93,14 +96,12 @@ public class CategoryRepositoryImpl implements CategoryRepository {
 
 
     @Override
-    @Transactional(readOnly = true)
     public List<Category> findByParentId(UUID parentId) {
-        // parent_category_id not present in current schema; return empty list
-        return List.of();
+        String sql = "SELECT * FROM product_category WHERE parent_id = ? ORDER BY category_name";
+        return jdbcTemplate.query(sql, categoryRowMapper, parentId);
     }
 
     @Override
-    @Transactional
     public void deleteById(UUID id) {
         String sql = "DELETE FROM product_category WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, id);
@@ -110,23 +111,19 @@ public class CategoryRepositoryImpl implements CategoryRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
-        String sql = "SELECT COUNT(*) FROM product_category WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-        return count != null && count > 0;
+        if (!existenceFilters.mightExist(ExistenceFilters.Kind.CATEGORIES, id)) {
+            return false;
+        }
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM product_category WHERE id = ?", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsByName(String name) {
-        String sql = "SELECT COUNT(*) FROM product_category WHERE category_name = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, name);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM product_category WHERE category_name = ?", name);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long count() {
         String sql = "SELECT COUNT(*) FROM product_category";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
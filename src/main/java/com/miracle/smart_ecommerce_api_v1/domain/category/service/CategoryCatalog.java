@@ -0,0 +1,251 @@
+package com.miracle.smart_ecommerce_api_v1.domain.category.service;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.TransactionCallbacks;
+import com.miracle.smart_ecommerce_api_v1.domain.category.entity.Category;
+import com.miracle.smart_ecommerce_api_v1.domain.category.repository.CategoryRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.CategoryProductCount;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the category list and per-category product counts.
+ * Loaded from the database on first read; product writes then adjust the counts once their
+ * transaction commits, so category reads and the navigation tree never touch the database.
+ * Category writes and bulk imports drop the copy so the next read reloads it, and a periodic
+ * reconcile corrects any drift (e.g. a delta racing a reload, or rows changed outside the API).
+ *
+ * Each instance holds its own copy and only its own writes invalidate it. A lookup by id that
+ * misses falls back to the database and merges the row, so a category created on another
+ * instance resolves at once; lists and counts catch up at the next reconcile.
+ */
+@Component
+@Slf4j
+public class CategoryCatalog {
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final Duration reconcileInterval;
+
+    private volatile Snapshot snapshot;
+    private ScheduledExecutorService reconciler;
+
+    public CategoryCatalog(CategoryRepository categoryRepository,
+                           ProductRepository productRepository,
+                           @Value("${app.categories.reconcile-interval:10m}") Duration reconcileInterval) {
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    @PostConstruct
+    void startReconciler() {
+        if (reconcileInterval.isZero() || reconcileInterval.isNegative()) {
+            return;
+        }
+        reconciler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("category-catalog").daemon().factory());
+        reconciler.scheduleWithFixedDelay(this::reconcile,
+                reconcileInterval.toMillis(), reconcileInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopReconciler() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+    }
+
+    // ========================================================================
+    // READS
+    // ========================================================================
+
+    /**
+     * All categories, ordered by name
+     */
+    public List<Category> findAll() {
+        return snapshot().categories();
+    }
+
+    public Optional<Category> findById(UUID id) {
+        Category category = snapshot().byId().get(id);
+        if (category != null) {
+            return Optional.of(category);
+        }
+        Optional<Category> stored = categoryRepository.findById(id);
+        stored.ifPresent(this::merge);
+        return stored;
+    }
+
+    /**
+     * Direct subcategories of a category, ordered by name; pass null for the top-level categories
+     */
+    public List<Category> findChildren(UUID parentId) {
+        return snapshot().children().getOrDefault(parentId, List.of());
+    }
+
+    public long productCount(UUID categoryId) {
+        Counts counts = snapshot().counts().get(categoryId);
+        return counts != null ? counts.total.get() : 0;
+    }
+
+    public long activeProductCount(UUID categoryId) {
+        Counts counts = snapshot().counts().get(categoryId);
+        return counts != null ? counts.active.get() : 0;
+    }
+
+    // ========================================================================
+    // PRODUCT CHANGES (applied after commit)
+    // ========================================================================
+
+    public void productAdded(UUID categoryId, boolean active) {
+        TransactionCallbacks.afterCommit(() -> adjust(categoryId, 1, active ? 1 : 0));
+    }
+
+    public void productRemoved(UUID categoryId, boolean active) {
+        TransactionCallbacks.afterCommit(() -> adjust(categoryId, -1, active ? -1 : 0));
+    }
+
+    public void productChanged(UUID oldCategoryId, boolean wasActive, UUID newCategoryId, boolean active) {
+        if (oldCategoryId != null && oldCategoryId.equals(newCategoryId) && wasActive == active) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            adjust(oldCategoryId, -1, wasActive ? -1 : 0);
+            adjust(newCategoryId, 1, active ? 1 : 0);
+        });
+    }
+
+    public void activeStatusChanged(UUID categoryId, boolean active) {
+        TransactionCallbacks.afterCommit(() -> adjust(categoryId, 0, active ? 1 : -1));
+    }
+
+    /**
+     * Drop the in-memory copy once the current transaction commits; the next read reloads it.
+     * For category writes and bulk product changes that are not worth tracking row by row.
+     */
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(() -> snapshot = null);
+    }
+
+    // ========================================================================
+    // LOADING
+    // ========================================================================
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private void reconcile() {
+        // Nothing to correct until something has read the catalog
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            Snapshot fresh = load();
+            synchronized (this) {
+                snapshot = fresh;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Category catalog reconcile failed: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot load() {
+        List<Category> categories = categoryRepository.findAll();
+
+        Map<UUID, Counts> counts = new ConcurrentHashMap<>();
+        for (CategoryProductCount row : productRepository.countGroupedByCategory()) {
+            counts.put(row.getCategoryId(), new Counts(row.getProductCount(), row.getActiveProductCount()));
+        }
+
+        log.debug("Loaded category catalog: {} categories", categories.size());
+        return snapshotOf(categories, counts);
+    }
+
+    /**
+     * Add a row found in the database but not in the copy, e.g. created on another instance.
+     */
+    private synchronized void merge(Category category) {
+        Snapshot current = snapshot;
+        if (current == null || current.byId().containsKey(category.getId())) {
+            return;
+        }
+        List<Category> categories = new ArrayList<>(current.categories());
+        int position = 0;
+        while (position < categories.size()
+                && categories.get(position).getCategoryName().compareTo(category.getCategoryName()) <= 0) {
+            position++;
+        }
+        categories.add(position, category);
+        snapshot = snapshotOf(categories, current.counts());
+    }
+
+    private static Snapshot snapshotOf(List<Category> categories, Map<UUID, Counts> counts) {
+        Map<UUID, Category> byId = new HashMap<>();
+        Map<UUID, List<Category>> children = new HashMap<>();
+        for (Category category : categories) {
+            byId.put(category.getId(), category);
+            // findAll is name-ordered, so each child list is too
+            children.computeIfAbsent(category.getParentId(), k -> new ArrayList<>()).add(category);
+        }
+        children.replaceAll((parentId, list) -> List.copyOf(list));
+
+        return new Snapshot(List.copyOf(categories), Collections.unmodifiableMap(byId),
+                Collections.unmodifiableMap(children), counts);
+    }
+
+    private void adjust(UUID categoryId, long totalDelta, long activeDelta) {
+        Snapshot current = snapshot;
+        // Not loaded yet: the first read picks the change up from the database
+        if (current == null || categoryId == null) {
+            return;
+        }
+        Counts counts = current.counts().computeIfAbsent(categoryId, k -> new Counts(0, 0));
+        counts.total.addAndGet(totalDelta);
+        counts.active.addAndGet(activeDelta);
+    }
+
+    private record Snapshot(List<Category> categories,
+                            Map<UUID, Category> byId,
+                            Map<UUID, List<Category>> children,
+                            Map<UUID, Counts> counts) {
+    }
+
+    private static final class Counts {
+        final AtomicLong total;
+        final AtomicLong active;
+
+        Counts(long total, long active) {
+            this.total = new AtomicLong(total);
+            this.active = new AtomicLong(active);
+        }
+    }
+}
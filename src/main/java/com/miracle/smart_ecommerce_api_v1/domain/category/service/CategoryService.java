@@ -26,6 +26,11 @@ public interface CategoryService {
      */
     List<CategoryResponse> getAllCategories();
 
+    /**
+     * Get top-level categories with their subcategories nested under them
+     */
+    List<CategoryResponse> getCategoryTree();
+
 
     /**
      * Update category
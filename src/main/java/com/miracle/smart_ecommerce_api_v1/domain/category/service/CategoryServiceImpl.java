@@ -10,9 +10,6 @@ import com.miracle.smart_ecommerce_api_v1.domain.category.repository.CategoryRep
 import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,10 +17,9 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import static com.miracle.smart_ecommerce_api_v1.config.CacheConfig.*;
-
 /**
  * Implementation of CategoryService using raw JDBC.
+ * Reads are served from {@link CategoryCatalog}; writes go to the database and then invalidate it.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,7 +28,7 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
-    private final CacheManager cacheManager;
+    private final CategoryCatalog categoryCatalog;
 
     @Override
     @Transactional
@@ -43,47 +39,44 @@ public class CategoryServiceImpl implements CategoryService {
         if (categoryRepository.existsByName(request.getCategoryName())) {
             throw new DuplicateResourceException("Category", "name", request.getCategoryName());
         }
+        if (request.getParentId() != null && !categoryRepository.existsById(request.getParentId())) {
+            throw ResourceNotFoundException.forResource("Category", request.getParentId());
+        }
 
         Category category = Category.builder()
                 .categoryName(request.getCategoryName())
+                .parentId(request.getParentId())
                 .build();
 
         Category savedCategory = categoryRepository.save(category);
         log.info("Category created successfully with ID: {}", savedCategory.getId());
 
-        CategoryResponse response = mapToResponse(savedCategory);
-
-        // Update cache with new category
-        Cache byIdCache = cacheManager.getCache(CATEGORIES_CACHE);
-        if (byIdCache != null) {
-            byIdCache.put("id:" + savedCategory.getId(), response);
-        }
-
-        // Clear list cache
-        evictCache();
-
-        return response;
+        categoryCatalog.invalidate();
+        return mapToResponse(savedCategory);
     }
 
     @Override
-    @Transactional(readOnly = true)
-    @Cacheable(value = CATEGORIES_CACHE, key = "'id:' + #id")
     public CategoryResponse getCategoryById(UUID id) {
         log.debug("Getting category by ID: {}", id);
-        Category category = categoryRepository.findById(id)
+        Category category = categoryCatalog.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forResource("Category", id));
-        return mapToResponseWithDetails(category);
+        return mapToResponse(category);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<CategoryResponse> getAllCategories() {
         log.debug("Getting all categories");
-        return categoryRepository.findAll().stream()
+        return categoryCatalog.findAll().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<CategoryResponse> getCategoryTree() {
+        log.debug("Getting category tree");
+        return buildTree(null);
+    }
+
     @Override
     @Transactional
     public CategoryResponse updateCategory(UUID id, CreateCategoryRequest request) {
@@ -97,6 +90,11 @@ public class CategoryServiceImpl implements CategoryService {
                 && categoryRepository.existsByName(request.getCategoryName())) {
             throw new DuplicateResourceException("Category", "name", request.getCategoryName());
         }
+        // No parent in the request keeps the current one
+        if (request.getParentId() != null) {
+            validateParent(id, request.getParentId());
+            existingCategory.setParentId(request.getParentId());
+        }
 
         // Apply the requested change
         existingCategory.setCategoryName(request.getCategoryName());
@@ -104,19 +102,8 @@ public class CategoryServiceImpl implements CategoryService {
         Category updatedCategory = categoryRepository.update(existingCategory);
         log.info("Category updated successfully: {}", id);
 
-        // build response directly
-        CategoryResponse response = mapToResponse(updatedCategory);
-
-        // Update id cache
-        Cache byIdCache = cacheManager.getCache(CATEGORIES_CACHE);
-        if (byIdCache != null) {
-            byIdCache.put("id:" + id, response);
-        }
-
-        // Clear list cache
-        evictCache();
-
-        return response;
+        categoryCatalog.invalidate();
+        return mapToResponse(updatedCategory);
     }
 
     @Override
@@ -128,6 +115,10 @@ public class CategoryServiceImpl implements CategoryService {
             throw ResourceNotFoundException.forResource("Category", id);
         }
 
+        if (!categoryRepository.findByParentId(id).isEmpty()) {
+            throw new BadRequestException("Cannot delete category with subcategories");
+        }
+
         // Check if category has products
         if (productRepository.countByCategoryId(id) > 0) {
             throw new BadRequestException("Cannot delete category with associated products");
@@ -137,35 +128,42 @@ public class CategoryServiceImpl implements CategoryService {
         categoryRepository.deleteById(id);
         log.info("Category deleted successfully: {}", id);
 
-        // Evict from id cache
-        Cache byIdCache = cacheManager.getCache(CATEGORIES_CACHE);
-        if (byIdCache != null) {
-            byIdCache.evict("id:" + id);
+        categoryCatalog.invalidate();
+    }
+
+    /**
+     * The new parent must exist and must not be the category itself or one of its descendants.
+     */
+    private void validateParent(UUID id, UUID parentId) {
+        UUID ancestor = parentId;
+        while (ancestor != null) {
+            if (ancestor.equals(id)) {
+                throw new BadRequestException("A category cannot be moved under itself or its subcategories");
+            }
+            UUID current = ancestor;
+            ancestor = categoryRepository.findById(current)
+                    .orElseThrow(() -> ResourceNotFoundException.forResource("Category", current))
+                    .getParentId();
         }
+    }
 
-        // Clear list cache
-        evictCache();
+    private List<CategoryResponse> buildTree(UUID parentId) {
+        return categoryCatalog.findChildren(parentId).stream()
+                .map(category -> {
+                    CategoryResponse response = mapToResponse(category);
+                    response.setChildren(buildTree(category.getId()));
+                    return response;
+                })
+                .collect(Collectors.toList());
     }
 
     private CategoryResponse mapToResponse(Category category) {
         return CategoryResponse.builder()
                 .id(category.getId())
                 .categoryName(category.getCategoryName())
-                .productCount(productRepository.countByCategoryId(category.getId()))
+                .parentId(category.getParentId())
+                .productCount(categoryCatalog.productCount(category.getId()))
+                .activeProductCount(categoryCatalog.activeProductCount(category.getId()))
                 .build();
     }
-
-    private CategoryResponse mapToResponseWithDetails(Category category) {
-        return mapToResponse(category);
-    }
-
-    /**
-     * Helper method to evict all entries from a cache
-     */
-    private void evictCache() {
-        Cache cache = cacheManager.getCache(CATEGORIES_CACHE);
-        if (cache != null) {
-            cache.clear();
-        }
-    }
 }
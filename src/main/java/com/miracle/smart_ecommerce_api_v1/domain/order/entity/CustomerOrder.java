@@ -7,10 +7,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 import java.math.BigDecimal;
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.UUID;
 
 /**
@@ -20,7 +18,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @EqualsAndHashCode(callSuper = true)
 public class CustomerOrder extends BaseModel {
 
@@ -59,17 +57,6 @@ public class CustomerOrder extends BaseModel {
     @Builder.Default
     private transient List<OrderItem> orderItems = new ArrayList<>();
 
-    /**
-     * Generate unique order number
-     */
-    public static String generateOrderNumber() {
-        String timestamp = java.time.format.DateTimeFormatter
-                .ofPattern("yyyyMMdd")
-                .format(OffsetDateTime.now());
-        String randomPart = String.format("%06d", new Random().nextInt(999999));
-        return "ORD-" + timestamp + "-" + randomPart;
-    }
-
     /**
      * Add order item
      */
@@ -1,8 +1,8 @@
 package com.miracle.smart_ecommerce_api_v1.domain.order.mapper;
 
+import com.miracle.smart_ecommerce_api_v1.common.util.IndexedRowMapper;
 import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
 import com.miracle.smart_ecommerce_api_v1.domain.order.entity.CustomerOrder;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
 import java.sql.ResultSet;
@@ -12,22 +12,39 @@ import java.sql.SQLException;
  * RowMapper for CustomerOrder domain model.
  */
 @Component
-public class CustomerOrderMapper implements RowMapper<CustomerOrder> {
+public class CustomerOrderMapper extends IndexedRowMapper<CustomerOrder> {
+
+    private static final int ID = 0;
+    private static final int USER_ID = 1;
+    private static final int ORDER_NUMBER = 2;
+    private static final int STATUS = 3;
+    private static final int PAYMENT_METHOD_ID = 4;
+    private static final int SHIPPING_METHOD_ID = 5;
+    private static final int PAYMENT_STATUS = 6;
+    private static final int SUBTOTAL = 7;
+    private static final int TOTAL_AMOUNT = 8;
+    private static final int CREATED_AT = 9;
+    private static final int UPDATED_AT = 10;
+
+    public CustomerOrderMapper() {
+        super("id", "user_id", "order_number", "status", "payment_method_id", "shipping_method_id",
+                "payment_status", "subtotal", "total_amount", "created_at", "updated_at");
+    }
 
     @Override
-    public CustomerOrder mapRow(ResultSet rs, int rowNum) throws SQLException {
+    protected CustomerOrder mapRow(ResultSet rs, int[] col) throws SQLException {
         return CustomerOrder.builder()
-                .id(JdbcUtils.getUUID(rs, "id"))
-                .userId(JdbcUtils.getUUID(rs, "user_id"))
-                .orderNumber(rs.getString("order_number"))
-                .status(rs.getString("status"))
-                .paymentMethodId(JdbcUtils.getUUID(rs, "payment_method_id"))
-                .shippingMethodId(JdbcUtils.getUUID(rs, "shipping_method_id"))
-                .paymentStatus(rs.getString("payment_status"))
-                .subtotal(rs.getBigDecimal("subtotal"))
-                .total(rs.getBigDecimal("total_amount"))
-                .createdAt(JdbcUtils.getOffsetDateTime(rs, "created_at"))
-                .updatedAt(JdbcUtils.getOffsetDateTime(rs, "updated_at"))
+                .id(JdbcUtils.getUUID(rs, col[ID]))
+                .userId(JdbcUtils.getUUID(rs, col[USER_ID]))
+                .orderNumber(JdbcUtils.getString(rs, col[ORDER_NUMBER]))
+                .status(JdbcUtils.getString(rs, col[STATUS]))
+                .paymentMethodId(JdbcUtils.getUUID(rs, col[PAYMENT_METHOD_ID]))
+                .shippingMethodId(JdbcUtils.getUUID(rs, col[SHIPPING_METHOD_ID]))
+                .paymentStatus(JdbcUtils.getString(rs, col[PAYMENT_STATUS]))
+                .subtotal(JdbcUtils.getBigDecimal(rs, col[SUBTOTAL]))
+                .total(JdbcUtils.getBigDecimal(rs, col[TOTAL_AMOUNT]))
+                .createdAt(JdbcUtils.getOffsetDateTime(rs, col[CREATED_AT]))
+                .updatedAt(JdbcUtils.getOffsetDateTime(rs, col[UPDATED_AT]))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.miracle.smart_ecommerce_api_v1.domain.order.repository;
 
 import com.miracle.smart_ecommerce_api_v1.domain.order.entity.OrderItem;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +17,18 @@ public interface OrderItemRepository {
      */
     OrderItem save(OrderItem item);
 
+    /**
+     * Insert items in one JDBC batch. Generated ids are set on the given items, which are returned.
+     */
+    List<OrderItem> saveAll(List<OrderItem> items);
+
+    /**
+     * Make the order's lines match {@code items}: lines without an id are inserted, lines whose
+     * quantity or price changed are updated, and stored lines missing from the list are deleted.
+     * Unchanged lines are not written. Runs several statements, so call it inside the service transaction.
+     */
+    List<OrderItem> replaceItems(UUID orderId, List<OrderItem> items);
+
     /**
      * Find order item by ID
      */
@@ -26,6 +39,11 @@ public interface OrderItemRepository {
      */
     List<OrderItem> findByOrderId(UUID orderId);
 
+    /**
+     * Find all items for several orders in one query
+     */
+    List<OrderItem> findByOrderIds(Collection<UUID> orderIds);
+
     /**
      * Delete order item by ID
      */
@@ -2,14 +2,21 @@ package com.miracle.smart_ecommerce_api_v1.domain.order.repository;
 
 import com.miracle.smart_ecommerce_api_v1.domain.order.entity.OrderItem;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,7 +36,6 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
     }
 
     @Override
-    @Transactional
     public OrderItem save(OrderItem item) {
         String sql = """
             INSERT INTO order_item (order_id, product_id, unit_price, quantity)
@@ -46,7 +52,83 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public List<OrderItem> saveAll(List<OrderItem> items) {
+        if (items.isEmpty()) {
+            return items;
+        }
+        String sql = "INSERT INTO order_item (order_id, product_id, unit_price, quantity) VALUES (?, ?, ?, ?)";
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(sql, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        OrderItem item = items.get(i);
+                        ps.setObject(1, item.getOrderId());
+                        ps.setObject(2, item.getProductId());
+                        ps.setBigDecimal(3, item.getUnitPrice());
+                        ps.setInt(4, item.getQuantity());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                },
+                keyHolder);
+
+        // Keys come back in batch order
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setId((UUID) keys.get(i).get("id"));
+        }
+        return items;
+    }
+
+    @Override
+    public List<OrderItem> replaceItems(UUID orderId, List<OrderItem> items) {
+        Map<UUID, OrderItem> stored = new HashMap<>();
+        for (OrderItem item : findByOrderId(orderId)) {
+            stored.put(item.getId(), item);
+        }
+
+        List<OrderItem> inserts = new ArrayList<>();
+        List<OrderItem> updates = new ArrayList<>();
+        for (OrderItem item : items) {
+            item.setOrderId(orderId);
+            OrderItem current = item.getId() != null ? stored.remove(item.getId()) : null;
+            if (current == null) {
+                inserts.add(item);
+            } else if (!current.getQuantity().equals(item.getQuantity())
+                    || current.getUnitPrice().compareTo(item.getUnitPrice()) != 0) {
+                updates.add(item);
+            }
+        }
+
+        // Whatever is left in stored was dropped from the order
+        if (!stored.isEmpty()) {
+            Object[] ids = stored.keySet().toArray();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement("DELETE FROM order_item WHERE order_id = ? AND id = ANY(?)");
+                ps.setObject(1, orderId);
+                ps.setArray(2, con.createArrayOf("uuid", ids));
+                return ps;
+            });
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE order_item SET unit_price = ?, quantity = ? WHERE id = ? AND order_id = ?",
+                    updates, updates.size(), (ps, item) -> {
+                        ps.setBigDecimal(1, item.getUnitPrice());
+                        ps.setInt(2, item.getQuantity());
+                        ps.setObject(3, item.getId());
+                        ps.setObject(4, orderId);
+                    });
+        }
+        saveAll(inserts);
+        return items;
+    }
+
+    @Override
     public Optional<OrderItem> findById(UUID id) {
         String sql = "SELECT * FROM order_item WHERE id = ?";
         try {
@@ -58,28 +140,38 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<OrderItem> findByOrderId(UUID orderId) {
         String sql = "SELECT * FROM order_item WHERE order_id = ?";
         return jdbcTemplate.query(sql, orderItemRowMapper, orderId);
     }
 
     @Override
-    @Transactional
+    public List<OrderItem> findByOrderIds(Collection<UUID> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT * FROM order_item WHERE order_id = ANY(?)";
+        Object[] idArray = orderIds.stream().distinct().toArray();
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", idArray));
+            return ps;
+        }, orderItemRowMapper);
+    }
+
+    @Override
     public void deleteById(UUID id) {
         String sql = "DELETE FROM order_item WHERE id = ?";
         jdbcTemplate.update(sql, id);
     }
 
     @Override
-    @Transactional
     public void deleteByOrderId(UUID orderId) {
         String sql = "DELETE FROM order_item WHERE order_id = ?";
         jdbcTemplate.update(sql, orderId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long countByOrderId(UUID orderId) {
         String sql = "SELECT COUNT(*) FROM order_item WHERE order_id = ?";
         Long count = jdbcTemplate.queryForObject(sql, Long.class, orderId);
@@ -8,6 +8,7 @@ import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 /**
  * Repository interface for CustomerOrder domain model.
@@ -45,6 +46,14 @@ public interface OrderRepository {
      */
     List<CustomerOrder> findAll(int page, int size);
 
+    /**
+     * Stream all orders, or only those updated at or after {@code since}, in update order.
+     * Each order is handed to the action with its items as a JSON array
+     * ({@code [{productId, unitPrice, quantity}]}), aggregated in the same query.
+     * The cursor needs an open transaction; without one the driver reads the whole result.
+     */
+    void streamForExport(OffsetDateTime since, BiConsumer<CustomerOrder, String> action);
+
     /**
      * Find orders by user ID
      */
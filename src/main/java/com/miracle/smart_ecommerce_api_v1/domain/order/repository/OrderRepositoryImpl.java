@@ -3,18 +3,21 @@ package com.miracle.smart_ecommerce_api_v1.domain.order.repository;
 import java.time.OffsetDateTime;
 
 import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.common.util.RequestIdentityMap;
 import com.miracle.smart_ecommerce_api_v1.domain.order.entity.CustomerOrder;
 import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
 import com.miracle.smart_ecommerce_api_v1.domain.order.mapper.CustomerOrderMapper;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 /**
  * JDBC implementation of OrderRepository.
@@ -31,7 +34,6 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional
     public CustomerOrder save(CustomerOrder order) {
         String sql = """
             INSERT INTO customer_order (user_id, order_number, status, payment_method_id, shipping_method_id, payment_status,
@@ -56,8 +58,8 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional
     public CustomerOrder update(CustomerOrder order) {
+        RequestIdentityMap.evict(CustomerOrder.class, order.getId());
         String sql = """
             UPDATE customer_order
             SET status = ?, payment_method_id = ?, payment_status = ?, shipping_method_id = ?,
@@ -83,8 +85,20 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<CustomerOrder> findById(UUID id) {
+        return RequestIdentityMap.find(CustomerOrder.class, id, () -> loadById(id), OrderRepositoryImpl::copy);
+    }
+
+    /**
+     * Independent copy for the request identity map; collections are copied, their elements shared
+     */
+    private static CustomerOrder copy(CustomerOrder order) {
+        return order.toBuilder()
+                .orderItems(order.getOrderItems() != null ? new ArrayList<>(order.getOrderItems()) : null)
+                .build();
+    }
+
+    private Optional<CustomerOrder> loadById(UUID id) {
         String sql = "SELECT * FROM customer_order WHERE id = ?";
         try {
             CustomerOrder order = jdbcTemplate.queryForObject(sql, orderMapper, id);
@@ -95,7 +109,6 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<CustomerOrder> findByOrderNumber(String orderNumber) {
         String sql = "SELECT * FROM customer_order WHERE order_number = ?";
         try {
@@ -107,14 +120,12 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<CustomerOrder> findAll() {
         String sql = "SELECT * FROM customer_order ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, orderMapper);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<CustomerOrder> findAll(int page, int size) {
         JdbcUtils.validatePagination(page, size);
         String sql = "SELECT * FROM customer_order ORDER BY created_at DESC LIMIT ? OFFSET ?";
@@ -122,7 +133,29 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public void streamForExport(OffsetDateTime since, BiConsumer<CustomerOrder, String> action) {
+        String sql = """
+            SELECT o.*, COALESCE(i.items, '[]') AS items
+            FROM customer_order o
+            LEFT JOIN LATERAL (
+                SELECT json_agg(json_build_object(
+                           'productId', oi.product_id, 'unitPrice', oi.unit_price, 'quantity', oi.quantity)) AS items
+                FROM order_item oi
+                WHERE oi.order_id = o.id
+            ) i ON true
+            %s
+            ORDER BY o.updated_at, o.id
+            """;
+        RowCallbackHandler handler = rs -> action.accept(orderMapper.mapRow(rs, 0), rs.getString("items"));
+        if (since == null) {
+            jdbcTemplate.query(JdbcUtils.streaming(sql.formatted("")), handler);
+        } else {
+            jdbcTemplate.query(JdbcUtils.streaming(sql.formatted("WHERE o.updated_at >= ?"),
+                    Timestamp.from(since.toInstant())), handler);
+        }
+    }
+
+    @Override
     public List<CustomerOrder> findByUserId(UUID userId, int page, int size) {
         JdbcUtils.validatePagination(page, size);
         String sql = "SELECT * FROM customer_order WHERE user_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?";
@@ -130,7 +163,6 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<CustomerOrder> findByStatus(String status, int page, int size) {
         JdbcUtils.validatePagination(page, size);
         String sql = "SELECT * FROM customer_order WHERE status = ? ORDER BY created_at DESC LIMIT ? OFFSET ?";
@@ -139,8 +171,8 @@ public class OrderRepositoryImpl implements OrderRepository {
 
 
     @Override
-    @Transactional
     public void deleteById(UUID id) {
+        RequestIdentityMap.evict(CustomerOrder.class, id);
         String sql = "DELETE FROM customer_order WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, id);
         if (rowsAffected == 0) {
@@ -149,15 +181,11 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
-        String sql = "SELECT COUNT(*) FROM customer_order WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM customer_order WHERE id = ?", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long count() {
         String sql = "SELECT COUNT(*) FROM customer_order";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
@@ -165,7 +193,6 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long countByStatus(String status) {
         String sql = "SELECT COUNT(*) FROM customer_order WHERE status = ?";
         Long count = jdbcTemplate.queryForObject(sql, Long.class, status);
@@ -173,7 +200,6 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long countByUserId(UUID userId) {
         String sql = "SELECT COUNT(*) FROM customer_order WHERE user_id = ?";
         Long count = jdbcTemplate.queryForObject(sql, Long.class, userId);
@@ -181,8 +207,8 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional
     public void updateStatus(UUID id, String status) {
+        RequestIdentityMap.evict(CustomerOrder.class, id);
         String sql = "UPDATE customer_order SET status = ? WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, status, id);
         if (rowsAffected == 0) {
@@ -191,8 +217,8 @@ public class OrderRepositoryImpl implements OrderRepository {
     }
 
     @Override
-    @Transactional
     public void updatePaymentStatus(UUID id, String paymentStatus) {
+        RequestIdentityMap.evict(CustomerOrder.class, id);
         String sql = "UPDATE customer_order SET payment_status = ? WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, paymentStatus, id);
         if (rowsAffected == 0) {
@@ -7,7 +7,6 @@ import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.OffsetDateTime;
@@ -27,7 +26,6 @@ public class PaymentMethodRepositoryImpl implements PaymentMethodRepository {
     }
 
     @Override
-    @Transactional
     public PaymentMethod save(PaymentMethod pm) {
         String sql = """
             INSERT INTO payment_method (user_id, payment_type, provider, account_number, expiry_date, created_at)
@@ -41,7 +39,6 @@ public class PaymentMethodRepositoryImpl implements PaymentMethodRepository {
     }
 
     @Override
-    @Transactional
     public PaymentMethod update(PaymentMethod pm) {
         String sql = """
             UPDATE payment_method
@@ -59,7 +56,6 @@ public class PaymentMethodRepositoryImpl implements PaymentMethodRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<PaymentMethod> findById(UUID id) {
         String sql = "SELECT * FROM payment_method WHERE id = ?";
         try {
@@ -70,7 +66,6 @@ public class PaymentMethodRepositoryImpl implements PaymentMethodRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<PaymentMethod> findByUserId(UUID userId, int page, int size) {
         JdbcUtils.validatePagination(page, size);
         String sql = "SELECT * FROM payment_method WHERE user_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?";
@@ -78,7 +73,6 @@ public class PaymentMethodRepositoryImpl implements PaymentMethodRepository {
     }
 
     @Override
-    @Transactional
     public void deleteById(UUID id) {
         String sql = "DELETE FROM payment_method WHERE id = ?";
         int rows = jdbcTemplate.update(sql, id);
@@ -7,7 +7,6 @@ import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.OffsetDateTime;
@@ -27,7 +26,6 @@ public class ShippingMethodRepositoryImpl implements ShippingMethodRepository {
     }
 
     @Override
-    @Transactional
     public ShippingMethod save(ShippingMethod shippingMethod) {
         String sql = """
             INSERT INTO shipping_method (name, description, price, estimated_days, created_at)
@@ -46,7 +44,6 @@ public class ShippingMethodRepositoryImpl implements ShippingMethodRepository {
     }
 
     @Override
-    @Transactional
     public ShippingMethod update(ShippingMethod shippingMethod) {
         String sql = """
             UPDATE shipping_method
@@ -71,7 +68,6 @@ public class ShippingMethodRepositoryImpl implements ShippingMethodRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<ShippingMethod> findById(UUID id) {
         String sql = "SELECT * FROM shipping_method WHERE id = ?";
         try {
@@ -83,7 +79,6 @@ public class ShippingMethodRepositoryImpl implements ShippingMethodRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ShippingMethod> findAll(int page, int size) {
         JdbcUtils.validatePagination(page, size);
         String sql = "SELECT * FROM shipping_method ORDER BY created_at DESC LIMIT ? OFFSET ?";
@@ -92,7 +87,6 @@ public class ShippingMethodRepositoryImpl implements ShippingMethodRepository {
     }
 
     @Override
-    @Transactional
     public void deleteById(UUID id) {
         String sql = "DELETE FROM shipping_method WHERE id = ?";
         int rows = jdbcTemplate.update(sql, id);
@@ -100,10 +94,7 @@ public class ShippingMethodRepositoryImpl implements ShippingMethodRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
-        String sql = "SELECT COUNT(*) FROM shipping_method WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM shipping_method WHERE id = ?", id);
     }
 }
@@ -0,0 +1,115 @@
+package com.miracle.smart_ecommerce_api_v1.domain.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered, collision-free order numbers, e.g. {@code ORD-0C4Z7RQ2M1K0J}.
+ *
+ * Each number is a 63-bit Snowflake-style id: 41 bits of milliseconds since {@link #EPOCH},
+ * a 10-bit node id ({@code app.orders.node-id}, unique per running instance) and a 12-bit
+ * per-millisecond sequence, written as 13 Crockford base-32 characters so the text sorts in
+ * creation order. Generation is a single CAS: when the sequence runs out within a millisecond
+ * the carry moves into the next one, and a clock that steps backwards just keeps counting from
+ * the last id, so neither case repeats a number within one running process.
+ *
+ * Beyond that, uniqueness rests on every instance having its own node id, which is why the
+ * property has no default outside the dev profile, and on the clock being past the last id
+ * issued before a restart: restarting while the clock is behind it can reissue numbers, which
+ * the UNIQUE constraint on customer_order.order_number then rejects.
+ */
+@Component
+@Slf4j
+public class OrderNumberGenerator {
+
+    public static final String PREFIX = "ORD-";
+
+    /** 2024-01-01T00:00:00Z; 41 bits of milliseconds last until 2093 */
+    static final long EPOCH = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final int LENGTH = 13;
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long node;
+    private final LongSupplier clock;
+
+    // Last issued (milliseconds since EPOCH << SEQUENCE_BITS | sequence)
+    private final AtomicLong last = new AtomicLong();
+
+    @Autowired
+    public OrderNumberGenerator(@Value("${app.orders.node-id:}") String nodeId) {
+        this(parseNodeId(nodeId));
+    }
+
+    OrderNumberGenerator(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    OrderNumberGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.orders.node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = nodeId;
+        this.clock = clock;
+        log.info("Order numbers: node id {}", nodeId);
+    }
+
+    private static int parseNodeId(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalStateException("app.orders.node-id (ORDER_NODE_ID) is not set; give every running instance "
+                    + "its own value between 0 and " + MAX_NODE_ID);
+        }
+        try {
+            return Integer.parseInt(nodeId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("app.orders.node-id must be a number between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+    }
+
+    /**
+     * Next order number, e.g. {@code ORD-0C4Z7RQ2M1K0J}
+     */
+    public String next() {
+        return PREFIX + encode(nextId());
+    }
+
+    /**
+     * Next raw id; strictly increasing on this node
+     */
+    public long nextId() {
+        long now = (clock.getAsLong() - EPOCH) << SEQUENCE_BITS;
+        long prev;
+        long next;
+        do {
+            prev = last.get();
+            // A new millisecond starts the sequence at zero; otherwise count on from the last id
+            next = now > prev ? now : prev + 1;
+        } while (!last.compareAndSet(prev, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return millis << (NODE_BITS + SEQUENCE_BITS) | node << SEQUENCE_BITS | sequence;
+    }
+
+    /**
+     * Fixed-width Crockford base-32 of a non-negative id; lexical order matches numeric order
+     */
+    static String encode(long id) {
+        char[] out = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            out[i] = CROCKFORD[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(out);
+    }
+}
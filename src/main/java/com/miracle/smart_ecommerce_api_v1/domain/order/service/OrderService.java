@@ -1,10 +1,13 @@
 package com.miracle.smart_ecommerce_api_v1.domain.order.service;
 
+import com.miracle.smart_ecommerce_api_v1.common.export.ExportFormat;
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.order.dto.CreateOrderRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.order.dto.OrderResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.order.dto.UpdateOrderRequest;
 
+import java.io.OutputStream;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -76,4 +79,9 @@ public interface OrderService {
      * Count orders by status
      */
     long countOrdersByStatus(String status);
+
+    /**
+     * Stream orders with their items (optionally only those updated since a point in time) to the output
+     */
+    void exportOrders(OutputStream out, ExportFormat format, OffsetDateTime since);
 }
@@ -1,6 +1,11 @@
 package com.miracle.smart_ecommerce_api_v1.domain.order.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miracle.smart_ecommerce_api_v1.common.export.ExportFormat;
+import com.miracle.smart_ecommerce_api_v1.common.export.ExportWriter;
+import com.miracle.smart_ecommerce_api_v1.common.export.RawJson;
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
+import com.miracle.smart_ecommerce_api_v1.common.util.ParallelReads;
 import com.miracle.smart_ecommerce_api_v1.domain.order.entity.CustomerOrder;
 import com.miracle.smart_ecommerce_api_v1.domain.order.entity.CustomerOrder.OrderStatus;
 import com.miracle.smart_ecommerce_api_v1.domain.order.entity.CustomerOrder.PaymentStatus;
@@ -9,8 +14,10 @@ import com.miracle.smart_ecommerce_api_v1.domain.order.repository.OrderItemRepos
 import com.miracle.smart_ecommerce_api_v1.domain.order.repository.OrderRepository;
 import com.miracle.smart_ecommerce_api_v1.domain.order.repository.ShippingMethodRepository;
 import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.ProductSummary;
 import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
+import com.miracle.smart_ecommerce_api_v1.domain.user.entity.UserSummary;
 import com.miracle.smart_ecommerce_api_v1.domain.order.dto.CreateOrderRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.order.dto.OrderResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.order.dto.UpdateOrderRequest;
@@ -26,9 +33,15 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -49,6 +62,13 @@ public class OrderServiceImpl implements OrderService {
     private final ProductRepository productRepository;
     private final ShippingMethodRepository shippingMethodRepository;
     private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final ParallelReads parallelReads;
+
+    private static final List<String> EXPORT_COLUMNS = List.of("id", "order_number", "user_id", "status",
+            "payment_status", "payment_method_id", "shipping_method_id", "subtotal", "total_amount", "items",
+            "created_at", "updated_at");
 
     @Override
     @Transactional
@@ -60,7 +80,7 @@ public class OrderServiceImpl implements OrderService {
                 .orElseThrow(() -> ResourceNotFoundException.forResource("User", request.getUserId()));
 
         // Generate order number
-        String orderNumber = CustomerOrder.generateOrderNumber();
+        String orderNumber = orderNumberGenerator.next();
 
         // Calculate order totals from items
         BigDecimal subtotal = BigDecimal.ZERO;
@@ -115,19 +135,19 @@ public class OrderServiceImpl implements OrderService {
         CustomerOrder savedOrder = orderRepository.save(order);
         log.info("Order created with ID: {} and order number: {}", savedOrder.getId(), orderNumber);
 
-        // Save order items
+        // Save order items in one batch
         for (OrderItem item : orderItems) {
             item.setOrderId(savedOrder.getId());
-            orderItemRepository.save(item);
         }
+        orderItemRepository.saveAll(orderItems);
 
         // Update product stock
         for (CreateOrderRequest.OrderItemRequest itemRequest : request.getItems()) {
             productRepository.updateStock(itemRequest.getProductId(), -itemRequest.getQuantity());
         }
 
-        // Load items for response
-        savedOrder.setOrderItems(orderItemRepository.findByOrderId(savedOrder.getId()));
+        // saveAll assigned the ids, so the items need no reload
+        savedOrder.setOrderItems(orderItems);
         savedOrder.setUser(user);
         savedOrder.setShippingMethod(shippingMethod);
 
@@ -151,7 +171,6 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     @Cacheable(value = ORDERS_CACHE, key = "'id:' + #id")
     public OrderResponse getOrderById(UUID id) {
         log.debug("Getting order by ID: {}", id);
@@ -161,7 +180,6 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public OrderResponse getOrderByOrderNumber(String orderNumber) {
         log.debug("Getting order by order number: {}", orderNumber);
         CustomerOrder order = orderRepository.findByOrderNumber(orderNumber)
@@ -170,45 +188,34 @@ public class OrderServiceImpl implements OrderService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public PageResponse<OrderResponse> getAllOrders(int page, int size) {
         log.debug("Getting all orders - page: {}, size: {}", page, size);
-        List<CustomerOrder> orders = orderRepository.findAll(page, size);
-        long total = orderRepository.count();
+        // The page (with its items and customers) and the count are independent; each leg is one read-only transaction
+        ParallelReads.Both<List<OrderResponse>, Long> pageAndTotal = parallelReads.both(
+                () -> mapToResponsesWithDetails(orderRepository.findAll(page, size)),
+                () -> orderRepository.count());
 
-        List<OrderResponse> responses = orders.stream()
-                .map(this::mapToResponseWithDetails)
-                .collect(Collectors.toList());
-
-        return PageResponse.of(responses, page, size, total);
+        return PageResponse.of(pageAndTotal.first(), page, size, pageAndTotal.second());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public PageResponse<OrderResponse> getOrdersByUserId(UUID userId, int page, int size) {
         log.debug("Getting orders for user: {} - page: {}, size: {}", userId, page, size);
-        List<CustomerOrder> orders = orderRepository.findByUserId(userId, page, size);
-        long total = orderRepository.countByUserId(userId);
-
-        List<OrderResponse> responses = orders.stream()
-                .map(this::mapToResponseWithDetails)
-                .collect(Collectors.toList());
+        ParallelReads.Both<List<OrderResponse>, Long> pageAndTotal = parallelReads.both(
+                () -> mapToResponsesWithDetails(orderRepository.findByUserId(userId, page, size)),
+                () -> orderRepository.countByUserId(userId));
 
-        return PageResponse.of(responses, page, size, total);
+        return PageResponse.of(pageAndTotal.first(), page, size, pageAndTotal.second());
     }
 
     @Override
-    @Transactional(readOnly = true)
     public PageResponse<OrderResponse> getOrdersByStatus(String status, int page, int size) {
         log.debug("Getting orders by status: {} - page: {}, size: {}", status, page, size);
-        List<CustomerOrder> orders = orderRepository.findByStatus(status.toLowerCase(), page, size);
-        long total = orderRepository.countByStatus(status.toLowerCase());
-
-        List<OrderResponse> responses = orders.stream()
-                .map(this::mapToResponseWithDetails)
-                .collect(Collectors.toList());
+        ParallelReads.Both<List<OrderResponse>, Long> pageAndTotal = parallelReads.both(
+                () -> mapToResponsesWithDetails(orderRepository.findByStatus(status.toLowerCase(), page, size)),
+                () -> orderRepository.countByStatus(status.toLowerCase()));
 
-        return PageResponse.of(responses, page, size, total);
+        return PageResponse.of(pageAndTotal.first(), page, size, pageAndTotal.second());
     }
 
     @Override
@@ -233,9 +240,8 @@ public class OrderServiceImpl implements OrderService {
 
         orderRepository.updateStatus(id, status.toLowerCase());
 
-        // Refresh order
-        order = orderRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.forResource("Order", id));
+        // Status updates touch no other column, so apply them in memory instead of reloading
+        order.setStatus(status.toLowerCase());
 
         log.info("Order status updated successfully: {}", id);
         OrderResponse response = mapToResponseWithDetails(order);
@@ -273,11 +279,9 @@ public class OrderServiceImpl implements OrderService {
         if ("paid".equalsIgnoreCase(paymentStatus) &&
             OrderStatus.PENDING.name().equalsIgnoreCase(order.getStatus())) {
             orderRepository.updateStatus(id, OrderStatus.CONFIRMED.name().toLowerCase());
+            order.setStatus(OrderStatus.CONFIRMED.name().toLowerCase());
         }
-
-        // Refresh order
-        order = orderRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.forResource("Order", id));
+        order.setPaymentStatus(paymentStatus.toLowerCase());
 
         log.info("Payment status updated successfully for order: {}", id);
         OrderResponse response = mapToResponseWithDetails(order);
@@ -328,9 +332,7 @@ public class OrderServiceImpl implements OrderService {
             }
         }
 
-        // Refresh order
-        order = orderRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.forResource("Order", id));
+        order.setStatus(OrderStatus.CANCELLED.name().toLowerCase());
 
         log.info("Order cancelled successfully: {}", id);
         OrderResponse response = mapToResponseWithDetails(order);
@@ -393,15 +395,35 @@ public class OrderServiceImpl implements OrderService {
         return orderRepository.countByStatus(status.toLowerCase());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportOrders(OutputStream out, ExportFormat format, OffsetDateTime since) {
+        log.info("Exporting orders - format: {}, since: {}", format, since);
+        try (ExportWriter writer = ExportWriter.open(out, format, EXPORT_COLUMNS, objectMapper)) {
+            orderRepository.streamForExport(since, (order, items) -> writer.write(
+                    order.getId(), order.getOrderNumber(), order.getUserId(), order.getStatus(),
+                    order.getPaymentStatus(), order.getPaymentMethodId(), order.getShippingMethodId(),
+                    order.getSubtotal(), order.getTotal(), new RawJson(items),
+                    order.getCreatedAt(), order.getUpdatedAt()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // ========================================================================
     // Helper Methods
     // ========================================================================
 
     private OrderResponse mapToResponse(CustomerOrder order) {
+        return mapToResponse(order, order.getUser() != null ? order.getUser().getFullName() : null,
+                findProductNames(order.getOrderItems()));
+    }
+
+    private OrderResponse mapToResponse(CustomerOrder order, String customerName, Map<UUID, String> productNames) {
         return OrderResponse.builder()
                 .id(order.getId())
                 .userId(order.getUserId())
-                .customerName(order.getUser() != null ? order.getUser().getFullName() : null)
+                .customerName(customerName)
                 .orderNumber(order.getOrderNumber())
                 .status(order.getStatus())
                 .paymentStatus(order.getPaymentStatus())
@@ -411,40 +433,67 @@ public class OrderServiceImpl implements OrderService {
                 .total(order.getTotal())
                 .itemCount(order.getItemCount())
                 .createdAt(order.getCreatedAt())
-                .items(mapOrderItems(order.getOrderItems()))
+                .items(mapOrderItems(order.getOrderItems(), productNames))
                 .shippingMethod(mapShippingMethod(order.getShippingMethod()))
                 .build();
     }
 
     private OrderResponse mapToResponseWithDetails(CustomerOrder order) {
-        // Load order items
-        List<OrderItem> items = orderItemRepository.findByOrderId(order.getId());
-        order.setOrderItems(items);
-
-        // Load user
-        userRepository.findById(order.getUserId()).ifPresent(order::setUser);
+        return mapToResponsesWithDetails(List.of(order)).get(0);
+    }
 
-        // Load shipping method
-        if (order.getShippingMethodId() != null) {
-            // shipping method loader not implemented fully; keep transient if available
-            // shipping method may be loaded elsewhere
+    /**
+     * Map a page of orders with their items, customer names and product names,
+     * loaded with one query each for the whole page rather than per order.
+     */
+    private List<OrderResponse> mapToResponsesWithDetails(List<CustomerOrder> orders) {
+        if (orders.isEmpty()) {
+            return new ArrayList<>();
         }
+        Map<UUID, List<OrderItem>> itemsByOrder = orderItemRepository.findByOrderIds(
+                        orders.stream().map(CustomerOrder::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+        Map<UUID, String> customerNames = userRepository.findSummariesByIds(
+                        orders.stream().map(CustomerOrder::getUserId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserSummary::getId, UserSummary::getFullName, (a, b) -> a));
+        Map<UUID, String> productNames = findProductNames(itemsByOrder.values().stream()
+                .flatMap(List::stream)
+                .toList());
+
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        for (CustomerOrder order : orders) {
+            order.setOrderItems(itemsByOrder.getOrDefault(order.getId(), new ArrayList<>()));
+            responses.add(mapToResponse(order, customerNames.get(order.getUserId()), productNames));
+        }
+        return responses;
+    }
 
-        return mapToResponse(order);
+    /**
+     * Product names for all given items in one projection query
+     */
+    private Map<UUID, String> findProductNames(List<OrderItem> items) {
+        if (items == null || items.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findSummariesByIds(
+                        items.stream().map(OrderItem::getProductId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(ProductSummary::getId, ProductSummary::getName));
     }
 
-    private List<OrderResponse.OrderItemResponse> mapOrderItems(List<OrderItem> items) {
+    private List<OrderResponse.OrderItemResponse> mapOrderItems(List<OrderItem> items, Map<UUID, String> productNames) {
         if (items == null || items.isEmpty()) {
             return new ArrayList<>();
         }
         return items.stream()
                 .map(item -> {
-                    // Fetch product details for name/sku
-                    Product product = productRepository.findById(item.getProductId()).orElse(null);
+                    String productName = productNames.get(item.getProductId());
                     return OrderResponse.OrderItemResponse.builder()
                             .id(item.getId())
                             .productId(item.getProductId())
-                            .productName(product != null ? product.getName() : null)
+                            .productName(productName)
                             .unitPrice(item.getUnitPrice())
                             .quantity(item.getQuantity())
                             .totalPrice(item.getTotalPrice())
@@ -602,17 +651,8 @@ public class OrderServiceImpl implements OrderService {
                 productRepository.updateStock(pid, delta);
             }
 
-            // Persist item changes: delete all existing and re-insert resultingItems for simplicity
-            orderItemRepository.deleteByOrderId(id);
-            for (OrderItem item : resultingItems) {
-                item.setOrderId(id);
-                OrderItem saved = orderItemRepository.save(item);
-                // update id if needed
-                item.setId(saved.getId());
-            }
-
-            // attach items to order
-            order.setOrderItems(resultingItems);
+            // Persist item changes: only added, changed and dropped lines are written
+            order.setOrderItems(orderItemRepository.replaceItems(id, resultingItems));
 
             // Recalculate subtotal/total with shipping
             BigDecimal newSubtotal = resultingItems.stream()
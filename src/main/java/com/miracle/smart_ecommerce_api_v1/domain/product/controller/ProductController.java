@@ -1,7 +1,10 @@
 package com.miracle.smart_ecommerce_api_v1.domain.product.controller;
 
+import com.miracle.smart_ecommerce_api_v1.common.export.ExportFormat;
+import com.miracle.smart_ecommerce_api_v1.common.export.ExportLimiter;
 import com.miracle.smart_ecommerce_api_v1.common.response.ApiResponse;
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.AdminAccess;
 import com.miracle.smart_ecommerce_api_v1.domain.product.dto.CreateProductRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.product.dto.ProductResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.product.service.ProductService;
@@ -9,12 +12,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -26,9 +34,11 @@ import java.util.UUID;
 public class ProductController {
 
     private final ProductService productService;
+    private final ExportLimiter exportLimiter;
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, ExportLimiter exportLimiter) {
         this.productService = productService;
+        this.exportLimiter = exportLimiter;
     }
 
     @PostMapping
@@ -44,6 +54,22 @@ public class ProductController {
                 .body(ApiResponse.created(product, "Product created successfully"));
     }
 
+    @GetMapping("/export")
+    @Operation(summary = "Export products", description = "Streams every product as NDJSON or CSV; pass since (ISO-8601) for products updated at or after that time. Admin only; 503 while too many exports are running")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @Parameter(description = "ndjson or csv") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(description = "Only rows updated at or after this time")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
+            HttpServletRequest request) {
+        AdminAccess.requireAdmin(request);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = exportLimiter.limit(out -> productService.exportProducts(out, exportFormat, since));
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportFormat.fileName("products") + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get product by ID", description = "Retrieves a product by its unique ID")
     public ResponseEntity<ApiResponse<ProductResponse>> getProductById(
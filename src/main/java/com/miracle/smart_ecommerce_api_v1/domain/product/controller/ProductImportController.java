@@ -0,0 +1,57 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.controller;
+
+import com.miracle.smart_ecommerce_api_v1.common.response.ApiResponse;
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.AdminAccess;
+import com.miracle.smart_ecommerce_api_v1.domain.product.dto.ProductImportJobResponse;
+import com.miracle.smart_ecommerce_api_v1.domain.product.service.ProductImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.UUID;
+
+/**
+ * REST Controller for bulk product imports. Admin only.
+ */
+@RestController
+@RequestMapping("/api/products/import")
+@Tag(name = "Product Import", description = "Bulk product import APIs")
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+
+    public ProductImportController(ProductImportService productImportService) {
+        this.productImportService = productImportService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import products",
+            description = "Queues a CSV or NDJSON file for import. Columns/fields: sku, name, description, price, "
+                    + "stock_quantity, category (name or id), is_active, images ('|'-separated or JSON array). "
+                    + "Existing products are updated by SKU. Admin only.")
+    public ResponseEntity<ApiResponse<ProductImportJobResponse>> importProducts(
+            @RequestParam("file") MultipartFile file,
+            @Parameter(description = "csv or ndjson; inferred from the file name when omitted")
+            @RequestParam(required = false) String format,
+            HttpServletRequest request) {
+        AdminAccess.requireAdmin(request);
+        ProductImportJobResponse job = productImportService.submit(file, format);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(job, "Import queued"));
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get import status", description = "Returns progress, throughput and rejected rows of an import job")
+    public ResponseEntity<ApiResponse<ProductImportJobResponse>> getImportJob(
+            @Parameter(description = "Import job ID") @PathVariable UUID jobId,
+            HttpServletRequest request) {
+        AdminAccess.requireAdmin(request);
+        return ResponseEntity.ok(ApiResponse.success(productImportService.getJob(jobId)));
+    }
+}
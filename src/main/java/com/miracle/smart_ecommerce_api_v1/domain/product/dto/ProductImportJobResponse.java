@@ -0,0 +1,36 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a bulk product import job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportJobResponse {
+
+    private UUID jobId;
+    private String filename;
+    private String format;
+    private String status;
+    private int percentComplete;
+    private long rowsRead;
+    private long rowsInserted;
+    private long rowsUpdated;
+    private long rowsRejected;
+    private double rowsPerSecond;
+    private List<String> errors;
+    private String failureReason;
+    private OffsetDateTime submittedAt;
+    private OffsetDateTime startedAt;
+    private OffsetDateTime finishedAt;
+}
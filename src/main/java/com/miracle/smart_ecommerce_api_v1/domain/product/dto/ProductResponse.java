@@ -1,5 +1,6 @@
 package com.miracle.smart_ecommerce_api_v1.domain.product.dto;
 
+import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ProductRatingResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,12 +23,14 @@ public class ProductResponse {
     private UUID id;
     private UUID categoryId;
     private String name;
+    private String sku;
     private String description;
     private BigDecimal price;
     private Integer stockQuantity;
     private Boolean isActive;
     private Boolean inStock;
     private List<String> images;
+    private ProductRatingResponse rating;
     private OffsetDateTime createdAt;
     private OffsetDateTime updatedAt;
 }
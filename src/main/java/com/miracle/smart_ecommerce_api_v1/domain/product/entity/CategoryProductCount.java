@@ -0,0 +1,22 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Number of products, and of active products, in one category.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryProductCount {
+
+    private UUID categoryId;
+    private long productCount;
+    private long activeProductCount;
+}
@@ -19,7 +19,7 @@ import java.util.UUID;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @EqualsAndHashCode(callSuper = true)
 public class Product extends BaseModel {
 
@@ -30,6 +30,10 @@ public class Product extends BaseModel {
     @Size(min = 2, max = 255, message = "Product name must be between 2 and 255 characters")
     private String name;
 
+    // Merchant stock-keeping unit; natural key for bulk imports
+    @Size(max = 100, message = "SKU cannot exceed 100 characters")
+    private String sku;
+
     @Size(max = 2000, message = "Description cannot exceed 2000 characters")
     private String description;
 
@@ -0,0 +1,38 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Lightweight product read model for list pages and cart/order hydration.
+ * Omits the description and carries only the primary image instead of the full images array.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSummary {
+
+    private UUID id;
+    private UUID categoryId;
+    private String name;
+    private BigDecimal price;
+    private Integer stockQuantity;
+    private Boolean isActive;
+    private String primaryImage;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+
+    /**
+     * Check if product is in stock
+     */
+    public boolean isInStock() {
+        return stockQuantity != null && stockQuantity > 0;
+    }
+}
@@ -0,0 +1,126 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.importer;
+
+import com.miracle.smart_ecommerce_api_v1.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader. The first record is the header; quoted fields may span lines.
+ */
+class CsvProductImportReader implements ProductImportReader {
+
+    private final BufferedReader in;
+    private final String[] header;
+    private long line = 1;
+
+    CsvProductImportReader(BufferedReader in) throws IOException {
+        this.in = in;
+        List<String> columns = readRecord();
+        if (columns == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+        this.header = new String[columns.size()];
+        for (int i = 0; i < header.length; i++) {
+            String name = columns.get(i).trim().toLowerCase(Locale.ROOT);
+            // Excel writes a byte-order mark in front of the first column name
+            header[i] = i == 0 && name.startsWith("\uFEFF") ? name.substring(1) : name;
+        }
+    }
+
+    @Override
+    public ProductImportRecord next() throws IOException {
+        while (true) {
+            long start = line;
+            List<String> values;
+            try {
+                values = readRecord();
+            } catch (IllegalStateException e) {
+                return ProductImportRecord.malformed(start, e.getMessage());
+            }
+            if (values == null) {
+                return null;
+            }
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue;
+            }
+            if (values.size() != header.length) {
+                return ProductImportRecord.malformed(start,
+                        "Expected " + header.length + " columns but found " + values.size());
+            }
+            Map<String, String> fields = HashMap.newHashMap(header.length);
+            for (int i = 0; i < header.length; i++) {
+                fields.put(header[i], values.get(i));
+            }
+            return ProductImportRecord.of(start, fields);
+        }
+    }
+
+    /**
+     * Read one record, or null at end of input.
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        boolean any = false;
+
+        int c;
+        while ((c = in.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            in.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+            } else if (c == '\n') {
+                line++;
+                values.add(field.toString());
+                return values;
+            } else if (c != '\r') {
+                field.append((char) c);
+                fieldStart = false;
+            }
+        }
+        if (quoted) {
+            // The rest of the file is swallowed by the open quote; nothing after it is trustworthy
+            throw new IllegalStateException("Unterminated quoted field");
+        }
+        if (!any) {
+            return null;
+        }
+        values.add(field.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.importer;
+
+import com.miracle.smart_ecommerce_api_v1.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * Supported bulk import file formats.
+ */
+public enum ImportFormat {
+
+    CSV,
+    NDJSON;
+
+    /**
+     * Resolve the format from an explicit parameter, falling back to the file extension.
+     */
+    public static ImportFormat resolve(String format, String filename) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported import format: " + format);
+            }
+        }
+        String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new BadRequestException("Cannot infer import format from file name; pass format=csv or format=ndjson");
+    }
+}
@@ -0,0 +1,65 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Newline-delimited JSON reader: one product object per line.
+ * Array values (images) are kept as JSON text; scalars as their text value.
+ */
+class NdjsonProductImportReader implements ProductImportReader {
+
+    private final BufferedReader in;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    NdjsonProductImportReader(BufferedReader in, ObjectMapper objectMapper) {
+        this.in = in;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductImportRecord next() throws IOException {
+        String text;
+        while ((text = in.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return ProductImportRecord.malformed(line, "Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return ProductImportRecord.malformed(line, "Expected a JSON object");
+            }
+            Map<String, String> fields = HashMap.newHashMap(node.size());
+            Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+            while (it.hasNext()) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                JsonNode value = entry.getValue();
+                if (!value.isNull()) {
+                    fields.put(entry.getKey().toLowerCase(Locale.ROOT),
+                            value.isContainerNode() ? value.toString() : value.asText());
+                }
+            }
+            return ProductImportRecord.of(line, fields);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,102 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.importer;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one bulk import. Written by the import thread, read by status requests.
+ */
+@Getter
+public class ProductImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final UUID id = UUID.randomUUID();
+    private final String filename;
+    private final ImportFormat format;
+    private final long totalBytes;
+    private final int maxErrors;
+    private final OffsetDateTime submittedAt = OffsetDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile OffsetDateTime startedAt;
+    private volatile OffsetDateTime finishedAt;
+    private volatile String failureReason;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong rowsInserted = new AtomicLong();
+    private final AtomicLong rowsUpdated = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+
+    // Capped so a file of garbage cannot grow the job without bound
+    private final List<String> errors = new ArrayList<>();
+
+    public ProductImportJob(String filename, ImportFormat format, long totalBytes, int maxErrors) {
+        this.filename = filename;
+        this.format = format;
+        this.totalBytes = totalBytes;
+        this.maxErrors = maxErrors;
+    }
+
+    public void start() {
+        startedAt = OffsetDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    public void complete() {
+        finishedAt = OffsetDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    public void fail(String reason) {
+        failureReason = reason;
+        finishedAt = OffsetDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public void reject(long lineNumber, String reason) {
+        rowsRejected.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add("line " + lineNumber + ": " + reason);
+            }
+        }
+    }
+
+    public List<String> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    /**
+     * Rows read per second of run time so far.
+     */
+    public double getRowsPerSecond() {
+        OffsetDateTime start = startedAt;
+        if (start == null) {
+            return 0;
+        }
+        OffsetDateTime end = finishedAt != null ? finishedAt : OffsetDateTime.now();
+        long millis = Math.max(1, Duration.between(start, end).toMillis());
+        return rowsRead.get() * 1000.0 / millis;
+    }
+
+    public int getPercentComplete() {
+        if (status == Status.COMPLETED) {
+            return 100;
+        }
+        return totalBytes > 0 ? (int) Math.min(99, bytesRead.get() * 100 / totalBytes) : 0;
+    }
+}
@@ -0,0 +1,27 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streaming reader over an import file. Holds at most one record in memory,
+ * so file size does not bound the import.
+ */
+public interface ProductImportReader extends Closeable {
+
+    /**
+     * Read the next record, or null at end of input.
+     */
+    ProductImportRecord next() throws IOException;
+
+    static ProductImportReader open(BufferedReader reader, ImportFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new CsvProductImportReader(reader);
+            case NDJSON -> new NdjsonProductImportReader(reader, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.importer;
+
+import java.util.Map;
+
+/**
+ * One raw record read from an import file, before validation.
+ * Field names are the lower-cased column (CSV) or property (NDJSON) names.
+ *
+ * @param lineNumber 1-based line the record starts on
+ * @param fields     raw values by field name; absent fields are missing from the map
+ * @param error      parse error for this record, or null when it was read cleanly
+ */
+public record ProductImportRecord(long lineNumber, Map<String, String> fields, String error) {
+
+    public static ProductImportRecord of(long lineNumber, Map<String, String> fields) {
+        return new ProductImportRecord(lineNumber, fields, null);
+    }
+
+    public static ProductImportRecord malformed(long lineNumber, String error) {
+        return new ProductImportRecord(lineNumber, Map.of(), error);
+    }
+
+    public String get(String field) {
+        String value = fields.get(field);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
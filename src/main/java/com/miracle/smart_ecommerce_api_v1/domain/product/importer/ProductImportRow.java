@@ -0,0 +1,20 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.importer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A validated import row, ready to be copied into the staging table.
+ */
+public record ProductImportRow(
+        long lineNumber,
+        String sku,
+        UUID categoryId,
+        String name,
+        String description,
+        BigDecimal price,
+        int stockQuantity,
+        boolean isActive,
+        List<String> images) {
+}
@@ -1,9 +1,8 @@
 package com.miracle.smart_ecommerce_api_v1.domain.product.mapper;
 
+import com.miracle.smart_ecommerce_api_v1.common.util.IndexedRowMapper;
 import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
 import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
-import org.springframework.jdbc.core.RowMapper;
-import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import java.sql.ResultSet;
@@ -14,21 +13,39 @@ import java.sql.SQLException;
  * Maps ResultSet rows to Product objects.
  */
 @Component
-public class ProductMapper implements RowMapper<Product> {
+public class ProductMapper extends IndexedRowMapper<Product> {
+
+    private static final int ID = 0;
+    private static final int CATEGORY_ID = 1;
+    private static final int NAME = 2;
+    private static final int DESCRIPTION = 3;
+    private static final int PRICE = 4;
+    private static final int STOCK_QUANTITY = 5;
+    private static final int IS_ACTIVE = 6;
+    private static final int IMAGES = 7;
+    private static final int CREATED_AT = 8;
+    private static final int UPDATED_AT = 9;
+    private static final int SKU = 10;
+
+    public ProductMapper() {
+        super("id", "category_id", "name", "description", "price", "stock_quantity",
+                "is_active", "images", "created_at", "updated_at", "sku");
+    }
 
     @Override
-    public Product mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+    protected Product mapRow(ResultSet rs, int[] col) throws SQLException {
         return Product.builder()
-                .id(JdbcUtils.getUUID(rs, "id"))
-                .categoryId(JdbcUtils.getUUID(rs, "category_id"))
-                .name(rs.getString("name"))
-                .description(rs.getString("description"))
-                .price(rs.getBigDecimal("price"))
-                .stockQuantity(JdbcUtils.getInteger(rs, "stock_quantity"))
-                .isActive(JdbcUtils.getBoolean(rs, "is_active"))
-                .images(JdbcUtils.getStringListFromJsonb(rs, "images"))
-                .createdAt(JdbcUtils.getOffsetDateTime(rs, "created_at"))
-                .updatedAt(JdbcUtils.getOffsetDateTime(rs, "updated_at"))
+                .id(JdbcUtils.getUUID(rs, col[ID]))
+                .categoryId(JdbcUtils.getUUID(rs, col[CATEGORY_ID]))
+                .name(JdbcUtils.getString(rs, col[NAME]))
+                .sku(JdbcUtils.getString(rs, col[SKU]))
+                .description(JdbcUtils.getString(rs, col[DESCRIPTION]))
+                .price(JdbcUtils.getBigDecimal(rs, col[PRICE]))
+                .stockQuantity(JdbcUtils.getInteger(rs, col[STOCK_QUANTITY]))
+                .isActive(JdbcUtils.getBoolean(rs, col[IS_ACTIVE]))
+                .images(JdbcUtils.getStringListFromJsonb(rs, col[IMAGES]))
+                .createdAt(JdbcUtils.getOffsetDateTime(rs, col[CREATED_AT]))
+                .updatedAt(JdbcUtils.getOffsetDateTime(rs, col[UPDATED_AT]))
                 .build();
     }
-}
\ No newline at end of file
+}
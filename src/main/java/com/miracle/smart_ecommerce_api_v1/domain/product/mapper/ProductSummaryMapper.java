@@ -0,0 +1,50 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.mapper;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.IndexedRowMapper;
+import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.ProductSummary;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * RowMapper for the ProductSummary projection.
+ */
+@Component
+public class ProductSummaryMapper extends IndexedRowMapper<ProductSummary> {
+
+    /** Column list matching this mapper; the primary image is extracted in SQL */
+    public static final String COLUMNS =
+            "id, category_id, name, price, stock_quantity, is_active, images ->> 0 AS primary_image, created_at, updated_at";
+
+    private static final int ID = 0;
+    private static final int CATEGORY_ID = 1;
+    private static final int NAME = 2;
+    private static final int PRICE = 3;
+    private static final int STOCK_QUANTITY = 4;
+    private static final int IS_ACTIVE = 5;
+    private static final int PRIMARY_IMAGE = 6;
+    private static final int CREATED_AT = 7;
+    private static final int UPDATED_AT = 8;
+
+    public ProductSummaryMapper() {
+        super("id", "category_id", "name", "price", "stock_quantity", "is_active", "primary_image",
+                "created_at", "updated_at");
+    }
+
+    @Override
+    protected ProductSummary mapRow(ResultSet rs, int[] col) throws SQLException {
+        return ProductSummary.builder()
+                .id(JdbcUtils.getUUID(rs, col[ID]))
+                .categoryId(JdbcUtils.getUUID(rs, col[CATEGORY_ID]))
+                .name(JdbcUtils.getString(rs, col[NAME]))
+                .price(JdbcUtils.getBigDecimal(rs, col[PRICE]))
+                .stockQuantity(JdbcUtils.getInteger(rs, col[STOCK_QUANTITY]))
+                .isActive(JdbcUtils.getBoolean(rs, col[IS_ACTIVE]))
+                .primaryImage(JdbcUtils.getString(rs, col[PRIMARY_IMAGE]))
+                .createdAt(JdbcUtils.getOffsetDateTime(rs, col[CREATED_AT]))
+                .updatedAt(JdbcUtils.getOffsetDateTime(rs, col[UPDATED_AT]))
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.repository;
+
+import com.miracle.smart_ecommerce_api_v1.domain.product.importer.ProductImportRow;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Bulk product loading through a staging table.
+ */
+public interface ProductImportRepository {
+
+    /**
+     * Run an import on one dedicated connection with an empty staging table.
+     * The session is only valid inside the callback.
+     */
+    void withStagingSession(StagingCallback callback);
+
+    /**
+     * Loads chunks of validated rows.
+     */
+    interface StagingSession {
+
+        /**
+         * COPY the rows into staging and upsert them into product by SKU, in one transaction.
+         * When a SKU repeats within the chunk the last line wins.
+         */
+        MergeResult load(List<ProductImportRow> rows);
+    }
+
+    @FunctionalInterface
+    interface StagingCallback {
+        void run(StagingSession session) throws IOException;
+    }
+
+    record MergeResult(long inserted, long updated) {
+    }
+}
@@ -0,0 +1,185 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.repository;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.JsonbArrayCodec;
+import com.miracle.smart_ecommerce_api_v1.domain.product.importer.ProductImportRow;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * PostgreSQL implementation of ProductImportRepository.
+ * Rows are streamed into a temporary staging table with COPY, then merged into
+ * product with a single INSERT ... ON CONFLICT per chunk.
+ */
+@Repository
+@Slf4j
+public class ProductImportRepositoryImpl implements ProductImportRepository {
+
+    // ON COMMIT DELETE ROWS empties staging after every chunk's commit
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE IF NOT EXISTS product_import_staging (
+                line_no        BIGINT NOT NULL,
+                sku            VARCHAR(100) NOT NULL,
+                category_id    UUID NOT NULL,
+                name           VARCHAR(255) NOT NULL,
+                description    TEXT,
+                price          NUMERIC(12, 2) NOT NULL,
+                stock_quantity INTEGER NOT NULL,
+                is_active      BOOLEAN NOT NULL,
+                images         JSONB NOT NULL
+            ) ON COMMIT DELETE ROWS
+            """;
+
+    private static final String COPY_SQL = """
+            COPY product_import_staging
+                (line_no, sku, category_id, name, description, price, stock_quantity, is_active, images)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    // xmax = 0 only for freshly inserted tuples, which splits inserts from updates
+    private static final String MERGE_SQL = """
+            WITH merged AS (
+                INSERT INTO product (sku, category_id, name, description, price, stock_quantity,
+                                     is_active, images, created_at, updated_at)
+                SELECT DISTINCT ON (sku) sku, category_id, name, description, price, stock_quantity,
+                       is_active, images, ?, ?
+                FROM product_import_staging
+                ORDER BY sku, line_no DESC
+                ON CONFLICT (sku) DO UPDATE
+                SET category_id = EXCLUDED.category_id,
+                    name = EXCLUDED.name,
+                    description = EXCLUDED.description,
+                    price = EXCLUDED.price,
+                    stock_quantity = EXCLUDED.stock_quantity,
+                    is_active = EXCLUDED.is_active,
+                    images = EXCLUDED.images,
+                    updated_at = EXCLUDED.updated_at
+                RETURNING (xmax = 0) AS inserted
+            )
+            SELECT COUNT(*) FILTER (WHERE inserted), COUNT(*) FILTER (WHERE NOT inserted)
+            FROM merged
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductImportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void withStagingSession(StagingCallback callback) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            CopyManager copyManager = con.unwrap(PGConnection.class).getCopyAPI();
+            boolean autoCommit = con.getAutoCommit();
+            try (Statement st = con.createStatement()) {
+                st.execute(CREATE_STAGING_SQL);
+            }
+            con.setAutoCommit(false);
+            try {
+                callback.run(rows -> load(con, copyManager, rows));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                dropStaging(con, autoCommit);
+            }
+            return null;
+        });
+    }
+
+    private MergeResult load(Connection con, CopyManager copyManager, List<ProductImportRow> rows) {
+        if (rows.isEmpty()) {
+            return new MergeResult(0, 0);
+        }
+        try {
+            copyManager.copyIn(COPY_SQL, new StringReader(toCsv(rows)));
+
+            MergeResult result;
+            Timestamp now = Timestamp.from(Instant.now());
+            try (PreparedStatement ps = con.prepareStatement(MERGE_SQL)) {
+                ps.setTimestamp(1, now);
+                ps.setTimestamp(2, now);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                    result = new MergeResult(rs.getLong(1), rs.getLong(2));
+                }
+            }
+            con.commit();
+            return result;
+        } catch (SQLException e) {
+            rollbackQuietly(con);
+            throw jdbcTemplate.getExceptionTranslator().translate("product import merge", MERGE_SQL, e);
+        } catch (IOException e) {
+            rollbackQuietly(con);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Render a chunk in COPY's CSV format. An unquoted empty field is NULL.
+     */
+    private static String toCsv(List<ProductImportRow> rows) {
+        StringBuilder sb = new StringBuilder(rows.size() * 256);
+        for (ProductImportRow row : rows) {
+            sb.append(row.lineNumber()).append(',');
+            appendQuoted(sb, row.sku()).append(',');
+            sb.append(row.categoryId()).append(',');
+            appendQuoted(sb, row.name()).append(',');
+            if (row.description() != null) {
+                appendQuoted(sb, row.description());
+            }
+            sb.append(',');
+            sb.append(row.price().toPlainString()).append(',');
+            sb.append(row.stockQuantity()).append(',');
+            sb.append(row.isActive()).append(',');
+            appendQuoted(sb, JsonbArrayCodec.encode(row.images())).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static StringBuilder appendQuoted(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        return sb.append('"');
+    }
+
+    private static void rollbackQuietly(Connection con) {
+        try {
+            con.rollback();
+        } catch (SQLException e) {
+            log.warn("Rollback after failed import chunk failed: {}", e.getMessage());
+        }
+    }
+
+    private static void dropStaging(Connection con, boolean autoCommit) {
+        try {
+            con.setAutoCommit(autoCommit);
+            try (Statement st = con.createStatement()) {
+                st.execute("DROP TABLE IF EXISTS product_import_staging");
+            }
+        } catch (SQLException e) {
+            // The temp table dies with the session anyway; only the pooled connection keeps it alive
+            log.warn("Could not drop import staging table: {}", e.getMessage());
+        }
+    }
+}
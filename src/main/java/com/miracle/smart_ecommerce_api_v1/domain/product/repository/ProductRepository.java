@@ -1,11 +1,16 @@
 package com.miracle.smart_ecommerce_api_v1.domain.product.repository;
 
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.CategoryProductCount;
 import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.ProductSummary;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for Product domain model.
@@ -28,36 +33,53 @@ public interface ProductRepository {
      */
     Optional<Product> findById(UUID id);
 
+    /**
+     * Find product by SKU
+     */
+    Optional<Product> findBySku(String sku);
+
+
+    /**
+     * Stream all products, or only those updated at or after {@code since}, in update order.
+     * Rows come through a server-side cursor and are handed to the action one at a time.
+     * The cursor needs an open transaction; without one the driver reads the whole result.
+     */
+    void streamForExport(OffsetDateTime since, Consumer<Product> action);
+
+    /**
+     * Find product summaries for a set of IDs in a single query (cart/order hydration)
+     */
+    List<ProductSummary> findSummariesByIds(Collection<UUID> ids);
 
     /**
      * Find all products with pagination
      */
-    List<Product> findAll(int page, int size);
+    List<ProductSummary> findAll(int page, int size);
 
     /**
      * Find active products with pagination
      */
-    List<Product> findActiveProducts(int page, int size);
+    List<ProductSummary> findActiveProducts(int page, int size);
 
     /**
      * Find products by category ID
      */
-    List<Product> findByCategoryId(UUID categoryId, int page, int size);
+    List<ProductSummary> findByCategoryId(UUID categoryId, int page, int size);
 
     /**
      * Search products by name or description
      */
-    List<Product> search(String keyword, int page, int size);
+    List<ProductSummary> search(String keyword, int page, int size);
 
     /**
      * Find products by price range
      */
-    List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, int page, int size);
+    List<ProductSummary> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, int page, int size);
 
     /**
      * Find products in stock
      */
-    List<Product> findInStock(int page, int size);
+    List<ProductSummary> findInStock(int page, int size);
 
     /**
      * Delete product by ID
@@ -84,15 +106,21 @@ public interface ProductRepository {
      */
     long countByCategoryId(UUID categoryId);
 
+    /**
+     * Count products and active products per category, in one pass over the table
+     */
+    List<CategoryProductCount> countGroupedByCategory();
+
     /**
      * Update product stock
      */
     void updateStock(UUID productId, int quantity);
 
     /**
-     * Set product active status
+     * Set product active status.
+     * Returns the product's category if the status changed, empty if it already had that status.
      */
-    void setActiveStatus(UUID id, boolean isActive);
+    Optional<UUID> setActiveStatus(UUID id, boolean isActive);
 
     /**
      * Batch insert products
@@ -2,26 +2,34 @@ package com.miracle.smart_ecommerce_api_v1.domain.product.repository;
 
 import java.time.OffsetDateTime;
 
+import com.miracle.smart_ecommerce_api_v1.common.existence.ExistenceFilters;
 import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.common.util.RequestIdentityMap;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.CategoryProductCount;
 import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
 import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.ProductSummary;
 import com.miracle.smart_ecommerce_api_v1.domain.product.mapper.ProductMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.product.mapper.ProductSummaryMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.lang.NonNull;
 
 import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * JDBC implementation of ProductRepository.
@@ -33,15 +41,20 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     private final JdbcTemplate jdbcTemplate;
     private final ProductMapper productRowMapper;
+    private final ProductSummaryMapper summaryRowMapper;
+    private final ExistenceFilters existenceFilters;
 
     public ProductRepositoryImpl(JdbcTemplate jdbcTemplate,
-                                 ProductMapper productRowMapper) {
+                                 ProductMapper productRowMapper,
+                                 ProductSummaryMapper summaryRowMapper,
+                                 ExistenceFilters existenceFilters) {
         this.jdbcTemplate = jdbcTemplate;
         this.productRowMapper = productRowMapper;
+        this.summaryRowMapper = summaryRowMapper;
+        this.existenceFilters = existenceFilters;
     }
 
     @Override
-    @Transactional
     public Product save(Product product) {
         String sql = """
             INSERT INTO product (category_id, name, description, price, stock_quantity, is_active, images, created_at, updated_at)
@@ -51,7 +64,7 @@ public class ProductRepositoryImpl implements ProductRepository {
 
         OffsetDateTime now = OffsetDateTime.now();
         try {
-            return jdbcTemplate.queryForObject(sql, productRowMapper,
+            Product saved = jdbcTemplate.queryForObject(sql, productRowMapper,
                     product.getCategoryId(),
                     product.getName(),
                     product.getDescription(),
@@ -62,6 +75,8 @@ public class ProductRepositoryImpl implements ProductRepository {
                     Timestamp.from(now.toInstant()),
                     Timestamp.from(now.toInstant())
             );
+            existenceFilters.added(ExistenceFilters.Kind.PRODUCTS, saved.getId());
+            return saved;
         } catch (DataAccessException ex) {
             log.error("Failed to save product. categoryId={}, name={}, price={}. Error: {}",
                     product.getCategoryId(), product.getName(), product.getPrice(), ex.getMessage());
@@ -70,8 +85,8 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    @Transactional
     public Product update(Product product) {
+        RequestIdentityMap.evict(Product.class, product.getId());
         String sql = """
             UPDATE product
             SET category_id = ?, name = ?, description = ?, price = ?,
@@ -103,8 +118,21 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Product> findById(UUID id) {
+        return RequestIdentityMap.find(Product.class, id, () -> loadById(id), ProductRepositoryImpl::copy);
+    }
+
+    /**
+     * Independent copy for the request identity map; collections are copied, their elements shared
+     */
+    private static Product copy(Product product) {
+        return product.toBuilder()
+                .images(product.getImages() != null ? new ArrayList<>(product.getImages()) : null)
+                .reviews(product.getReviews() != null ? new ArrayList<>(product.getReviews()) : null)
+                .build();
+    }
+
+    private Optional<Product> loadById(UUID id) {
         String sql = "SELECT * FROM product WHERE id = ?";
         try {
             Product product = jdbcTemplate.queryForObject(sql, productRowMapper, id);
@@ -114,76 +142,103 @@ public class ProductRepositoryImpl implements ProductRepository {
         }
     }
 
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        String sql = "SELECT * FROM product WHERE sku = ?";
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, productRowMapper, sku));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
 
+    @Override
+    public void streamForExport(OffsetDateTime since, Consumer<Product> action) {
+        RowCallbackHandler handler = rs -> action.accept(productRowMapper.mapRow(rs, 0));
+        if (since == null) {
+            jdbcTemplate.query(JdbcUtils.streaming("SELECT * FROM product ORDER BY updated_at, id"), handler);
+        } else {
+            jdbcTemplate.query(JdbcUtils.streaming("SELECT * FROM product WHERE updated_at >= ? ORDER BY updated_at, id",
+                    Timestamp.from(since.toInstant())), handler);
+        }
+    }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<Product> findAll(int page, int size) {
+    public List<ProductSummary> findSummariesByIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT " + ProductSummaryMapper.COLUMNS + " FROM product WHERE id = ANY(?)";
+        Object[] idArray = ids.stream().distinct().toArray();
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", idArray));
+            return ps;
+        }, summaryRowMapper);
+    }
+
+    @Override
+    public List<ProductSummary> findAll(int page, int size) {
         JdbcUtils.validatePagination(page, size);
-        String sql = "SELECT * FROM product ORDER BY created_at DESC LIMIT ? OFFSET ?";
-        return jdbcTemplate.query(sql, productRowMapper, size, JdbcUtils.calculateOffset(page, size));
+        String sql = "SELECT " + ProductSummaryMapper.COLUMNS + " FROM product ORDER BY created_at DESC LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, summaryRowMapper, size, JdbcUtils.calculateOffset(page, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<Product> findActiveProducts(int page, int size) {
+    public List<ProductSummary> findActiveProducts(int page, int size) {
         JdbcUtils.validatePagination(page, size);
-        String sql = "SELECT * FROM product WHERE is_active = true ORDER BY created_at DESC LIMIT ? OFFSET ?";
-        return jdbcTemplate.query(sql, productRowMapper, size, JdbcUtils.calculateOffset(page, size));
+        String sql = "SELECT " + ProductSummaryMapper.COLUMNS + " FROM product WHERE is_active = true ORDER BY created_at DESC LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, summaryRowMapper, size, JdbcUtils.calculateOffset(page, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<Product> findByCategoryId(UUID categoryId, int page, int size) {
+    public List<ProductSummary> findByCategoryId(UUID categoryId, int page, int size) {
         JdbcUtils.validatePagination(page, size);
-        String sql = "SELECT * FROM product WHERE category_id = ? AND is_active = true ORDER BY name LIMIT ? OFFSET ?";
-        return jdbcTemplate.query(sql, productRowMapper, categoryId, size, JdbcUtils.calculateOffset(page, size));
+        String sql = "SELECT " + ProductSummaryMapper.COLUMNS + " FROM product WHERE category_id = ? AND is_active = true ORDER BY name LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, summaryRowMapper, categoryId, size, JdbcUtils.calculateOffset(page, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<Product> search(String keyword, int page, int size) {
+    public List<ProductSummary> search(String keyword, int page, int size) {
         JdbcUtils.validatePagination(page, size);
         String sql = """
-            SELECT * FROM product
+            SELECT %s FROM product
             WHERE is_active = true AND (
                 LOWER(name) LIKE LOWER(?) OR LOWER(description) LIKE LOWER(?)
             )
             ORDER BY name
             LIMIT ? OFFSET ?
-            """;
+            """.formatted(ProductSummaryMapper.COLUMNS);
         String searchPattern = "%" + keyword + "%";
-        return jdbcTemplate.query(sql, productRowMapper,
+        return jdbcTemplate.query(sql, summaryRowMapper,
                 searchPattern, searchPattern,
                 size, JdbcUtils.calculateOffset(page, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<Product> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, int page, int size) {
+    public List<ProductSummary> findByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, int page, int size) {
         JdbcUtils.validatePagination(page, size);
         String sql = """
-            SELECT * FROM product
+            SELECT %s FROM product
             WHERE is_active = true AND price BETWEEN ? AND ?
             ORDER BY price
             LIMIT ? OFFSET ?
-            """;
-        return jdbcTemplate.query(sql, productRowMapper,
+            """.formatted(ProductSummaryMapper.COLUMNS);
+        return jdbcTemplate.query(sql, summaryRowMapper,
                 minPrice, maxPrice,
                 size, JdbcUtils.calculateOffset(page, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<Product> findInStock(int page, int size) {
+    public List<ProductSummary> findInStock(int page, int size) {
         JdbcUtils.validatePagination(page, size);
-        String sql = "SELECT * FROM product WHERE is_active = true AND stock_quantity > 0 ORDER BY name LIMIT ? OFFSET ?";
-        return jdbcTemplate.query(sql, productRowMapper, size, JdbcUtils.calculateOffset(page, size));
+        String sql = "SELECT " + ProductSummaryMapper.COLUMNS + " FROM product WHERE is_active = true AND stock_quantity > 0 ORDER BY name LIMIT ? OFFSET ?";
+        return jdbcTemplate.query(sql, summaryRowMapper, size, JdbcUtils.calculateOffset(page, size));
     }
 
     @Override
-    @Transactional
     public void deleteById(UUID id) {
+        RequestIdentityMap.evict(Product.class, id);
         String sql = "DELETE FROM product WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, id);
         if (rowsAffected == 0) {
@@ -192,15 +247,14 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
-        String sql = "SELECT COUNT(*) FROM product WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-        return count != null && count > 0;
+        if (!existenceFilters.mightExist(ExistenceFilters.Kind.PRODUCTS, id)) {
+            return false;
+        }
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM product WHERE id = ?", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long count() {
         String sql = "SELECT COUNT(*) FROM product";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
@@ -208,7 +262,6 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long countActive() {
         String sql = "SELECT COUNT(*) FROM product WHERE is_active = true";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
@@ -216,7 +269,6 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long countByCategoryId(UUID categoryId) {
         String sql = "SELECT COUNT(*) FROM product WHERE category_id = ?";
         Long count = jdbcTemplate.queryForObject(sql, Long.class, categoryId);
@@ -224,8 +276,23 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    @Transactional
+    public List<CategoryProductCount> countGroupedByCategory() {
+        String sql = """
+            SELECT category_id, COUNT(*) AS product_count,
+                   COUNT(*) FILTER (WHERE is_active) AS active_product_count
+            FROM product
+            GROUP BY category_id
+            """;
+        return jdbcTemplate.query(sql, (rs, rowNum) -> CategoryProductCount.builder()
+                .categoryId(JdbcUtils.getUUID(rs, "category_id"))
+                .productCount(rs.getLong("product_count"))
+                .activeProductCount(rs.getLong("active_product_count"))
+                .build());
+    }
+
+    @Override
     public void updateStock(UUID productId, int quantity) {
+        RequestIdentityMap.evict(Product.class, productId);
         String sql = "UPDATE product SET stock_quantity = stock_quantity + ?, updated_at = ? WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, quantity, Timestamp.from(OffsetDateTime.now().toInstant()), productId);
         if (rowsAffected == 0) {
@@ -234,23 +301,31 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    @Transactional
-    public void setActiveStatus(UUID id, boolean isActive) {
-        String sql = "UPDATE product SET is_active = ?, updated_at = ? WHERE id = ?";
-        int rowsAffected = jdbcTemplate.update(sql, isActive, Timestamp.from(OffsetDateTime.now().toInstant()), id);
-        if (rowsAffected == 0) {
+    public Optional<UUID> setActiveStatus(UUID id, boolean isActive) {
+        RequestIdentityMap.evict(Product.class, id);
+        // Only a real transition touches the row, so two concurrent activations report one change
+        String sql = """
+            UPDATE product SET is_active = ?, updated_at = ?
+            WHERE id = ? AND is_active IS DISTINCT FROM ?
+            RETURNING category_id
+            """;
+        List<UUID> changed = jdbcTemplate.query(sql, (rs, rowNum) -> JdbcUtils.getUUID(rs, "category_id"),
+                isActive, Timestamp.from(OffsetDateTime.now().toInstant()), id, isActive);
+        if (changed.isEmpty() && !existsById(id)) {
             throw ResourceNotFoundException.forResource("Product", id);
         }
+        return changed.stream().findFirst();
     }
 
     @Override
-    @Transactional
     public int[] batchInsert(List<Product> products) {
         String sql = """
             INSERT INTO product (category_id, name, description, price, stock_quantity, is_active, images, created_at, updated_at)
             VALUES (?, ?, ?, ?, ?, ?, ?::jsonb, ?, ?)
             """;
 
+        // The batch does not report generated ids, so rebuild the filter once it is committed
+        existenceFilters.holdUntilCompletion(ExistenceFilters.Kind.PRODUCTS);
         OffsetDateTime now = OffsetDateTime.now();
         return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
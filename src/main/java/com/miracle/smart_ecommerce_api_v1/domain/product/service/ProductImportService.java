@@ -0,0 +1,22 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.service;
+
+import com.miracle.smart_ecommerce_api_v1.domain.product.dto.ProductImportJobResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+/**
+ * Service interface for bulk product imports.
+ */
+public interface ProductImportService {
+
+    /**
+     * Accept an import file and queue it; returns immediately with the job status
+     */
+    ProductImportJobResponse submit(MultipartFile file, String format);
+
+    /**
+     * Get the progress of an import job
+     */
+    ProductImportJobResponse getJob(UUID jobId);
+}
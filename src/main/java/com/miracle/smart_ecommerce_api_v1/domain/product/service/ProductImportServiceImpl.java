@@ -0,0 +1,349 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miracle.smart_ecommerce_api_v1.common.existence.ExistenceFilters;
+import com.miracle.smart_ecommerce_api_v1.common.util.JsonbArrayCodec;
+import com.miracle.smart_ecommerce_api_v1.domain.category.entity.Category;
+import com.miracle.smart_ecommerce_api_v1.domain.category.repository.CategoryRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.category.service.CategoryCatalog;
+import com.miracle.smart_ecommerce_api_v1.domain.product.dto.ProductImportJobResponse;
+import com.miracle.smart_ecommerce_api_v1.domain.product.importer.ImportFormat;
+import com.miracle.smart_ecommerce_api_v1.domain.product.importer.ProductImportJob;
+import com.miracle.smart_ecommerce_api_v1.domain.product.importer.ProductImportReader;
+import com.miracle.smart_ecommerce_api_v1.domain.product.importer.ProductImportRecord;
+import com.miracle.smart_ecommerce_api_v1.domain.product.importer.ProductImportRow;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductImportRepository;
+import com.miracle.smart_ecommerce_api_v1.exception.BadRequestException;
+import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.miracle.smart_ecommerce_api_v1.config.CacheConfig.PRODUCTS_CACHE;
+
+/**
+ * Bulk product import.
+ * The upload is spooled to a temp file and processed on a background thread: records are
+ * streamed from the file, validated, and loaded in fixed-size chunks through
+ * {@link ProductImportRepository}, so memory use is bounded by the chunk size, not the file.
+ * Imports run one at a time; later submissions queue behind the current one.
+ */
+@Service
+@Slf4j
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private final ProductImportRepository productImportRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryCatalog categoryCatalog;
+    private final ExistenceFilters existenceFilters;
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("product-import-", 0).factory());
+
+    @Value("${app.products.import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.products.import.max-errors:100}")
+    private int maxErrors;
+
+    @Value("${app.products.import.retained-jobs:50}")
+    private int retainedJobs;
+
+    // Most recent jobs in submission order; finished jobs age out first
+    private final Map<UUID, ProductImportJob> jobs = Collections.synchronizedMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, ProductImportJob> eldest) {
+                    return size() > retainedJobs && eldest.getValue().isFinished();
+                }
+            });
+
+    public ProductImportServiceImpl(ProductImportRepository productImportRepository,
+                                    CategoryRepository categoryRepository,
+                                    CategoryCatalog categoryCatalog,
+                                    ExistenceFilters existenceFilters,
+                                    CacheManager cacheManager,
+                                    ObjectMapper objectMapper) {
+        this.productImportRepository = productImportRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryCatalog = categoryCatalog;
+        this.existenceFilters = existenceFilters;
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ProductImportJobResponse submit(MultipartFile file, String format) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Import file is required");
+        }
+        ImportFormat importFormat = ImportFormat.resolve(format, file.getOriginalFilename());
+
+        Path spool;
+        try {
+            spool = Files.createTempFile("product-import-", "." + importFormat.name().toLowerCase(Locale.ROOT));
+            file.transferTo(spool);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store import file", e);
+        }
+
+        ProductImportJob job = new ProductImportJob(file.getOriginalFilename(), importFormat, file.getSize(), maxErrors);
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job, spool));
+
+        log.info("Queued product import {} ({}, {} bytes)", job.getId(), importFormat, file.getSize());
+        return toResponse(job);
+    }
+
+    @Override
+    public ProductImportJobResponse getJob(UUID jobId) {
+        ProductImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw ResourceNotFoundException.forResource("Import job", jobId);
+        }
+        return toResponse(job);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ProductImportJob job, Path spool) {
+        job.start();
+        // Merged rows do not report their ids; existence checks go to the database until the rebuild
+        existenceFilters.hold(ExistenceFilters.Kind.PRODUCTS);
+        try (SeekableByteChannel channel = Files.newByteChannel(spool);
+             ProductImportReader reader = ProductImportReader.open(
+                     new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8), 64 * 1024),
+                     job.getFormat(), objectMapper)) {
+
+            CategoryLookup categories = new CategoryLookup(categoryRepository.findAll());
+
+            productImportRepository.withStagingSession(session -> {
+                List<ProductImportRow> chunk = new ArrayList<>(chunkSize);
+                ProductImportRecord record;
+                while ((record = reader.next()) != null) {
+                    job.getRowsRead().incrementAndGet();
+                    if (record.error() != null) {
+                        job.reject(record.lineNumber(), record.error());
+                        continue;
+                    }
+                    try {
+                        chunk.add(toRow(record, categories));
+                    } catch (IllegalArgumentException e) {
+                        job.reject(record.lineNumber(), e.getMessage());
+                        continue;
+                    }
+                    if (chunk.size() >= chunkSize) {
+                        flush(job, session, chunk);
+                        job.getBytesRead().set(channel.position());
+                    }
+                }
+                flush(job, session, chunk);
+            });
+
+            job.complete();
+            log.info("Product import {} completed: {} read, {} inserted, {} updated, {} rejected, {} rows/s",
+                    job.getId(), job.getRowsRead(), job.getRowsInserted(), job.getRowsUpdated(),
+                    job.getRowsRejected(), Math.round(job.getRowsPerSecond()));
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            log.error("Product import {} failed after {} rows: {}", job.getId(), job.getRowsRead(), e.getMessage(), e);
+        } finally {
+            evictCache();
+            // Rows were merged in bulk, so recount rather than track them one by one
+            categoryCatalog.invalidate();
+            existenceFilters.release(ExistenceFilters.Kind.PRODUCTS);
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Could not delete import spool file {}: {}", spool, e.getMessage());
+            }
+        }
+    }
+
+    private void flush(ProductImportJob job, ProductImportRepository.StagingSession session, List<ProductImportRow> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        ProductImportRepository.MergeResult result = session.load(chunk);
+        job.getRowsInserted().addAndGet(result.inserted());
+        job.getRowsUpdated().addAndGet(result.updated());
+        chunk.clear();
+    }
+
+    /**
+     * Validate a raw record against the same rules as the Product model.
+     *
+     * @throws IllegalArgumentException describing the first invalid field
+     */
+    private ProductImportRow toRow(ProductImportRecord record, CategoryLookup categories) {
+        String sku = required(record, "sku");
+        if (sku.length() > 100) {
+            throw new IllegalArgumentException("sku cannot exceed 100 characters");
+        }
+
+        String name = required(record, "name");
+        if (name.length() < 2 || name.length() > 255) {
+            throw new IllegalArgumentException("name must be between 2 and 255 characters");
+        }
+
+        String description = record.get("description");
+        if (description != null && description.length() > 2000) {
+            throw new IllegalArgumentException("description cannot exceed 2000 characters");
+        }
+
+        BigDecimal price;
+        try {
+            price = new BigDecimal(required(record, "price"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price is not a number");
+        }
+        if (price.signum() < 0 || price.scale() > 2 || price.precision() - price.scale() > 10) {
+            throw new IllegalArgumentException("price must be non-negative with at most 10 integer and 2 fraction digits");
+        }
+
+        int stockQuantity = 0;
+        String stock = record.get("stock_quantity");
+        if (stock != null) {
+            try {
+                stockQuantity = Integer.parseInt(stock);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("stock_quantity is not an integer");
+            }
+            if (stockQuantity < 0) {
+                throw new IllegalArgumentException("stock_quantity cannot be negative");
+            }
+        }
+
+        String categoryRef = record.get("category_id") != null ? record.get("category_id") : record.get("category");
+        if (categoryRef == null) {
+            throw new IllegalArgumentException("category is required");
+        }
+        UUID categoryId = categories.resolve(categoryRef);
+        if (categoryId == null) {
+            throw new IllegalArgumentException("unknown category '" + categoryRef + "'");
+        }
+
+        return new ProductImportRow(record.lineNumber(), sku, categoryId, name, description, price,
+                stockQuantity, parseBoolean(record.get("is_active")), parseImages(record.get("images")));
+    }
+
+    private static String required(ProductImportRecord record, String field) {
+        String value = record.get(field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value == null) {
+            return true;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "t", "yes", "y", "1" -> true;
+            case "false", "f", "no", "n", "0" -> false;
+            default -> throw new IllegalArgumentException("is_active is not a boolean");
+        };
+    }
+
+    /**
+     * Images are either a JSON array (NDJSON, or CSV cells holding JSON) or a '|'-separated list.
+     */
+    private static List<String> parseImages(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        if (value.startsWith("[")) {
+            return JsonbArrayCodec.decode(value);
+        }
+        return Arrays.stream(value.split("\\|"))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    private void evictCache() {
+        Cache cache = cacheManager.getCache(PRODUCTS_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private ProductImportJobResponse toResponse(ProductImportJob job) {
+        return ProductImportJobResponse.builder()
+                .jobId(job.getId())
+                .filename(job.getFilename())
+                .format(job.getFormat().name())
+                .status(job.getStatus().name())
+                .percentComplete(job.getPercentComplete())
+                .rowsRead(job.getRowsRead().get())
+                .rowsInserted(job.getRowsInserted().get())
+                .rowsUpdated(job.getRowsUpdated().get())
+                .rowsRejected(job.getRowsRejected().get())
+                .rowsPerSecond(Math.round(job.getRowsPerSecond() * 10) / 10.0)
+                .errors(job.getErrors())
+                .failureReason(job.getFailureReason())
+                .submittedAt(job.getSubmittedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    /**
+     * Categories referenced by an import, by id or case-insensitive name, loaded once per job.
+     */
+    private static final class CategoryLookup {
+
+        private final Map<String, UUID> byName = new HashMap<>();
+        private final Set<UUID> ids = new HashSet<>();
+
+        CategoryLookup(List<Category> categories) {
+            for (Category category : categories) {
+                ids.add(category.getId());
+                byName.put(category.getCategoryName().toLowerCase(Locale.ROOT), category.getId());
+            }
+        }
+
+        UUID resolve(String ref) {
+            try {
+                UUID id = UUID.fromString(ref);
+                return ids.contains(id) ? id : null;
+            } catch (IllegalArgumentException e) {
+                return byName.get(ref.toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.miracle.smart_ecommerce_api_v1.domain.product.service;
 
+import com.miracle.smart_ecommerce_api_v1.common.export.ExportFormat;
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.product.dto.CreateProductRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.product.dto.ProductResponse;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
@@ -87,4 +90,9 @@ public interface ProductService {
      * Count total products
      */
     long countProducts();
+
+    /**
+     * Stream products (optionally only those updated since a point in time) to the output
+     */
+    void exportProducts(OutputStream out, ExportFormat format, OffsetDateTime since);
 }
@@ -1,11 +1,19 @@
 package com.miracle.smart_ecommerce_api_v1.domain.product.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miracle.smart_ecommerce_api_v1.common.export.ExportFormat;
+import com.miracle.smart_ecommerce_api_v1.common.export.ExportWriter;
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.ProductSummary;
 import com.miracle.smart_ecommerce_api_v1.domain.product.dto.CreateProductRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.product.dto.ProductResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.category.repository.CategoryRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.category.service.CategoryCatalog;
 import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ProductRatingResponse;
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductRatingSummary;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ProductRatingSummaryRepository;
 import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,8 +23,13 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,7 +45,14 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final ProductRatingSummaryRepository ratingSummaryRepository;
+    private final CategoryCatalog categoryCatalog;
     private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    // Matches the bulk import columns, so an export can be re-imported as-is
+    private static final List<String> EXPORT_COLUMNS = List.of("id", "sku", "category_id", "name", "description",
+            "price", "stock_quantity", "is_active", "images", "created_at", "updated_at");
 
 
     @Override
@@ -57,8 +77,9 @@ public class ProductServiceImpl implements ProductService {
 
         Product savedProduct = productRepository.save(product);
         log.info("Product created successfully with ID: {}", savedProduct.getId());
+        categoryCatalog.productAdded(savedProduct.getCategoryId(), Boolean.TRUE.equals(savedProduct.getIsActive()));
 
-        ProductResponse response = mapToResponse(savedProduct);
+        ProductResponse response = mapToDetailResponse(savedProduct);
 
         // Update caches with new product
         Cache byIdCache = cacheManager.getCache(PRODUCTS_CACHE);
@@ -79,25 +100,27 @@ public class ProductServiceImpl implements ProductService {
         log.debug("Getting product by ID: {}", id);
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forResource("Product", id));
-        return mapToResponseWithCategory(product);
+        return mapToDetailResponse(product);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = PRODUCTS_CACHE, key = "'sku:' + #sku")
     public ProductResponse getProductBySku(String sku) {
-        throw new UnsupportedOperationException("SKU lookup is not supported in current schema");
+        log.debug("Getting product by SKU: {}", sku);
+        Product product = productRepository.findBySku(sku)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "sku", sku));
+        return mapToDetailResponse(product);
     }
 
     @Override
     @Transactional(readOnly = true)
     public PageResponse<ProductResponse> getAllProducts(int page, int size) {
         log.debug("Getting all products - page: {}, size: {}", page, size);
-        List<Product> products = productRepository.findAll(page, size);
+        List<ProductSummary> products = productRepository.findAll(page, size);
         long total = productRepository.count();
 
-        List<ProductResponse> responses = products.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<ProductResponse> responses = mapSummariesToResponses(products);
 
         return PageResponse.of(responses, page, size, total);
     }
@@ -106,12 +129,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public PageResponse<ProductResponse> getActiveProducts(int page, int size) {
         log.debug("Getting active products - page: {}, size: {}", page, size);
-        List<Product> products = productRepository.findActiveProducts(page, size);
+        List<ProductSummary> products = productRepository.findActiveProducts(page, size);
         long total = productRepository.countActive();
 
-        List<ProductResponse> responses = products.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<ProductResponse> responses = mapSummariesToResponses(products);
 
         return PageResponse.of(responses, page, size, total);
     }
@@ -125,12 +146,10 @@ public class ProductServiceImpl implements ProductService {
             throw ResourceNotFoundException.forResource("Category", categoryId);
         }
 
-        List<Product> products = productRepository.findByCategoryId(categoryId, page, size);
+        List<ProductSummary> products = productRepository.findByCategoryId(categoryId, page, size);
         long total = productRepository.countByCategoryId(categoryId);
 
-        List<ProductResponse> responses = products.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<ProductResponse> responses = mapSummariesToResponses(products);
 
         return PageResponse.of(responses, page, size, total);
     }
@@ -139,12 +158,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public PageResponse<ProductResponse> searchProducts(String keyword, int page, int size) {
         log.debug("Searching products with keyword: {} - page: {}, size: {}", keyword, page, size);
-        List<Product> products = productRepository.search(keyword, page, size);
+        List<ProductSummary> products = productRepository.search(keyword, page, size);
         long total = productRepository.countActive();
 
-        List<ProductResponse> responses = products.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<ProductResponse> responses = mapSummariesToResponses(products);
 
         return PageResponse.of(responses, page, size, total);
     }
@@ -153,12 +170,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public PageResponse<ProductResponse> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, int page, int size) {
         log.debug("Getting products by price range: {} - {} - page: {}, size: {}", minPrice, maxPrice, page, size);
-        List<Product> products = productRepository.findByPriceRange(minPrice, maxPrice, page, size);
+        List<ProductSummary> products = productRepository.findByPriceRange(minPrice, maxPrice, page, size);
         long total = productRepository.countActive();
 
-        List<ProductResponse> responses = products.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<ProductResponse> responses = mapSummariesToResponses(products);
 
         return PageResponse.of(responses, page, size, total);
     }
@@ -167,12 +182,10 @@ public class ProductServiceImpl implements ProductService {
     @Transactional(readOnly = true)
     public PageResponse<ProductResponse> getProductsInStock(int page, int size) {
         log.debug("Getting products in stock - page: {}, size: {}", page, size);
-        List<Product> products = productRepository.findInStock(page, size);
+        List<ProductSummary> products = productRepository.findInStock(page, size);
         long total = productRepository.countActive();
 
-        List<ProductResponse> responses = products.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<ProductResponse> responses = mapSummariesToResponses(products);
 
         return PageResponse.of(responses, page, size, total);
     }
@@ -184,6 +197,8 @@ public class ProductServiceImpl implements ProductService {
 
         Product existingProduct = productRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forResource("Product", id));
+        UUID previousCategoryId = existingProduct.getCategoryId();
+        boolean wasActive = Boolean.TRUE.equals(existingProduct.getIsActive());
 
         // If categoryId provided, validate and set
         if (request.getCategoryId() != null) {
@@ -203,8 +218,10 @@ public class ProductServiceImpl implements ProductService {
 
         Product updatedProduct = productRepository.update(existingProduct);
         log.info("Product updated successfully: {}", id);
+        categoryCatalog.productChanged(previousCategoryId, wasActive,
+                updatedProduct.getCategoryId(), Boolean.TRUE.equals(updatedProduct.getIsActive()));
 
-        ProductResponse response = mapToResponse(updatedProduct);
+        ProductResponse response = mapToDetailResponse(updatedProduct);
 
         // Update id cache
         Cache byIdCache = cacheManager.getCache(PRODUCTS_CACHE);
@@ -227,6 +244,8 @@ public class ProductServiceImpl implements ProductService {
 
         Product existingProduct = productRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forResource("Product", id));
+        UUID previousCategoryId = existingProduct.getCategoryId();
+        boolean wasActive = Boolean.TRUE.equals(existingProduct.getIsActive());
 
         if (request.getCategoryId() != null) {
             if (!categoryRepository.existsById(request.getCategoryId())) {
@@ -244,8 +263,10 @@ public class ProductServiceImpl implements ProductService {
 
         Product updatedProduct = productRepository.update(existingProduct);
         log.info("Product (partial) updated successfully: {}", id);
+        categoryCatalog.productChanged(previousCategoryId, wasActive,
+                updatedProduct.getCategoryId(), Boolean.TRUE.equals(updatedProduct.getIsActive()));
 
-        ProductResponse response = mapToResponse(updatedProduct);
+        ProductResponse response = mapToDetailResponse(updatedProduct);
 
         Cache byIdCache = cacheManager.getCache(PRODUCTS_CACHE);
         if (byIdCache != null) {
@@ -264,11 +285,12 @@ public class ProductServiceImpl implements ProductService {
         log.info("Deleting product with ID: {}", id);
 
         // ensure product exists
-        productRepository.findById(id)
+        Product product = productRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forResource("Product", id));
 
         productRepository.deleteById(id);
         log.info("Product deleted successfully: {}", id);
+        categoryCatalog.productRemoved(product.getCategoryId(), Boolean.TRUE.equals(product.getIsActive()));
 
         // Evict from id cache
         Cache byIdCache = cacheManager.getCache(PRODUCTS_CACHE);
@@ -284,7 +306,8 @@ public class ProductServiceImpl implements ProductService {
     @Transactional
     public void activateProduct(UUID id) {
         log.info("Activating product with ID: {}", id);
-        productRepository.setActiveStatus(id, true);
+        productRepository.setActiveStatus(id, true)
+                .ifPresent(categoryId -> categoryCatalog.activeStatusChanged(categoryId, true));
 
         // Evict caches - product status changed
         evictProductCaches(id);
@@ -294,7 +317,8 @@ public class ProductServiceImpl implements ProductService {
     @Transactional
     public void deactivateProduct(UUID id) {
         log.info("Deactivating product with ID: {}", id);
-        productRepository.setActiveStatus(id, false);
+        productRepository.setActiveStatus(id, false)
+                .ifPresent(categoryId -> categoryCatalog.activeStatusChanged(categoryId, false));
 
         // Evict caches - product status changed
         evictProductCaches(id);
@@ -316,6 +340,20 @@ public class ProductServiceImpl implements ProductService {
         return productRepository.count();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportProducts(OutputStream out, ExportFormat format, OffsetDateTime since) {
+        log.info("Exporting products - format: {}, since: {}", format, since);
+        try (ExportWriter writer = ExportWriter.open(out, format, EXPORT_COLUMNS, objectMapper)) {
+            productRepository.streamForExport(since, product -> writer.write(
+                    product.getId(), product.getSku(), product.getCategoryId(), product.getName(),
+                    product.getDescription(), product.getPrice(), product.getStockQuantity(),
+                    product.getIsActive(), product.getImages(), product.getCreatedAt(), product.getUpdatedAt()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // ========================================================================
     // Helper Methods
     // ========================================================================
@@ -325,6 +363,7 @@ public class ProductServiceImpl implements ProductService {
                 .id(product.getId())
                 .categoryId(product.getCategoryId())
                 .name(product.getName())
+                .sku(product.getSku())
                 .description(product.getDescription())
                 .price(product.getPrice())
                 .stockQuantity(product.getStockQuantity())
@@ -336,9 +375,46 @@ public class ProductServiceImpl implements ProductService {
                 .build();
     }
 
-    private ProductResponse mapToResponseWithCategory(Product product) {
-        // If needed later, populate category details here
-        return mapToResponse(product);
+    /**
+     * List pages carry the summary projection: no description, primary image only
+     */
+    private ProductResponse mapSummaryToResponse(ProductSummary product) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .categoryId(product.getCategoryId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .stockQuantity(product.getStockQuantity())
+                .isActive(product.getIsActive())
+                .inStock(product.isInStock())
+                .images(product.getPrimaryImage() != null ? List.of(product.getPrimaryImage()) : List.of())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Maps a list page and attaches every product's rating from one batched lookup
+     */
+    private List<ProductResponse> mapSummariesToResponses(List<ProductSummary> products) {
+        Map<UUID, ProductRatingSummary> ratings = ratingSummaryRepository.findByProductIds(
+                products.stream().map(ProductSummary::getId).toList());
+        return products.stream()
+                .map(product -> {
+                    ProductResponse response = mapSummaryToResponse(product);
+                    response.setRating(ProductRatingResponse.of(ratings.get(product.getId())));
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Single-product responses also carry the rating summary (a primary-key lookup)
+     */
+    private ProductResponse mapToDetailResponse(Product product) {
+        ProductResponse response = mapToResponse(product);
+        response.setRating(ProductRatingResponse.of(ratingSummaryRepository.findByProductId(product.getId())));
+        return response;
     }
 
     /**
@@ -360,11 +436,8 @@ public class ProductServiceImpl implements ProductService {
             byIdCache.evict("id:" + productId);
         }
 
-        // Get product to evict SKU cache
-        productRepository.findById(productId).ifPresent(product -> {
-            // Clear list/search caches
-            evictCache();
-        });
+        // Clear list/search caches
+        evictCache();
     }
 }
 
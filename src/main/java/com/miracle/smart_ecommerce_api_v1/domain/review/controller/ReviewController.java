@@ -1,8 +1,10 @@
 package com.miracle.smart_ecommerce_api_v1.domain.review.controller;
 
 import com.miracle.smart_ecommerce_api_v1.common.response.ApiResponse;
+import com.miracle.smart_ecommerce_api_v1.common.response.CursorPageResponse;
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.dto.CreateReviewRequest;
+import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ProductRatingResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ReviewResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -80,6 +83,16 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(reviews));
     }
 
+    @GetMapping("/user/{userId}/feed")
+    @Operation(summary = "Get review history by user", description = "Keyset-paged reviews by a user, newest first; pass nextCursor to continue")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ReviewResponse>>> getReviewFeedByUserId(
+            @Parameter(description = "User ID") @PathVariable UUID userId,
+            @Parameter(description = "Cursor from the previous page; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "10") int size) {
+        CursorPageResponse<ReviewResponse> reviews = reviewService.getReviewFeedByUserId(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
     @GetMapping("/product/{productId}/average-rating")
     @Operation(summary = "Get average rating", description = "Returns the average rating for a product")
     public ResponseEntity<ApiResponse<Double>> getAverageRating(
@@ -88,6 +101,22 @@ public class ReviewController {
         return ResponseEntity.ok(ApiResponse.success(averageRating));
     }
 
+    @GetMapping("/product/{productId}/rating")
+    @Operation(summary = "Get rating summary", description = "Returns review count, average rating and star histogram for a product")
+    public ResponseEntity<ApiResponse<ProductRatingResponse>> getProductRating(
+            @Parameter(description = "Product ID") @PathVariable UUID productId) {
+        ProductRatingResponse rating = reviewService.getProductRating(productId);
+        return ResponseEntity.ok(ApiResponse.success(rating));
+    }
+
+    @GetMapping("/ratings")
+    @Operation(summary = "Get rating summaries in bulk", description = "Returns rating summaries for up to 100 products, in the order requested")
+    public ResponseEntity<ApiResponse<List<ProductRatingResponse>>> getProductRatings(
+            @Parameter(description = "Comma-separated product IDs") @RequestParam List<UUID> productIds) {
+        List<ProductRatingResponse> ratings = reviewService.getProductRatings(productIds);
+        return ResponseEntity.ok(ApiResponse.success(ratings));
+    }
+
     @GetMapping("/product/{productId}/count")
     @Operation(summary = "Get review count", description = "Returns the number of reviews for a product")
     public ResponseEntity<ApiResponse<Long>> getReviewCount(
@@ -0,0 +1,37 @@
+package com.miracle.smart_ecommerce_api_v1.domain.review.dto;
+
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductRatingSummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a product's rating summary.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRatingResponse {
+
+    private UUID productId;
+    private Long reviewCount;
+    private Double averageRating;
+
+    /** Review counts for 1 to 5 stars */
+    private List<Long> histogram;
+
+    public static ProductRatingResponse of(ProductRatingSummary summary) {
+        return ProductRatingResponse.builder()
+                .productId(summary.getProductId())
+                .reviewCount(summary.getReviewCount())
+                .averageRating(Math.round(summary.getAverageRating() * 100) / 100.0)
+                .histogram(Arrays.stream(summary.getHistogram()).boxed().toList())
+                .build();
+    }
+}
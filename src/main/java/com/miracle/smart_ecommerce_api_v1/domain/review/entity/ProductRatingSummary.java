@@ -0,0 +1,36 @@
+package com.miracle.smart_ecommerce_api_v1.domain.review.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Rating aggregate for one product - represents product_rating_summary table.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRatingSummary {
+
+    private UUID productId;
+    private long reviewCount;
+    private long ratingSum;
+
+    /** Review counts by star, index 0 holding 1-star reviews */
+    private long[] histogram;
+
+    /**
+     * Summary for a product nobody has reviewed yet
+     */
+    public static ProductRatingSummary empty(UUID productId) {
+        return new ProductRatingSummary(productId, 0, 0, new long[5]);
+    }
+
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0;
+    }
+}
@@ -0,0 +1,41 @@
+package com.miracle.smart_ecommerce_api_v1.domain.review.repository;
+
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductRatingSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repository for the per-product rating aggregate.
+ * Writes are deltas and must run in the same transaction as the review change they mirror;
+ * new reviews are counted by {@link ReviewRepository#saveIfAbsent} in the insert itself.
+ */
+public interface ProductRatingSummaryRepository {
+
+    /**
+     * Summary for a product; an empty summary when it has no reviews
+     */
+    ProductRatingSummary findByProductId(UUID productId);
+
+    /**
+     * Summaries for a page of products in one query, keyed by product ID; products
+     * without reviews get an empty summary
+     */
+    Map<UUID, ProductRatingSummary> findByProductIds(Collection<UUID> productIds);
+
+    /**
+     * Move one review's rating in the aggregate: {@code removedRating} is taken out and
+     * {@code addedRating} put in, either of which may be null (create / delete).
+     */
+    void applyDelta(UUID productId, Integer removedRating, Integer addedRating);
+
+    /**
+     * Take a user's reviews out of the aggregates before the user (and, by cascade,
+     * their reviews) is deleted.
+     *
+     * @return the affected product IDs
+     */
+    List<UUID> subtractReviewsByUser(UUID userId);
+}
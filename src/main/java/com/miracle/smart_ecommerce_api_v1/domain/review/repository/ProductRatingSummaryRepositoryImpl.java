@@ -0,0 +1,153 @@
+package com.miracle.smart_ecommerce_api_v1.domain.review.repository;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.IndexedRowMapper;
+import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductRatingSummary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of ProductRatingSummaryRepository.
+ */
+@Repository
+public class ProductRatingSummaryRepositoryImpl implements ProductRatingSummaryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<ProductRatingSummary> summaryRowMapper;
+
+    public ProductRatingSummaryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.summaryRowMapper = new ProductRatingSummaryRowMapper();
+    }
+
+    @Override
+    public ProductRatingSummary findByProductId(UUID productId) {
+        String sql = "SELECT * FROM product_rating_summary WHERE product_id = ?";
+        List<ProductRatingSummary> rows = jdbcTemplate.query(sql, summaryRowMapper, productId);
+        return rows.isEmpty() ? ProductRatingSummary.empty(productId) : rows.get(0);
+    }
+
+    @Override
+    public Map<UUID, ProductRatingSummary> findByProductIds(Collection<UUID> productIds) {
+        Map<UUID, ProductRatingSummary> summaries = new LinkedHashMap<>();
+        if (productIds == null || productIds.isEmpty()) {
+            return summaries;
+        }
+        productIds.forEach(id -> summaries.put(id, ProductRatingSummary.empty(id)));
+
+        String sql = "SELECT * FROM product_rating_summary WHERE product_id = ANY(?)";
+        Object[] idArray = summaries.keySet().toArray();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", idArray));
+            return ps;
+        }, summaryRowMapper).forEach(summary -> summaries.put(summary.getProductId(), summary));
+        return summaries;
+    }
+
+    @Override
+    public void applyDelta(UUID productId, Integer removedRating, Integer addedRating) {
+        long[] histogram = new long[5];
+        long count = 0;
+        long sum = 0;
+        if (removedRating != null) {
+            histogram[removedRating - 1]--;
+            count--;
+            sum -= removedRating;
+        }
+        if (addedRating != null) {
+            histogram[addedRating - 1]++;
+            count++;
+            sum += addedRating;
+        }
+
+        // The upsert row-locks the summary, so concurrent reviews of one product apply in turn
+        String sql = """
+                INSERT INTO product_rating_summary AS s (product_id, review_count, rating_sum,
+                                                         rating_1, rating_2, rating_3, rating_4, rating_5)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (product_id) DO UPDATE SET
+                    review_count = s.review_count + EXCLUDED.review_count,
+                    rating_sum = s.rating_sum + EXCLUDED.rating_sum,
+                    rating_1 = s.rating_1 + EXCLUDED.rating_1,
+                    rating_2 = s.rating_2 + EXCLUDED.rating_2,
+                    rating_3 = s.rating_3 + EXCLUDED.rating_3,
+                    rating_4 = s.rating_4 + EXCLUDED.rating_4,
+                    rating_5 = s.rating_5 + EXCLUDED.rating_5,
+                    updated_at = NOW()
+                """;
+        jdbcTemplate.update(sql, productId, count, sum,
+                histogram[0], histogram[1], histogram[2], histogram[3], histogram[4]);
+    }
+
+    @Override
+    public List<UUID> subtractReviewsByUser(UUID userId) {
+        String sql = """
+                UPDATE product_rating_summary s SET
+                    review_count = s.review_count - r.review_count,
+                    rating_sum = s.rating_sum - r.rating_sum,
+                    rating_1 = s.rating_1 - r.rating_1,
+                    rating_2 = s.rating_2 - r.rating_2,
+                    rating_3 = s.rating_3 - r.rating_3,
+                    rating_4 = s.rating_4 - r.rating_4,
+                    rating_5 = s.rating_5 - r.rating_5,
+                    updated_at = NOW()
+                FROM (
+                    SELECT product_id,
+                           COUNT(*) AS review_count,
+                           SUM(rating) AS rating_sum,
+                           COUNT(*) FILTER (WHERE rating = 1) AS rating_1,
+                           COUNT(*) FILTER (WHERE rating = 2) AS rating_2,
+                           COUNT(*) FILTER (WHERE rating = 3) AS rating_3,
+                           COUNT(*) FILTER (WHERE rating = 4) AS rating_4,
+                           COUNT(*) FILTER (WHERE rating = 5) AS rating_5
+                    FROM product_review
+                    WHERE user_id = ?
+                    GROUP BY product_id
+                ) r
+                WHERE s.product_id = r.product_id
+                RETURNING s.product_id
+                """;
+        return jdbcTemplate.query(sql, (rs, rowNum) -> JdbcUtils.getUUID(rs, 1), userId);
+    }
+
+    /**
+     * RowMapper for ProductRatingSummary
+     */
+    private static class ProductRatingSummaryRowMapper extends IndexedRowMapper<ProductRatingSummary> {
+
+        private static final int PRODUCT_ID = 0;
+        private static final int REVIEW_COUNT = 1;
+        private static final int RATING_SUM = 2;
+        private static final int RATING_1 = 3;
+
+        ProductRatingSummaryRowMapper() {
+            super("product_id", "review_count", "rating_sum",
+                    "rating_1", "rating_2", "rating_3", "rating_4", "rating_5");
+        }
+
+        @Override
+        protected ProductRatingSummary mapRow(ResultSet rs, int[] col) throws SQLException {
+            long[] histogram = new long[5];
+            for (int star = 0; star < 5; star++) {
+                histogram[star] = rs.getLong(col[RATING_1 + star]);
+            }
+            return ProductRatingSummary.builder()
+                    .productId(JdbcUtils.getUUID(rs, col[PRODUCT_ID]))
+                    .reviewCount(rs.getLong(col[REVIEW_COUNT]))
+                    .ratingSum(rs.getLong(col[RATING_SUM]))
+                    .histogram(histogram)
+                    .build();
+        }
+    }
+}
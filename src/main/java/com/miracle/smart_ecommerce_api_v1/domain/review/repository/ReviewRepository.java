@@ -1,5 +1,6 @@
 package com.miracle.smart_ecommerce_api_v1.domain.review.repository;
 
+import com.miracle.smart_ecommerce_api_v1.common.util.KeysetCursor;
 import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductReview;
 
 import java.util.List;
@@ -11,9 +12,28 @@ import java.util.UUID;
  */
 public interface ReviewRepository {
 
-    ProductReview save(ProductReview review);
+    /**
+     * A review as {@link #update} wrote it, with the rating it replaced
+     */
+    record UpdatedReview(ProductReview review, int previousRating) {
+    }
 
-    ProductReview update(ProductReview review);
+    /**
+     * Insert a review unless the user already reviewed the product, and count it into
+     * product_rating_summary in the same statement.
+     * A missing user or product surfaces as a foreign-key DataIntegrityViolationException.
+     *
+     * @return the saved review, or empty when a review for the user and product exists
+     */
+    Optional<ProductReview> saveIfAbsent(ProductReview review);
+
+    /**
+     * Set a review's rating and comment. The previous rating is read under the row lock the
+     * update takes, so concurrent edits each see the rating the other one left.
+     *
+     * @return the updated review, or empty when it no longer exists
+     */
+    Optional<UpdatedReview> update(ProductReview review);
 
     Optional<ProductReview> findById(UUID id);
 
@@ -21,6 +41,13 @@ public interface ReviewRepository {
 
     List<ProductReview> findByUserId(UUID userId, int page, int size);
 
+    /**
+     * A user's reviews, newest first, starting after {@code after} (null for the first page)
+     */
+    List<ProductReview> findByUserIdAfter(UUID userId, KeysetCursor after, int limit);
+
+    long countByUserId(UUID userId);
+
     /**
      * Find all reviews (paginated)
      */
@@ -39,5 +66,8 @@ public interface ReviewRepository {
 
     boolean existsByUserIdAndProductId(UUID userId, UUID productId);
 
-    void deleteById(UUID id);
+    /**
+     * @return the deleted review, or empty when there was none (e.g. a concurrent delete won)
+     */
+    Optional<ProductReview> deleteById(UUID id);
 }
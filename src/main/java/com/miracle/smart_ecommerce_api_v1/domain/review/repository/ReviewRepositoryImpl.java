@@ -2,13 +2,14 @@ package com.miracle.smart_ecommerce_api_v1.domain.review.repository;
 
 import java.time.OffsetDateTime;
 
+import com.miracle.smart_ecommerce_api_v1.common.util.IndexedRowMapper;
 import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.common.util.KeysetCursor;
 import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductReview;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -32,16 +33,36 @@ public class ReviewRepositoryImpl implements ReviewRepository {
     }
 
     @Override
-    @Transactional
-    public ProductReview save(ProductReview review) {
+    public Optional<ProductReview> saveIfAbsent(ProductReview review) {
+        // One round trip: the FKs and uq_product_review_user_product replace the existence checks,
+        // and the summary upsert only sees a row when the insert happened
         String sql = """
-                INSERT INTO product_review (product_id, user_id, rating, comment, created_at, updated_at)
-                VALUES (?, ?, ?, ?, ?, ?)
-                RETURNING id, product_id, user_id, rating, comment, created_at, updated_at
+                WITH inserted AS (
+                    INSERT INTO product_review (product_id, user_id, rating, comment, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    ON CONFLICT ON CONSTRAINT uq_product_review_user_product DO NOTHING
+                    RETURNING id, product_id, user_id, rating, comment, created_at, updated_at
+                ), summary AS (
+                    INSERT INTO product_rating_summary AS s (product_id, review_count, rating_sum,
+                                                             rating_1, rating_2, rating_3, rating_4, rating_5)
+                    SELECT product_id, 1, rating, (rating = 1)::int, (rating = 2)::int, (rating = 3)::int,
+                           (rating = 4)::int, (rating = 5)::int
+                    FROM inserted
+                    ON CONFLICT (product_id) DO UPDATE SET
+                        review_count = s.review_count + 1,
+                        rating_sum = s.rating_sum + EXCLUDED.rating_sum,
+                        rating_1 = s.rating_1 + EXCLUDED.rating_1,
+                        rating_2 = s.rating_2 + EXCLUDED.rating_2,
+                        rating_3 = s.rating_3 + EXCLUDED.rating_3,
+                        rating_4 = s.rating_4 + EXCLUDED.rating_4,
+                        rating_5 = s.rating_5 + EXCLUDED.rating_5,
+                        updated_at = NOW()
+                )
+                SELECT * FROM inserted
                 """;
 
         OffsetDateTime now = OffsetDateTime.now();
-        return jdbcTemplate.queryForObject(sql, reviewRowMapper,
+        List<ProductReview> saved = jdbcTemplate.query(sql, reviewRowMapper,
                 review.getProductId(),
                 review.getUserId(),
                 review.getRating(),
@@ -49,29 +70,34 @@ public class ReviewRepositoryImpl implements ReviewRepository {
                 Timestamp.from(now.toInstant()),
                 Timestamp.from(now.toInstant())
         );
+        return saved.stream().findFirst();
     }
 
     @Override
-    @Transactional
-    public ProductReview update(ProductReview review) {
+    public Optional<UpdatedReview> update(ProductReview review) {
+        // The locking subselect reads the rating this update replaces, after any concurrent
+        // update of the row has committed
         String sql = """
-                UPDATE product_review
+                UPDATE product_review r
                 SET rating = ?, comment = ?, updated_at = ?
-                WHERE id = ?
-                RETURNING id, product_id, user_id, rating, comment, created_at, updated_at
+                FROM (SELECT id, rating FROM product_review WHERE id = ? FOR UPDATE) old
+                WHERE r.id = old.id
+                RETURNING r.id, r.product_id, r.user_id, r.rating, r.comment, r.created_at, r.updated_at,
+                          old.rating AS previous_rating
                 """;
 
         OffsetDateTime now = OffsetDateTime.now();
-        return jdbcTemplate.queryForObject(sql, reviewRowMapper,
+        List<UpdatedReview> updated = jdbcTemplate.query(sql,
+                (rs, rowNum) -> new UpdatedReview(reviewRowMapper.mapRow(rs, rowNum), rs.getInt("previous_rating")),
                 review.getRating(),
                 review.getComment(),
                 Timestamp.from(now.toInstant()),
                 review.getId()
         );
+        return updated.stream().findFirst();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<ProductReview> findById(UUID id) {
         String sql = "SELECT * FROM product_review WHERE id = ?";
         try {
@@ -83,28 +109,48 @@ public class ReviewRepositoryImpl implements ReviewRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ProductReview> findByProductId(UUID productId, int page, int size) {
-        String sql = "SELECT * FROM product_review WHERE product_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?";
+        String sql = "SELECT * FROM product_review WHERE product_id = ? ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, reviewRowMapper, productId, size, page * size);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<ProductReview> findByUserId(UUID userId, int page, int size) {
-        String sql = "SELECT * FROM product_review WHERE user_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?";
+        String sql = "SELECT * FROM product_review WHERE user_id = ? ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, reviewRowMapper, userId, size, page * size);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public List<ProductReview> findByUserIdAfter(UUID userId, KeysetCursor after, int limit) {
+        // Row comparison walks idx_product_review_user_keyset from the cursor, however deep the page
+        if (after == null) {
+            String sql = "SELECT * FROM product_review WHERE user_id = ? ORDER BY created_at DESC, id DESC LIMIT ?";
+            return jdbcTemplate.query(sql, reviewRowMapper, userId, limit);
+        }
+        String sql = """
+                SELECT * FROM product_review
+                WHERE user_id = ? AND (created_at, id) < (?, ?)
+                ORDER BY created_at DESC, id DESC
+                LIMIT ?
+                """;
+        return jdbcTemplate.query(sql, reviewRowMapper, userId,
+                Timestamp.from(after.createdAt().toInstant()), after.id(), limit);
+    }
+
+    @Override
+    public long countByUserId(UUID userId) {
+        String sql = "SELECT COUNT(*) FROM product_review WHERE user_id = ?";
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, userId);
+        return count != null ? count : 0;
+    }
+
+    @Override
     public List<ProductReview> findAll(int page, int size) {
         String sql = "SELECT * FROM product_review ORDER BY created_at DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, reviewRowMapper, size, page * size);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long countAll() {
         String sql = "SELECT COUNT(*) FROM product_review";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
@@ -112,14 +158,12 @@ public class ReviewRepositoryImpl implements ReviewRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Double getAverageRatingByProductId(UUID productId) {
         String sql = "SELECT COALESCE(AVG(rating), 0) FROM product_review WHERE product_id = ?";
         return jdbcTemplate.queryForObject(sql, Double.class, productId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long countByProductId(UUID productId) {
         String sql = "SELECT COUNT(*) FROM product_review WHERE product_id = ?";
         Long count = jdbcTemplate.queryForObject(sql, Long.class, productId);
@@ -127,42 +171,52 @@ public class ReviewRepositoryImpl implements ReviewRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
-        String sql = "SELECT COUNT(*) FROM product_review WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM product_review WHERE id = ?", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsByUserIdAndProductId(UUID userId, UUID productId) {
-        String sql = "SELECT COUNT(*) FROM product_review WHERE user_id = ? AND product_id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, userId, productId);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM product_review WHERE user_id = ? AND product_id = ?",
+                userId, productId);
     }
 
     @Override
-    @Transactional
-    public void deleteById(UUID id) {
-        String sql = "DELETE FROM product_review WHERE id = ?";
-        jdbcTemplate.update(sql, id);
+    public Optional<ProductReview> deleteById(UUID id) {
+        String sql = """
+                DELETE FROM product_review WHERE id = ?
+                RETURNING id, product_id, user_id, rating, comment, created_at, updated_at
+                """;
+        return jdbcTemplate.query(sql, reviewRowMapper, id).stream().findFirst();
     }
 
     /**
      * RowMapper for ProductReview
      */
-    private static class ProductReviewRowMapper implements RowMapper<ProductReview> {
+    private static class ProductReviewRowMapper extends IndexedRowMapper<ProductReview> {
+
+        private static final int ID = 0;
+        private static final int PRODUCT_ID = 1;
+        private static final int USER_ID = 2;
+        private static final int RATING = 3;
+        private static final int COMMENT = 4;
+        private static final int CREATED_AT = 5;
+        private static final int UPDATED_AT = 6;
+
+        ProductReviewRowMapper() {
+            super("id", "product_id", "user_id", "rating", "comment", "created_at", "updated_at");
+        }
+
         @Override
-        public ProductReview mapRow(ResultSet rs, int rowNum) throws SQLException {
+        protected ProductReview mapRow(ResultSet rs, int[] col) throws SQLException {
             return ProductReview.builder()
-                    .id(rs.getObject("id", UUID.class))
-                    .productId(rs.getObject("product_id", UUID.class))
-                    .userId(rs.getObject("user_id", UUID.class))
-                    .rating(rs.getInt("rating"))
-                    .comment(rs.getString("comment"))
-                    .createdAt(JdbcUtils.getOffsetDateTime(rs, "created_at"))
-                    .updatedAt(JdbcUtils.getOffsetDateTime(rs, "updated_at"))
+                    .id(JdbcUtils.getUUID(rs, col[ID]))
+                    .productId(JdbcUtils.getUUID(rs, col[PRODUCT_ID]))
+                    .userId(JdbcUtils.getUUID(rs, col[USER_ID]))
+                    .rating(JdbcUtils.getInt(rs, col[RATING], 0))
+                    .comment(JdbcUtils.getString(rs, col[COMMENT]))
+                    .createdAt(JdbcUtils.getOffsetDateTime(rs, col[CREATED_AT]))
+                    .updatedAt(JdbcUtils.getOffsetDateTime(rs, col[UPDATED_AT]))
                     .build();
         }
     }
@@ -1,9 +1,12 @@
 package com.miracle.smart_ecommerce_api_v1.domain.review.service;
 
+import com.miracle.smart_ecommerce_api_v1.common.response.CursorPageResponse;
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.dto.CreateReviewRequest;
+import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ProductRatingResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ReviewResponse;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -31,6 +34,11 @@ public interface ReviewService {
      */
     PageResponse<ReviewResponse> getReviewsByUserId(UUID userId, int page, int size);
 
+    /**
+     * Get a user's review history as a keyset-paged feed, newest first
+     */
+    CursorPageResponse<ReviewResponse> getReviewFeedByUserId(UUID userId, String cursor, int size);
+
     /**
      * Get paginated list of all reviews
      */
@@ -41,6 +49,16 @@ public interface ReviewService {
      */
     Double getAverageRatingForProduct(UUID productId);
 
+    /**
+     * Get rating summary (count, average, star histogram) for a product
+     */
+    ProductRatingResponse getProductRating(UUID productId);
+
+    /**
+     * Get rating summaries for a page of products, in the order given
+     */
+    List<ProductRatingResponse> getProductRatings(List<UUID> productIds);
+
     /**
      * Update a review
      */
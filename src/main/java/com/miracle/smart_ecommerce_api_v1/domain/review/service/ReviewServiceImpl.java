@@ -1,23 +1,32 @@
 package com.miracle.smart_ecommerce_api_v1.domain.review.service;
 
+import com.miracle.smart_ecommerce_api_v1.common.response.CursorPageResponse;
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
+import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.common.util.KeysetCursor;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductRatingSummary;
 import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductReview;
 import com.miracle.smart_ecommerce_api_v1.domain.review.dto.CreateReviewRequest;
+import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ProductRatingResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ReviewResponse;
+import com.miracle.smart_ecommerce_api_v1.exception.BadRequestException;
 import com.miracle.smart_ecommerce_api_v1.exception.DuplicateResourceException;
 import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
-import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ProductRatingSummaryRepository;
 import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ReviewRepository;
-import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -32,32 +41,22 @@ import static com.miracle.smart_ecommerce_api_v1.config.CacheConfig.*;
 public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ProductRatingSummaryRepository ratingSummaryRepository;
     private final ProductRepository productRepository;
-    private final UserRepository userRepository;
     private final CacheManager cacheManager;
 
+    private static final String PRODUCT_FK = "product_review_product_id_fkey";
+    private static final String USER_FK = "product_review_user_id_fkey";
+
+    /** Largest product list resolved by one bulk rating lookup */
+    static final int MAX_RATING_BATCH = 100;
+
 
     @Override
     @Transactional
     public ReviewResponse createReview(CreateReviewRequest request) {
         log.info("Creating review for product: {} by user: {}", request.getProductId(), request.getUserId());
 
-        // Verify product exists
-        if (!productRepository.existsById(request.getProductId())) {
-            throw ResourceNotFoundException.forResource("Product", request.getProductId());
-        }
-
-        // Verify user exists
-        if (!userRepository.existsById(request.getUserId())) {
-            throw ResourceNotFoundException.forResource("User", request.getUserId());
-        }
-
-        // Check if user already reviewed this product
-        if (reviewRepository.existsByUserIdAndProductId(request.getUserId(), request.getProductId())) {
-            throw new DuplicateResourceException("Review", "user-product",
-                    request.getUserId() + "-" + request.getProductId());
-        }
-
         ProductReview review = ProductReview.builder()
                 .productId(request.getProductId())
                 .userId(request.getUserId())
@@ -65,7 +64,16 @@ public class ReviewServiceImpl implements ReviewService {
                 .comment(request.getComment())
                 .build();
 
-        ProductReview savedReview = reviewRepository.save(review);
+        // The insert enforces product/user existence and one review per user and product
+        ProductReview savedReview;
+        try {
+            savedReview = reviewRepository.saveIfAbsent(review)
+                    .orElseThrow(() -> new DuplicateResourceException("Review", "user-product",
+                            request.getUserId() + "-" + request.getProductId()));
+        } catch (DataIntegrityViolationException e) {
+            throw missingReference(e, request);
+        }
+        evictProductCache(savedReview.getProductId());
         log.info("Review created successfully with ID: {}", savedReview.getId());
 
         ReviewResponse response = mapToResponse(savedReview);
@@ -94,7 +102,7 @@ public class ReviewServiceImpl implements ReviewService {
     public PageResponse<ReviewResponse> getReviewsByProductId(UUID productId, int page, int size) {
         log.debug("Getting reviews for product: {} - page: {}, size: {}", productId, page, size);
         List<ProductReview> reviews = reviewRepository.findByProductId(productId, page, size);
-        long total = reviewRepository.countByProductId(productId);
+        long total = ratingSummaryRepository.findByProductId(productId).getReviewCount();
 
         List<ReviewResponse> responses = reviews.stream()
                 .map(this::mapToResponse)
@@ -108,8 +116,7 @@ public class ReviewServiceImpl implements ReviewService {
     public PageResponse<ReviewResponse> getReviewsByUserId(UUID userId, int page, int size) {
         log.debug("Getting reviews by user: {} - page: {}, size: {}", userId, page, size);
         List<ProductReview> reviews = reviewRepository.findByUserId(userId, page, size);
-        // Simplified count - ideally should count user's reviews
-        long total = reviews.size();
+        long total = reviewRepository.countByUserId(userId);
 
         List<ReviewResponse> responses = reviews.stream()
                 .map(this::mapToResponse)
@@ -118,6 +125,22 @@ public class ReviewServiceImpl implements ReviewService {
         return PageResponse.of(responses, page, size, total);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ReviewResponse> getReviewFeedByUserId(UUID userId, String cursor, int size) {
+        log.debug("Getting review feed for user: {} - cursor: {}, size: {}", userId, cursor, size);
+        JdbcUtils.validatePagination(0, size);
+        // One extra row tells whether another page follows
+        List<ReviewResponse> fetched = reviewRepository.findByUserIdAfter(userId, KeysetCursor.decode(cursor), size + 1)
+                .stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+        long total = reviewRepository.countByUserId(userId);
+
+        return CursorPageResponse.of(fetched, size, total,
+                review -> new KeysetCursor(review.getCreatedAt(), review.getId()).encode());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PageResponse<ReviewResponse> getAllReviews(int page, int size) {
@@ -136,7 +159,26 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional(readOnly = true)
     public Double getAverageRatingForProduct(UUID productId) {
         log.debug("Getting average rating for product: {}", productId);
-        return reviewRepository.getAverageRatingByProductId(productId);
+        return ratingSummaryRepository.findByProductId(productId).getAverageRating();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductRatingResponse getProductRating(UUID productId) {
+        log.debug("Getting rating summary for product: {}", productId);
+        return ProductRatingResponse.of(ratingSummaryRepository.findByProductId(productId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductRatingResponse> getProductRatings(List<UUID> productIds) {
+        if (productIds.size() > MAX_RATING_BATCH) {
+            throw new BadRequestException("At most " + MAX_RATING_BATCH + " product IDs per rating lookup");
+        }
+        Map<UUID, ProductRatingSummary> summaries = ratingSummaryRepository.findByProductIds(productIds);
+        return productIds.stream()
+                .map(id -> ProductRatingResponse.of(summaries.get(id)))
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -144,13 +186,20 @@ public class ReviewServiceImpl implements ReviewService {
     public ReviewResponse updateReview(UUID id, CreateReviewRequest request) {
         log.info("Updating review: {}", id);
 
-        ProductReview existingReview = reviewRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.forResource("Review", id));
-
-        existingReview.setRating(request.getRating());
-        existingReview.setComment(request.getComment());
+        ProductReview changes = ProductReview.builder()
+                .id(id)
+                .rating(request.getRating())
+                .comment(request.getComment())
+                .build();
 
-        ProductReview updatedReview = reviewRepository.update(existingReview);
+        // The previous rating comes from the write itself, so concurrent edits cannot both remove it
+        ReviewRepository.UpdatedReview updated = reviewRepository.update(changes)
+                .orElseThrow(() -> ResourceNotFoundException.forResource("Review", id));
+        ProductReview updatedReview = updated.review();
+        if (updated.previousRating() != updatedReview.getRating()) {
+            ratingSummaryRepository.applyDelta(updatedReview.getProductId(), updated.previousRating(), updatedReview.getRating());
+            evictProductCache(updatedReview.getProductId());
+        }
         log.info("Review updated successfully: {}", id);
 
         ReviewResponse response = mapToResponse(updatedReview);
@@ -168,10 +217,11 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional
     public void deleteReview(UUID id) {
         log.info("Deleting review: {}", id);
-        if (!reviewRepository.existsById(id)) {
-            throw ResourceNotFoundException.forResource("Review", id);
-        }
-        reviewRepository.deleteById(id);
+        // Only the delete that actually removed the row takes its rating out of the summary
+        ProductReview review = reviewRepository.deleteById(id)
+                .orElseThrow(() -> ResourceNotFoundException.forResource("Review", id));
+        ratingSummaryRepository.applyDelta(review.getProductId(), review.getRating(), null);
+        evictProductCache(review.getProductId());
         log.info("Review deleted successfully: {}", id);
 
         // Evict from cache
@@ -190,7 +240,7 @@ public class ReviewServiceImpl implements ReviewService {
     @Override
     @Transactional(readOnly = true)
     public long countReviewsByProductId(UUID productId) {
-        return reviewRepository.countByProductId(productId);
+        return ratingSummaryRepository.findByProductId(productId).getReviewCount();
     }
 
     // ========================================================================
@@ -208,5 +258,32 @@ public class ReviewServiceImpl implements ReviewService {
                 .updatedAt(review.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * Map a foreign-key violation on insert to the missing product or user
+     */
+    private RuntimeException missingReference(DataIntegrityViolationException e, CreateReviewRequest request) {
+        String constraint = JdbcUtils.violatedConstraint(e);
+        if (PRODUCT_FK.equals(constraint)) {
+            return ResourceNotFoundException.forResource("Product", request.getProductId());
+        }
+        if (USER_FK.equals(constraint)) {
+            return ResourceNotFoundException.forResource("User", request.getUserId());
+        }
+        return e;
+    }
+
+    /**
+     * Product responses carry the rating summary; they are cached by ID and by SKU
+     */
+    private void evictProductCache(UUID productId) {
+        Cache productCache = cacheManager.getCache(PRODUCTS_CACHE);
+        if (productCache != null) {
+            productCache.evict("id:" + productId);
+            productRepository.findById(productId)
+                    .map(Product::getSku)
+                    .ifPresent(sku -> productCache.evict("sku:" + sku));
+        }
+    }
 }
 
@@ -0,0 +1,36 @@
+package com.miracle.smart_ecommerce_api_v1.domain.user.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Lightweight user read model for hydration and auth lookups.
+ * Never carries the password hash.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummary {
+
+    private UUID id;
+    private String emailAddress;
+    private String firstName;
+    private String lastName;
+    private String role;
+    private Boolean isActive;
+
+    /**
+     * Get full name
+     */
+    public String getFullName() {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        return ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+    }
+}
@@ -1,52 +1,50 @@
 package com.miracle.smart_ecommerce_api_v1.domain.user.mapper;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miracle.smart_ecommerce_api_v1.common.util.IndexedRowMapper;
 import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
-import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Component;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * RowMapper for User domain model.
  * Maps ResultSet rows to User objects.
  */
 @Component
-public class UserMapper implements RowMapper<User> {
-    @Override
-    public User mapRow(ResultSet rs, int rowNum) throws SQLException {
+public class UserMapper extends IndexedRowMapper<User> {
+
+    private static final int ID = 0;
+    private static final int EMAIL_ADDRESS = 1;
+    private static final int FIRST_NAME = 2;
+    private static final int LAST_NAME = 3;
+    private static final int PHONE_NUMBER = 4;
+    private static final int PASSWORD_HASH = 5;
+    private static final int IS_ACTIVE = 6;
+    private static final int CREATED_AT = 7;
+    private static final int UPDATED_AT = 8;
+    private static final int ROLE = 9;
 
-        String role = null;
-        try {
-            role = rs.getString("roles");
-        } catch (SQLException ex) {
-            // column may be 'role' instead of 'roles' depending on DB migrations
-            try {
-                role = rs.getString("role");
-            } catch (SQLException ex2) {
-                role = null;
-            }
-        }
+    public UserMapper() {
+        // column may be 'role' or 'roles' depending on DB migrations
+        super("id", "email_address", "first_name", "last_name", "phone_number", "password_hash",
+                "is_active", "created_at", "updated_at", "roles|role");
+    }
 
+    @Override
+    protected User mapRow(ResultSet rs, int[] col) throws SQLException {
         return User.builder()
-                .id(JdbcUtils.getUUID(rs, "id"))
-                .emailAddress(rs.getString("email_address"))
-                .firstName(rs.getString("first_name"))
-                .lastName(rs.getString("last_name"))
-                .phoneNumber(rs.getString("phone_number"))
-                .passwordHash(rs.getString("password_hash"))
-                .isActive(JdbcUtils.getBoolean(rs, "is_active"))
-                .createdAt(JdbcUtils.getOffsetDateTime(rs, "created_at"))
-                .updatedAt(JdbcUtils.getOffsetDateTime(rs, "updated_at"))
-                .role(role)
+                .id(JdbcUtils.getUUID(rs, col[ID]))
+                .emailAddress(JdbcUtils.getString(rs, col[EMAIL_ADDRESS]))
+                .firstName(JdbcUtils.getString(rs, col[FIRST_NAME]))
+                .lastName(JdbcUtils.getString(rs, col[LAST_NAME]))
+                .phoneNumber(JdbcUtils.getString(rs, col[PHONE_NUMBER]))
+                .passwordHash(JdbcUtils.getString(rs, col[PASSWORD_HASH]))
+                .isActive(JdbcUtils.getBoolean(rs, col[IS_ACTIVE]))
+                .createdAt(JdbcUtils.getOffsetDateTime(rs, col[CREATED_AT]))
+                .updatedAt(JdbcUtils.getOffsetDateTime(rs, col[UPDATED_AT]))
+                .role(JdbcUtils.getString(rs, col[ROLE]))
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.miracle.smart_ecommerce_api_v1.domain.user.mapper;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.IndexedRowMapper;
+import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.domain.user.entity.UserSummary;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * RowMapper for the UserSummary projection.
+ */
+@Component
+public class UserSummaryMapper extends IndexedRowMapper<UserSummary> {
+
+    public static final String COLUMNS = "id, email_address, first_name, last_name, role, is_active";
+
+    private static final int ID = 0;
+    private static final int EMAIL_ADDRESS = 1;
+    private static final int FIRST_NAME = 2;
+    private static final int LAST_NAME = 3;
+    private static final int ROLE = 4;
+    private static final int IS_ACTIVE = 5;
+
+    public UserSummaryMapper() {
+        super("id", "email_address", "first_name", "last_name", "role|roles", "is_active");
+    }
+
+    @Override
+    protected UserSummary mapRow(ResultSet rs, int[] col) throws SQLException {
+        return UserSummary.builder()
+                .id(JdbcUtils.getUUID(rs, col[ID]))
+                .emailAddress(JdbcUtils.getString(rs, col[EMAIL_ADDRESS]))
+                .firstName(JdbcUtils.getString(rs, col[FIRST_NAME]))
+                .lastName(JdbcUtils.getString(rs, col[LAST_NAME]))
+                .role(JdbcUtils.getString(rs, col[ROLE]))
+                .isActive(JdbcUtils.getBoolean(rs, col[IS_ACTIVE]))
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.miracle.smart_ecommerce_api_v1.domain.user.repository;
 
 import java.time.OffsetDateTime;
 
+import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.Address;
 import com.miracle.smart_ecommerce_api_v1.domain.user.mapper.AddressMapper;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
@@ -29,7 +29,6 @@ public class AddressRepositoryImpl implements AddressRepository {
     private final AddressMapper addressMapper;
 
     @Override
-    @Transactional
     public Address save(Address address) {
         String sql = """
             INSERT INTO address (user_id, address_line, city, region, country, postal_code, address_type, created_at)
@@ -51,7 +50,6 @@ public class AddressRepositoryImpl implements AddressRepository {
     }
 
     @Override
-    @Transactional
     public Address update(Address address) {
         String sql = """
             UPDATE address 
@@ -72,7 +70,6 @@ public class AddressRepositoryImpl implements AddressRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Address> findById(UUID id) {
         String sql = "SELECT * FROM address WHERE id = ?";
         try {
@@ -84,7 +81,6 @@ public class AddressRepositoryImpl implements AddressRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<Address> findAll() {
         String sql = "SELECT id, user_id, address_line, city, region, country, postal_code, address_type, created_at FROM address ORDER BY created_at DESC";
         List<Address> list = jdbcTemplate.query(sql, addressMapper);
@@ -93,7 +89,6 @@ public class AddressRepositoryImpl implements AddressRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<Address> findByUserId(UUID userId) {
         String sql = "SELECT id, user_id, address_line, city, region, country, postal_code, address_type, created_at FROM address WHERE user_id = ? ORDER BY created_at DESC";
         List<Address> list = jdbcTemplate.query(sql, addressMapper, userId);
@@ -102,7 +97,6 @@ public class AddressRepositoryImpl implements AddressRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<Address> findByUserIdAndType(UUID userId, String addressType) {
         // Compare lower-case and treat NULL as 'shipping' so older rows without type are considered shipping by default
         String sql = "SELECT id, user_id, address_line, city, region, country, postal_code, address_type, created_at FROM address " +
@@ -113,7 +107,6 @@ public class AddressRepositoryImpl implements AddressRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public Optional<Address> findDefaultByUserId(UUID userId) {
         // Schema doesn't include is_default. Return most recent address as default.
         String sql = "SELECT id, user_id, address_line, city, region, country, postal_code, address_type, created_at FROM address WHERE user_id = ? ORDER BY created_at DESC LIMIT 1";
@@ -126,22 +119,17 @@ public class AddressRepositoryImpl implements AddressRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
-        String sql = "SELECT COUNT(*) FROM address WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM address WHERE id = ?", id);
     }
 
     @Override
-    @Transactional
     public void deleteById(UUID id) {
         String sql = "DELETE FROM address WHERE id = ?";
         jdbcTemplate.update(sql, id);
     }
 
     @Override
-    @Transactional
     public void clearDefaultForUserAndType(UUID userId, String addressType) {
         // No is_default column in schema. This method is a no-op.
     }
@@ -1,7 +1,9 @@
 package com.miracle.smart_ecommerce_api_v1.domain.user.repository;
 
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
+import com.miracle.smart_ecommerce_api_v1.domain.user.entity.UserSummary;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,7 +30,17 @@ public interface UserRepository {
     Optional<User> findById(UUID id);
 
     /**
-     * Find user by email address
+     * Find the lightweight user projection by ID (no password hash)
+     */
+    Optional<UserSummary> findSummaryById(UUID id);
+
+    /**
+     * Find the lightweight user projections for several IDs in one query
+     */
+    List<UserSummary> findSummariesByIds(Collection<UUID> ids);
+
+    /**
+     * Find user by email address, ignoring case
      */
     Optional<User> findByEmail(String email);
 
@@ -48,9 +60,15 @@ public interface UserRepository {
     List<User> findActiveUsers(int page, int size);
 
     /**
-     * Search users by name or email
+     * One page of search matches and the total number of matches
      */
-    List<User> search(String keyword, int page, int size);
+    record SearchPage(List<User> users, long totalMatches) {
+    }
+
+    /**
+     * Search users by name or email, case-insensitively, with the total match count
+     */
+    SearchPage search(String keyword, int page, int size);
 
     /**
      * Delete user by ID
@@ -63,7 +81,7 @@ public interface UserRepository {
     boolean existsById(UUID id);
 
     /**
-     * Check if email exists
+     * Check if email exists, ignoring case
      */
     boolean existsByEmail(String email);
 
@@ -78,12 +96,12 @@ public interface UserRepository {
     long countActive();
 
     /**
-     * Count users matching search keyword
+     * Activate/deactivate user
      */
-    long countByKeyword(String keyword);
+    void setActiveStatus(UUID id, boolean isActive);
 
     /**
-     * Activate/deactivate user
+     * Replace a password hash, only if it is still the expected one; returns false if it changed meanwhile
      */
-    void setActiveStatus(UUID id, boolean isActive);
+    boolean replacePasswordHash(UUID id, String expectedHash, String newHash);
 }
\ No newline at end of file
@@ -2,16 +2,24 @@ package com.miracle.smart_ecommerce_api_v1.domain.user.repository;
 
 import java.time.OffsetDateTime;
 
+import com.miracle.smart_ecommerce_api_v1.common.existence.ExistenceFilters;
+import com.miracle.smart_ecommerce_api_v1.common.util.EmailUtils;
 import com.miracle.smart_ecommerce_api_v1.common.util.JdbcUtils;
+import com.miracle.smart_ecommerce_api_v1.common.util.RequestIdentityMap;
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
+import com.miracle.smart_ecommerce_api_v1.domain.user.entity.UserSummary;
+import com.miracle.smart_ecommerce_api_v1.exception.DuplicateResourceException;
 import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
 import com.miracle.smart_ecommerce_api_v1.domain.user.mapper.UserMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.user.mapper.UserSummaryMapper;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,17 +31,33 @@ import java.util.UUID;
 @Repository
 public class UserRepositoryImpl implements UserRepository {
 
+    /** Columns for user listings; everything except the password hash */
+    private static final String PROFILE_COLUMNS =
+            "id, email_address, first_name, last_name, phone_number, is_active, created_at, updated_at, role";
+
+    private static final String EMAIL_UNIQUE_INDEX = "uq_app_user_email_lower";
+
+    // Matches the trigram indexes on the lower-cased columns
+    private static final String KEYWORD_FILTER = """
+            lower(first_name) LIKE ? OR lower(last_name) LIKE ? OR lower(email_address) LIKE ?
+            """;
+
     private final JdbcTemplate jdbcTemplate;
     private final UserMapper userRowMapper;
+    private final UserSummaryMapper summaryRowMapper;
+    private final ExistenceFilters existenceFilters;
 
     public UserRepositoryImpl(JdbcTemplate jdbcTemplate,
-                              UserMapper userRowMapper) {
+                              UserMapper userRowMapper,
+                              UserSummaryMapper summaryRowMapper,
+                              ExistenceFilters existenceFilters) {
         this.jdbcTemplate = jdbcTemplate;
         this.userRowMapper = userRowMapper;
+        this.summaryRowMapper = summaryRowMapper;
+        this.existenceFilters = existenceFilters;
     }
 
     @Override
-    @Transactional
     public User save(User user) {
         String sql = """
             INSERT INTO app_user (email_address, first_name, last_name, phone_number, password_hash, is_active, created_at, updated_at, role)
@@ -45,8 +69,8 @@ public class UserRepositoryImpl implements UserRepository {
         try {
             String role = user.getRole();
 
-            return jdbcTemplate.queryForObject(sql, userRowMapper,
-                    user.getEmailAddress(),
+            User saved = jdbcTemplate.queryForObject(sql, userRowMapper,
+                    EmailUtils.normalize(user.getEmailAddress()),
                     user.getFirstName(),
                     user.getLastName(),
                     user.getPhoneNumber(),
@@ -56,14 +80,16 @@ public class UserRepositoryImpl implements UserRepository {
                     Timestamp.from(now.toInstant()),
                     role
             );
+            existenceFilters.added(ExistenceFilters.Kind.USERS, saved.getId());
+            return saved;
         } catch (Exception e) {
-            throw new RuntimeException("Failed to persist role", e);
+            throw translateSaveFailure(e, user);
         }
     }
 
     @Override
-    @Transactional
     public User update(User user) {
+        RequestIdentityMap.evict(User.class, user.getId());
         String sql = """
             UPDATE app_user 
             SET email_address = ?, first_name = ?, last_name = ?, phone_number = ?, 
@@ -76,7 +102,7 @@ public class UserRepositoryImpl implements UserRepository {
             String role = user.getRole();
 
             return jdbcTemplate.queryForObject(sql, userRowMapper,
-                    user.getEmailAddress(),
+                    EmailUtils.normalize(user.getEmailAddress()),
                     user.getFirstName(),
                     user.getLastName(),
                     user.getPhoneNumber(),
@@ -89,13 +115,34 @@ public class UserRepositoryImpl implements UserRepository {
         } catch (EmptyResultDataAccessException e) {
             throw ResourceNotFoundException.forResource("User", user.getId());
         } catch (Exception e) {
-            throw new RuntimeException("Failed to persist role", e);
+            throw translateSaveFailure(e, user);
         }
     }
 
+    /**
+     * A concurrent signup with the same email loses on the unique index rather than the
+     * service's existence check; report it the same way.
+     */
+    private static RuntimeException translateSaveFailure(Exception e, User user) {
+        if (EMAIL_UNIQUE_INDEX.equals(JdbcUtils.violatedConstraint(e))) {
+            return new DuplicateResourceException("User", "email", EmailUtils.normalize(user.getEmailAddress()));
+        }
+        return new RuntimeException("Failed to persist role", e);
+    }
+
     @Override
-    @Transactional(readOnly = true)
     public Optional<User> findById(UUID id) {
+        return RequestIdentityMap.find(User.class, id, () -> loadById(id), UserRepositoryImpl::copy);
+    }
+
+    /**
+     * Independent copy for the request identity map
+     */
+    private static User copy(User user) {
+        return user.toBuilder().build();
+    }
+
+    private Optional<User> loadById(UUID id) {
         String sql = "SELECT * FROM app_user WHERE id = ?";
         try {
             User user = jdbcTemplate.queryForObject(sql, userRowMapper, id);
@@ -106,11 +153,34 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public Optional<UserSummary> findSummaryById(UUID id) {
+        String sql = "SELECT " + UserSummaryMapper.COLUMNS + " FROM app_user WHERE id = ?";
+        try {
+            return Optional.ofNullable(jdbcTemplate.queryForObject(sql, summaryRowMapper, id));
+        } catch (EmptyResultDataAccessException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<UserSummary> findSummariesByIds(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT " + UserSummaryMapper.COLUMNS + " FROM app_user WHERE id = ANY(?)";
+        Object[] idArray = ids.stream().distinct().toArray();
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            ps.setArray(1, con.createArrayOf("uuid", idArray));
+            return ps;
+        }, summaryRowMapper);
+    }
+
+    @Override
     public Optional<User> findByEmail(String email) {
-        String sql = "SELECT * FROM app_user WHERE email_address = ?";
+        String sql = "SELECT * FROM app_user WHERE lower(email_address) = ?";
         try {
-            User user = jdbcTemplate.queryForObject(sql, userRowMapper, email);
+            User user = jdbcTemplate.queryForObject(sql, userRowMapper, EmailUtils.normalize(email));
             return Optional.ofNullable(user);
         } catch (EmptyResultDataAccessException e) {
             return Optional.empty();
@@ -118,49 +188,53 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<User> findAll() {
-        String sql = "SELECT * FROM app_user ORDER BY created_at DESC";
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM app_user ORDER BY created_at DESC";
         return jdbcTemplate.query(sql, userRowMapper);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<User> findAll(int page, int size) {
         JdbcUtils.validatePagination(page, size);
-        String sql = "SELECT * FROM app_user ORDER BY created_at DESC LIMIT ? OFFSET ?";
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM app_user ORDER BY created_at DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, userRowMapper, size, JdbcUtils.calculateOffset(page, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<User> findActiveUsers(int page, int size) {
         JdbcUtils.validatePagination(page, size);
-        String sql = "SELECT * FROM app_user WHERE is_active = true ORDER BY created_at DESC LIMIT ? OFFSET ?";
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM app_user WHERE is_active = true ORDER BY created_at DESC LIMIT ? OFFSET ?";
         return jdbcTemplate.query(sql, userRowMapper, size, JdbcUtils.calculateOffset(page, size));
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<User> search(String keyword, int page, int size) {
+    public SearchPage search(String keyword, int page, int size) {
         JdbcUtils.validatePagination(page, size);
+        // The total rides along on every row, so one query serves the page and its count
         String sql = """
-            SELECT * FROM app_user 
-            WHERE LOWER(first_name) LIKE LOWER(?) 
-               OR LOWER(last_name) LIKE LOWER(?) 
-               OR LOWER(email_address) LIKE LOWER(?)
-            ORDER BY created_at DESC 
+            SELECT %s, COUNT(*) OVER () AS total_matches FROM app_user
+            WHERE %s
+            ORDER BY created_at DESC
             LIMIT ? OFFSET ?
-            """;
-        String searchPattern = "%" + keyword + "%";
-        return jdbcTemplate.query(sql, userRowMapper,
-                searchPattern, searchPattern, searchPattern,
-                size, JdbcUtils.calculateOffset(page, size));
+            """.formatted(PROFILE_COLUMNS, KEYWORD_FILTER);
+        String searchPattern = "%" + EmailUtils.normalize(keyword) + "%";
+        List<User> users = new ArrayList<>(size);
+        long[] total = {0};
+        jdbcTemplate.query(sql, rs -> {
+            users.add(userRowMapper.mapRow(rs, users.size()));
+            total[0] = rs.getLong("total_matches");
+        }, searchPattern, searchPattern, searchPattern, size, JdbcUtils.calculateOffset(page, size));
+
+        // A page past the end returns no rows to carry the total
+        if (users.isEmpty() && page > 0) {
+            total[0] = countByKeyword(searchPattern);
+        }
+        return new SearchPage(users, total[0]);
     }
 
     @Override
-    @Transactional
     public void deleteById(UUID id) {
+        RequestIdentityMap.evict(User.class, id);
         String sql = "DELETE FROM app_user WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, id);
         if (rowsAffected == 0) {
@@ -169,23 +243,20 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsById(UUID id) {
-        String sql = "SELECT COUNT(*) FROM app_user WHERE id = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-        return count != null && count > 0;
+        if (!existenceFilters.mightExist(ExistenceFilters.Kind.USERS, id)) {
+            return false;
+        }
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM app_user WHERE id = ?", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        String sql = "SELECT COUNT(*) FROM app_user WHERE email_address = ?";
-        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, email);
-        return count != null && count > 0;
+        return JdbcUtils.exists(jdbcTemplate, "SELECT 1 FROM app_user WHERE lower(email_address) = ?",
+                EmailUtils.normalize(email));
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long count() {
         String sql = "SELECT COUNT(*) FROM app_user";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
@@ -193,36 +264,33 @@ public class UserRepositoryImpl implements UserRepository {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public long countActive() {
         String sql = "SELECT COUNT(*) FROM app_user WHERE is_active = true";
         Long count = jdbcTemplate.queryForObject(sql, Long.class);
         return count != null ? count : 0;
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public long countByKeyword(String keyword) {
-        String sql = """
-            SELECT COUNT(*) FROM app_user 
-            WHERE LOWER(first_name) LIKE LOWER(?) 
-               OR LOWER(last_name) LIKE LOWER(?) 
-               OR LOWER(email_address) LIKE LOWER(?)
-            """;
-        String searchPattern = "%" + keyword + "%";
-        Long count = jdbcTemplate.queryForObject(sql, Long.class,
-                searchPattern, searchPattern, searchPattern);
+    private long countByKeyword(String searchPattern) {
+        String sql = "SELECT COUNT(*) FROM app_user WHERE " + KEYWORD_FILTER;
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, searchPattern, searchPattern, searchPattern);
         return count != null ? count : 0;
     }
 
     @Override
-    @Transactional
     public void setActiveStatus(UUID id, boolean isActive) {
+        RequestIdentityMap.evict(User.class, id);
         String sql = "UPDATE app_user SET is_active = ?, updated_at = ? WHERE id = ?";
         int rowsAffected = jdbcTemplate.update(sql, isActive, Timestamp.from(OffsetDateTime.now().toInstant()), id);
         if (rowsAffected == 0) {
             throw ResourceNotFoundException.forResource("User", id);
         }
     }
+
+    @Override
+    public boolean replacePasswordHash(UUID id, String expectedHash, String newHash) {
+        RequestIdentityMap.evict(User.class, id);
+        String sql = "UPDATE app_user SET password_hash = ?, updated_at = ? WHERE id = ? AND password_hash = ?";
+        return jdbcTemplate.update(sql, newHash, Timestamp.from(OffsetDateTime.now().toInstant()), id, expectedHash) > 0;
+    }
 }
 
@@ -1,5 +1,6 @@
 package com.miracle.smart_ecommerce_api_v1.domain.user.service.impl;
 
+import com.miracle.smart_ecommerce_api_v1.common.util.TransactionCallbacks;
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.Address;
 import com.miracle.smart_ecommerce_api_v1.domain.user.dto.request.CreateAddressRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.user.dto.response.AddressResponse;
@@ -9,13 +10,15 @@ import com.miracle.smart_ecommerce_api_v1.domain.user.repository.AddressReposito
 import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,6 +26,9 @@ import static com.miracle.smart_ecommerce_api_v1.config.CacheConfig.*;
 
 /**
  * Implementation of AddressService.
+ *
+ * Each user's addresses are cached together under "user:{userId}" (checkout reads them on every
+ * step) and filtered by type in memory; writes evict only the affected user's entry.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -32,10 +38,10 @@ public class AddressServiceImpl implements AddressService {
 
     private final AddressRepository addressRepository;
     private final UserRepository userRepository;
+    private final CacheManager cacheManager;
 
     @Override
     @Transactional
-    @CacheEvict(value = ADDRESSES_CACHE, allEntries = true)
     public AddressResponse createAddress(CreateAddressRequest request) {
         log.info("Creating address for user: {}", request.getUserId());
 
@@ -60,6 +66,7 @@ public class AddressServiceImpl implements AddressService {
                 .build();
 
         Address savedAddress = addressRepository.save(address);
+        evictAfterCommit(savedAddress.getUserId(), null);
         log.info("Address created successfully with ID: {} and createdAt: {}", savedAddress.getId(), savedAddress.getCreatedAt());
 
         return mapToResponse(savedAddress);
@@ -88,29 +95,25 @@ public class AddressServiceImpl implements AddressService {
     @Transactional(readOnly = true)
     public List<AddressResponse> getAddressesByUserId(UUID userId) {
         log.debug("Getting addresses for user: {}", userId);
-        List<AddressResponse> addresses = addressRepository.findByUserId(userId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-        log.info("Found {} addresses for userId: {}", addresses.size(), userId);
-        return addresses;
+        return addressBook(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<AddressResponse> getAddressesByUserIdAndType(UUID userId, String addressType) {
         log.debug("Getting {} addresses for user: {}", addressType, userId);
-        List<AddressResponse> addresses = addressRepository.findByUserIdAndType(userId, addressType).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-        log.info("Found {} {} addresses for userId: {}", addresses.size(), addressType, userId);
-        return addresses;
+        // Same rule as the repository query: case-insensitive, untyped addresses count as shipping
+        String type = addressType != null ? addressType.toLowerCase(Locale.ROOT) : null;
+        return addressBook(userId).stream()
+                .filter(a -> (a.getAddressType() != null ? a.getAddressType() : "shipping")
+                        .toLowerCase(Locale.ROOT).equals(type))
+                .toList();
     }
 
 
 
     @Override
     @Transactional
-    @CacheEvict(value = ADDRESSES_CACHE, allEntries = true)
     public AddressResponse updateAddress(UUID id, CreateAddressRequest request) {
         log.info("Updating address: {}", id);
 
@@ -126,6 +129,7 @@ public class AddressServiceImpl implements AddressService {
         existingAddress.setAddressType(request.getAddressType());
 
         Address updatedAddress = addressRepository.update(existingAddress);
+        evictAfterCommit(updatedAddress.getUserId(), id);
         log.info("Address updated successfully: {}", id);
 
         return mapToResponse(updatedAddress);
@@ -133,7 +137,6 @@ public class AddressServiceImpl implements AddressService {
 
     @Override
     @Transactional
-    @CacheEvict(value = ADDRESSES_CACHE, allEntries = true)
     public AddressResponse setDefaultAddress(UUID id) {
         log.info("Setting address {} as default", id);
 
@@ -145,6 +148,7 @@ public class AddressServiceImpl implements AddressService {
 
         // Set this address as default
         Address updatedAddress = addressRepository.update(address);
+        evictAfterCommit(updatedAddress.getUserId(), id);
 
         log.info("Default address set successfully: {}", id);
         return mapToResponse(updatedAddress);
@@ -152,13 +156,12 @@ public class AddressServiceImpl implements AddressService {
 
     @Override
     @Transactional
-    @CacheEvict(value = ADDRESSES_CACHE, allEntries = true)
     public void deleteAddress(UUID id) {
         log.info("Deleting address: {}", id);
-        if (!addressRepository.existsById(id)) {
-            throw ResourceNotFoundException.forResource("Address", id);
-        }
+        Address address = addressRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.forResource("Address", id));
         addressRepository.deleteById(id);
+        evictAfterCommit(address.getUserId(), id);
         log.info("Address deleted successfully: {}", id);
     }
 
@@ -166,6 +169,59 @@ public class AddressServiceImpl implements AddressService {
     // Helper Methods
     // ========================================================================
 
+    /**
+     * All of a user's addresses, newest first, loaded once per user and shared by the type filters
+     */
+    private List<AddressResponse> addressBook(UUID userId) {
+        Cache cache = cacheManager.getCache(ADDRESSES_CACHE);
+        if (cache == null) {
+            return loadAddressBook(userId);
+        }
+        boolean[] loaded = {false};
+        List<AddressResponse> addresses = cache.get("user:" + userId, () -> {
+            loaded[0] = true;
+            return loadAddressBook(userId);
+        });
+        // Warm the single-address entries too (checkout resolves the chosen one by id); done
+        // outside the loader, which must not write to the same cache
+        if (loaded[0] && addresses != null) {
+            addresses.forEach(a -> cache.putIfAbsent("id:" + a.getId(), a));
+            // A write that committed since the load has evicted (or replaced) the book; its
+            // eviction may have run before these puts, so withdraw them rather than outlive it
+            Cache.ValueWrapper current = cache.get("user:" + userId);
+            if (current == null || current.get() != addresses) {
+                addresses.forEach(a -> cache.evict("id:" + a.getId()));
+            }
+        }
+        return addresses;
+    }
+
+    private List<AddressResponse> loadAddressBook(UUID userId) {
+        List<AddressResponse> addresses = addressRepository.findByUserId(userId).stream()
+                .map(this::mapToResponse)
+                .toList();
+        log.debug("Loaded {} addresses for userId: {}", addresses.size(), userId);
+        return addresses;
+    }
+
+    /**
+     * Evict a user's address book (and one address entry) once the write commits, so a read
+     * racing the transaction cannot cache the old rows again.
+     */
+    private void evictAfterCommit(UUID userId, UUID addressId) {
+        Cache cache = cacheManager.getCache(ADDRESSES_CACHE);
+        if (cache == null) {
+            return;
+        }
+        Runnable evict = () -> {
+            cache.evict("user:" + userId);
+            if (addressId != null) {
+                cache.evict("id:" + addressId);
+            }
+        };
+        TransactionCallbacks.afterCommit(evict);
+    }
+
     private AddressResponse mapToResponse(Address address) {
         return AddressResponse.builder()
                 .id(address.getId())
@@ -1,6 +1,12 @@
 package com.miracle.smart_ecommerce_api_v1.domain.user.service.impl;
 
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
+import com.miracle.smart_ecommerce_api_v1.common.util.EmailUtils;
+import com.miracle.smart_ecommerce_api_v1.common.util.TransactionCallbacks;
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.PasswordHasher;
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.PrincipalCache;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ProductRatingSummaryRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.user.entity.Address;
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
 import com.miracle.smart_ecommerce_api_v1.domain.user.dto.request.CreateUserRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.user.dto.request.UpdateUserRequest;
@@ -8,13 +14,13 @@ import com.miracle.smart_ecommerce_api_v1.domain.user.dto.response.UserResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.user.service.UserService;
 import com.miracle.smart_ecommerce_api_v1.exception.DuplicateResourceException;
 import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
+import com.miracle.smart_ecommerce_api_v1.domain.user.repository.AddressRepository;
 import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,7 +40,10 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final CacheManager cacheManager;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final PrincipalCache principalCache;
+    private final ProductRatingSummaryRepository ratingSummaryRepository;
+    private final AddressRepository addressRepository;
 
     @Override
     @Transactional
@@ -55,9 +64,10 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("Password cannot be null or empty");
         }
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(request.getEmailAddress())) {
-            throw new DuplicateResourceException("User", "email", request.getEmailAddress());
+        // Emails are unique ignoring case, and stored normalized
+        String email = EmailUtils.normalize(request.getEmailAddress());
+        if (userRepository.existsByEmail(email)) {
+            throw new DuplicateResourceException("User", "email", email);
         }
 
         String hashedPassword = hashPassword(request.getPassword());
@@ -70,7 +80,7 @@ public class UserServiceImpl implements UserService {
         }
 
         User user = User.builder()
-                .emailAddress(request.getEmailAddress())
+                .emailAddress(email)
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .phoneNumber(request.getPhoneNumber())
@@ -111,7 +121,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = USERS_CACHE, key = "'email:' + #email")
+    @Cacheable(value = USERS_CACHE, key = "'email:' + T(com.miracle.smart_ecommerce_api_v1.common.util.EmailUtils).normalize(#email)")
     public UserResponse getUserByEmail(String email) {
         log.debug("Getting user by email: {}", email);
         User user = userRepository.findByEmail(email)
@@ -137,16 +147,13 @@ public class UserServiceImpl implements UserService {
     @Transactional(readOnly = true)
     public PageResponse<UserResponse> searchUsers(String keyword, int page, int size) {
         log.debug("Searching users with keyword: {} - page: {}, size: {}", keyword, page, size);
-        List<User> users = userRepository.search(keyword, page, size);
+        UserRepository.SearchPage matches = userRepository.search(keyword, page, size);
 
-        // FIXED: Count only users matching the keyword, not all users
-        long total = userRepository.countByKeyword(keyword);
-
-        List<UserResponse> responses = users.stream()
+        List<UserResponse> responses = matches.users().stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(responses, page, size, total);
+        return PageResponse.of(responses, page, size, matches.totalMatches());
     }
 
     @Override
@@ -160,12 +167,13 @@ public class UserServiceImpl implements UserService {
         String oldEmail = existingUser.getEmailAddress();
 
         // Check if email is being changed to an existing one
-        if (!existingUser.getEmailAddress().equals(request.getEmailAddress())
-                && userRepository.existsByEmail(request.getEmailAddress())) {
-            throw new DuplicateResourceException("User", "email", request.getEmailAddress());
+        String email = EmailUtils.normalize(request.getEmailAddress());
+        if (!existingUser.getEmailAddress().equals(email)
+                && userRepository.existsByEmail(email)) {
+            throw new DuplicateResourceException("User", "email", email);
         }
 
-        existingUser.setEmailAddress(request.getEmailAddress());
+        existingUser.setEmailAddress(email);
         existingUser.setFirstName(request.getFirstName());
         existingUser.setLastName(request.getLastName());
         existingUser.setPhoneNumber(request.getPhoneNumber());
@@ -178,6 +186,7 @@ public class UserServiceImpl implements UserService {
 
         User updatedUser = userRepository.update(existingUser);
         log.info("User updated successfully: {}", id);
+        principalCache.invalidate(id);
 
         UserResponse response = mapToResponse(updatedUser);
 
@@ -205,8 +214,20 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.forResource("User", id));
 
+        // The user's reviews go with them by cascade, so take them out of the rating summaries first
+        List<UUID> reviewedProducts = ratingSummaryRepository.subtractReviewsByUser(id);
+        // So do their addresses; note the ids while they still exist
+        List<UUID> addressIds = addressRepository.findByUserId(id).stream().map(Address::getId).toList();
         userRepository.deleteById(id);
         log.info("User deleted successfully: {}", id);
+        principalCache.invalidate(id);
+
+        Cache productCache = cacheManager.getCache(PRODUCTS_CACHE);
+        if (productCache != null) {
+            reviewedProducts.forEach(productId -> productCache.evict("id:" + productId));
+        }
+
+        evictAddressesAfterCommit(id, addressIds);
 
         // Evict from cache (both id and email keys)
         Cache cache = cacheManager.getCache(USERS_CACHE);
@@ -221,6 +242,7 @@ public class UserServiceImpl implements UserService {
     public void activateUser(UUID id) {
         log.info("Activating user with ID: {}", id);
         userRepository.setActiveStatus(id, true);
+        principalCache.invalidate(id);
 
         // Evict cache - user status changed
         Cache cache = cacheManager.getCache(USERS_CACHE);
@@ -238,6 +260,7 @@ public class UserServiceImpl implements UserService {
     public void deactivateUser(UUID id) {
         log.info("Deactivating user with ID: {}", id);
         userRepository.setActiveStatus(id, false);
+        principalCache.invalidate(id);
 
         // Evict cache - user status changed
         Cache cache = cacheManager.getCache(USERS_CACHE);
@@ -261,6 +284,22 @@ public class UserServiceImpl implements UserService {
     // Helper Methods
     // ========================================================================
 
+    /**
+     * Evict a deleted user's address book and each of their addresses once the delete commits,
+     * so a read racing the transaction cannot cache the cascade-deleted rows again.
+     */
+    private void evictAddressesAfterCommit(UUID userId, List<UUID> addressIds) {
+        Cache addressCache = cacheManager.getCache(ADDRESSES_CACHE);
+        if (addressCache == null) {
+            return;
+        }
+        Runnable evict = () -> {
+            addressCache.evict("user:" + userId);
+            addressIds.forEach(addressId -> addressCache.evict("id:" + addressId));
+        };
+        TransactionCallbacks.afterCommit(evict);
+    }
+
     private UserResponse mapToResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
@@ -280,7 +319,7 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("Password cannot be null or empty for hashing");
         }
         log.debug("Hashing password with BCrypt");
-        return passwordEncoder.encode(password);
+        return passwordHasher.encode(password);
     }
 
 
@@ -288,6 +327,6 @@ public class UserServiceImpl implements UserService {
      * Verify a password against a hashed password
      */
     public boolean verifyPassword(String rawPassword, String hashedPassword) {
-        return passwordEncoder.matches(rawPassword, hashedPassword);
+        return passwordHasher.matches(rawPassword, hashedPassword);
     }
 }
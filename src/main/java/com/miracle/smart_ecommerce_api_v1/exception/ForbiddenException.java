@@ -0,0 +1,10 @@
+package com.miracle.smart_ecommerce_api_v1.exception;
+
+/**
+ * Thrown when the caller is authenticated but lacks the role the operation requires.
+ */
+public class ForbiddenException extends RuntimeException {
+    public ForbiddenException() { super(); }
+    public ForbiddenException(String message) { super(message); }
+    public ForbiddenException(String message, Throwable cause) { super(message, cause); }
+}
@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -16,6 +17,7 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
@@ -115,6 +117,56 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
     }
 
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ApiResponse<ApiError>> handleForbidden(ForbiddenException ex, HttpServletRequest req) {
+        String path = req.getRequestURI();
+        String cid = getCorrelationId();
+        String clientIp = getClientIp(req);
+        ApiError err = new ApiError(ErrorCode.FORBIDDEN, "Forbidden", ex.getMessage(), path, cid, clientIp);
+        log.warn("Forbidden access {}: {} - cid={}", path, ex.getMessage(), cid);
+        ApiResponse<ApiError> body = ApiResponse.<ApiError>builder()
+                .status(false)
+                .message("Forbidden")
+                .data(err)
+                .statusCode(HttpStatus.FORBIDDEN.value())
+                .build();
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResponse<ApiError>> handleUploadTooLarge(MaxUploadSizeExceededException ex, HttpServletRequest req) {
+        String path = req.getRequestURI();
+        String cid = getCorrelationId();
+        String clientIp = getClientIp(req);
+        ApiError err = new ApiError(ErrorCode.BAD_REQUEST, "Payload Too Large", ex.getMessage(), path, cid, clientIp);
+        log.warn("Rejected upload {}: {} - cid={}", path, ex.getMessage(), cid);
+        ApiResponse<ApiError> body = ApiResponse.<ApiError>builder()
+                .status(false)
+                .message("Payload Too Large")
+                .data(err)
+                .statusCode(HttpStatus.PAYLOAD_TOO_LARGE.value())
+                .build();
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(body);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<ApiError>> handleServiceUnavailable(ServiceUnavailableException ex, HttpServletRequest req) {
+        String path = req.getRequestURI();
+        String cid = getCorrelationId();
+        String clientIp = getClientIp(req);
+        ApiError err = new ApiError(ErrorCode.SERVICE_UNAVAILABLE, "Service Unavailable", ex.getMessage(), path, cid, clientIp);
+        log.warn("Shed request {}: {} - cid={}", path, ex.getMessage(), cid);
+        ApiResponse<ApiError> body = ApiResponse.<ApiError>builder()
+                .status(false)
+                .message("Service Unavailable")
+                .data(err)
+                .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<ApiError>> handleValidation(MethodArgumentNotValidException ex, HttpServletRequest req) {
         String path = req.getRequestURI();
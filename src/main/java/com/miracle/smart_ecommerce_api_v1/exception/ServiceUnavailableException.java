@@ -0,0 +1,10 @@
+package com.miracle.smart_ecommerce_api_v1.exception;
+
+/**
+ * Thrown when the request is shed because a bounded resource is saturated; the client should retry.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException() { super(); }
+    public ServiceUnavailableException(String message) { super(message); }
+    public ServiceUnavailableException(String message, Throwable cause) { super(message, cause); }
+}
@@ -0,0 +1,96 @@
+package com.miracle.smart_ecommerce_api_v1.graphql.persisted;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miracle.smart_ecommerce_api_v1.exception.BadRequestException;
+import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET endpoint for registered persisted queries.
+ *
+ * Only read-only operations from the startup registry are exposed, so the URL
+ * (hash + variables) is a stable cache key for browsers, CDNs and proxies.
+ */
+@RestController
+@Tag(name = "GraphQL", description = "Persisted GraphQL queries")
+public class PersistedQueryController {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES_TYPE = new TypeReference<>() {
+    };
+
+    private final ExecutionGraphQlService graphQlService;
+    private final PersistedQueryRegistry registry;
+    private final PersistedQueryProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public PersistedQueryController(ExecutionGraphQlService graphQlService,
+                                    PersistedQueryRegistry registry,
+                                    PersistedQueryProperties properties,
+                                    ObjectMapper objectMapper) {
+        this.graphQlService = graphQlService;
+        this.registry = registry;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/graphql/persisted/{hash}")
+    @Operation(summary = "Execute a persisted query",
+            description = "Executes a registered read-only GraphQL operation by its SHA-256 hash")
+    public ResponseEntity<Map<String, Object>> execute(
+            @Parameter(description = "SHA-256 hash of the query text") @PathVariable String hash,
+            @Parameter(description = "Operation name") @RequestParam(required = false) String operationName,
+            @Parameter(description = "JSON encoded variables") @RequestParam(required = false) String variables) {
+        PersistedQueryRegistry.RegisteredQuery query = registry.find(hash)
+                .orElseThrow(() -> new ResourceNotFoundException("PersistedQuery", "hash", hash));
+        if (!query.readOnly()) {
+            throw new BadRequestException("Only query operations can be executed via GET");
+        }
+
+        Map<String, Object> extensions = Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", query.hash()));
+        DefaultExecutionGraphQlRequest request = new DefaultExecutionGraphQlRequest(
+                PersistedQuerySupport.PERSISTED_QUERY_MARKER, operationName, parseVariables(variables), extensions, UUID.randomUUID().toString(), Locale.getDefault());
+
+        ExecutionGraphQlResponse response = graphQlService.execute(request).block();
+        if (response == null) {
+            throw new IllegalStateException("GraphQL execution returned no response");
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (response.getErrors().isEmpty()) {
+            builder.cacheControl(CacheControl.maxAge(properties.getGetMaxAgeSeconds(), TimeUnit.SECONDS));
+        } else {
+            builder.cacheControl(CacheControl.noStore());
+        }
+        return builder.body(response.toMap());
+    }
+
+    private Map<String, Object> parseVariables(String variables) {
+        if (variables == null || variables.isBlank()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(variables, VARIABLES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Invalid variables JSON");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.miracle.smart_ecommerce_api_v1.graphql.persisted;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import graphql.ExecutionInput;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import org.springframework.graphql.execution.ErrorType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU of parsed and validated documents keyed by SHA-256 hash.
+ *
+ * On a miss the query text comes from the request (automatic registration) or,
+ * for hash-only requests, from the startup registry. Entries with parse or
+ * validation errors are never cached. With {@code allowUnregistered} off, any document
+ * whose hash is not in the startup registry is refused, whether it arrives as a
+ * persisted query or as plain text.
+ */
+public class PersistedQueryDocumentCache implements PersistedQueryCache {
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final PersistedQueryRegistry registry;
+    private final boolean allowUnregistered;
+
+    public PersistedQueryDocumentCache(PersistedQueryRegistry registry, long maximumSize, boolean allowUnregistered) {
+        this.registry = registry;
+        this.allowUnregistered = allowUnregistered;
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(
+            Object persistedQueryId, ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss)
+            throws PersistedQueryNotFound {
+        String hash = persistedQueryId.toString().toLowerCase();
+        PreparsedDocumentEntry cached = documents.getIfPresent(hash);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        String queryText = executionInput.getQuery();
+        if (queryText == null || queryText.isBlank()
+                || PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(queryText)) {
+            // Hash-only request: fall back to the registry, otherwise ask the client to resend the text
+            queryText = registry.find(hash)
+                    .map(PersistedQueryRegistry.RegisteredQuery::query)
+                    .orElseThrow(() -> new PersistedQueryNotFound(persistedQueryId));
+        } else if (!allowUnregistered && !registry.contains(hash)) {
+            // Not NotFound: that would just make the client resend the same text
+            return CompletableFuture.completedFuture(unregistered());
+        }
+
+        PreparsedDocumentEntry entry = onCacheMiss.apply(queryText);
+        if (!entry.hasErrors()) {
+            documents.put(hash, entry);
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    /**
+     * Looks up a full-text query by its hash, parsing and validating it on a miss.
+     * Shares the key space with hash-only requests, so a query first sent as text
+     * is served from cache when the client later sends only its hash.
+     */
+    public PreparsedDocumentEntry getOrParse(String query, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate,
+                                             ExecutionInput executionInput) {
+        String hash = PersistedQueryRegistry.sha256(query);
+        PreparsedDocumentEntry cached = documents.getIfPresent(hash);
+        if (cached != null) {
+            return cached;
+        }
+        if (!allowUnregistered && !registry.contains(hash)) {
+            return unregistered();
+        }
+        PreparsedDocumentEntry entry = parseAndValidate.apply(executionInput);
+        if (!entry.hasErrors()) {
+            documents.put(hash, entry);
+        }
+        return entry;
+    }
+
+    public long size() {
+        return documents.estimatedSize();
+    }
+
+    private static PreparsedDocumentEntry unregistered() {
+        return new PreparsedDocumentEntry(GraphqlErrorBuilder.newError()
+                .message("Only registered persisted queries are accepted")
+                .errorType(ErrorType.FORBIDDEN)
+                .build());
+    }
+}
@@ -0,0 +1,36 @@
+package com.miracle.smart_ecommerce_api_v1.graphql.persisted;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Pre-parsed document provider for the GraphQL engine.
+ *
+ * Requests carrying the Apollo {@code extensions.persistedQuery.sha256Hash} go through
+ * the persisted query protocol (unknown hash -> PersistedQueryNotFound -> client resends
+ * the full text, which is then registered). Plain full-text requests are cached by the
+ * hash of their text, so parse and validation only run once per distinct document.
+ */
+public class PersistedQueryDocumentProvider extends ApolloPersistedQuerySupport {
+
+    private final PersistedQueryDocumentCache documentCache;
+
+    public PersistedQueryDocumentProvider(PersistedQueryDocumentCache documentCache) {
+        super(documentCache);
+        this.documentCache = documentCache;
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(
+            ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        if (getPersistedQueryId(executionInput).isPresent()) {
+            return super.getDocumentAsync(executionInput, parseAndValidateFunction);
+        }
+        return CompletableFuture.completedFuture(
+                documentCache.getOrParse(executionInput.getQuery(), parseAndValidateFunction, executionInput));
+    }
+}
@@ -0,0 +1,24 @@
+package com.miracle.smart_ecommerce_api_v1.graphql.persisted;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for persisted / automatic persisted GraphQL queries.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.graphql.persisted-queries")
+public class PersistedQueryProperties {
+
+    /** Classpath pattern of the operation documents registered at startup */
+    private String location = "classpath*:persisted-queries/*.graphql";
+
+    /** Maximum number of parsed and validated documents kept in memory */
+    private long cacheSize = 1000;
+
+    /** When false, only documents found in the startup registry are executed, by hash or by full text */
+    private boolean allowUnregistered = true;
+
+    /** Cache-Control max-age (seconds) for GET requests of registered queries */
+    private long getMaxAgeSeconds = 60;
+}
@@ -0,0 +1,86 @@
+package com.miracle.smart_ecommerce_api_v1.graphql.persisted;
+
+import graphql.language.Document;
+import graphql.language.OperationDefinition;
+import graphql.parser.Parser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of allowed GraphQL operations, keyed by the SHA-256 hash of their text.
+ * Documents are loaded once at startup; the hash is computed over the exact file
+ * contents, which is what clients must send as the query text.
+ */
+@Slf4j
+public class PersistedQueryRegistry {
+
+    private final Map<String, RegisteredQuery> queries = new ConcurrentHashMap<>();
+
+    /**
+     * A registered operation document.
+     *
+     * @param readOnly true when every operation in the document is a query, i.e. safe for GET
+     */
+    public record RegisteredQuery(String hash, String query, boolean readOnly) {
+    }
+
+    public static PersistedQueryRegistry load(String locationPattern) {
+        PersistedQueryRegistry registry = new PersistedQueryRegistry();
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(locationPattern);
+            for (Resource resource : resources) {
+                String query = resource.getContentAsString(StandardCharsets.UTF_8);
+                RegisteredQuery registered = registry.register(query);
+                log.debug("Registered persisted query {} -> {}", resource.getFilename(), registered.hash());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load persisted queries from " + locationPattern, e);
+        }
+        log.info("Loaded {} persisted GraphQL queries from {}", registry.size(), locationPattern);
+        return registry;
+    }
+
+    public RegisteredQuery register(String query) {
+        Document document = Parser.parse(query);
+        boolean readOnly = document.getDefinitionsOfType(OperationDefinition.class).stream()
+                .allMatch(op -> op.getOperation() == OperationDefinition.Operation.QUERY);
+        RegisteredQuery registered = new RegisteredQuery(sha256(query), query, readOnly);
+        queries.put(registered.hash(), registered);
+        return registered;
+    }
+
+    public Optional<RegisteredQuery> find(String hash) {
+        return hash == null ? Optional.empty() : Optional.ofNullable(queries.get(hash.toLowerCase()));
+    }
+
+    public boolean contains(String hash) {
+        return find(hash).isPresent();
+    }
+
+    public int size() {
+        return queries.size();
+    }
+
+    /**
+     * Lowercase hex SHA-256, the id format used by Apollo automatic persisted queries.
+     */
+    public static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
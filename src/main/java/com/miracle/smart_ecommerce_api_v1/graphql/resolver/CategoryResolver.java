@@ -37,6 +37,11 @@ public class CategoryResolver {
         return categoryService.getAllCategories();
     }
 
+    @QueryMapping
+    public List<CategoryResponse> categoryTree() {
+        return categoryService.getCategoryTree();
+    }
+
 
     // ========================================================================
     // CATEGORY MUTATIONS
@@ -46,6 +51,8 @@ public class CategoryResolver {
     public CategoryResponse createCategory(@Argument Map<String, Object> input) {
         CreateCategoryRequest request = CreateCategoryRequest.builder()
                 .categoryName((String) input.get("categoryName"))
+                .parentId(input.get("parentId") != null
+                        ? UUID.fromString((String) input.get("parentId")) : null)
                 .build();
         return categoryService.createCategory(request);
     }
@@ -54,6 +61,8 @@ public class CategoryResolver {
     public CategoryResponse updateCategory(@Argument UUID id, @Argument Map<String, Object> input) {
         CreateCategoryRequest request = CreateCategoryRequest.builder()
                 .categoryName((String) input.get("categoryName"))
+                .parentId(input.get("parentId") != null
+                        ? UUID.fromString((String) input.get("parentId")) : null)
                 .build();
         return categoryService.updateCategory(id, request);
     }
@@ -1,15 +1,22 @@
 package com.miracle.smart_ecommerce_api_v1.graphql.resolver;
 
 import com.miracle.smart_ecommerce_api_v1.common.response.PageResponse;
+import com.miracle.smart_ecommerce_api_v1.domain.product.dto.ProductResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.dto.CreateReviewRequest;
+import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ProductRatingResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.dto.ReviewResponse;
 import com.miracle.smart_ecommerce_api_v1.domain.review.service.ReviewService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Controller
@@ -42,6 +49,27 @@ public class ReviewResolver {
         return reviewService.getAverageRatingForProduct(productId);
     }
 
+    @QueryMapping
+    public List<ProductRatingResponse> productRatings(@Argument List<UUID> productIds) {
+        return reviewService.getProductRatings(productIds);
+    }
+
+    /**
+     * Product.rating for every product in the response with one lookup. Products that
+     * already carry their rating (detail and list responses) are returned as-is.
+     */
+    @BatchMapping(typeName = "Product", field = "rating")
+    public Map<ProductResponse, ProductRatingResponse> productRating(List<ProductResponse> products) {
+        Map<ProductResponse, ProductRatingResponse> ratings = new LinkedHashMap<>();
+        List<ProductResponse> missing = products.stream().filter(p -> p.getRating() == null).toList();
+        Iterator<ProductRatingResponse> loaded = missing.isEmpty() ? null
+                : reviewService.getProductRatings(missing.stream().map(ProductResponse::getId).toList()).iterator();
+        for (ProductResponse product : products) {
+            ratings.put(product, product.getRating() != null ? product.getRating() : loaded.next());
+        }
+        return ratings;
+    }
+
     @QueryMapping
     public Boolean hasUserReviewedProduct(@Argument UUID userId, @Argument UUID productId) {
         return reviewService.hasUserReviewedProduct(userId, productId);
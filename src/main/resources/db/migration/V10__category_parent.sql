@@ -0,0 +1,9 @@
+-- Optional category hierarchy: a category may sit under one parent.
+-- RESTRICT keeps a parent from being deleted while it still has children.
+
+ALTER TABLE product_category
+    ADD COLUMN parent_id UUID REFERENCES product_category(id) ON DELETE RESTRICT;
+
+-- findByParentId
+CREATE INDEX idx_product_category_parent_id
+    ON product_category (parent_id);
@@ -0,0 +1,24 @@
+-- Emails are stored trimmed and lower-cased, and uniqueness is enforced case-insensitively,
+-- so "Jane@Example.com" and "jane@example.com" can no longer be two accounts.
+-- Accounts that already collide must be merged by hand; the migration refuses to guess.
+-- A colliding row written after the check makes the unique index build in V12 fail instead.
+
+DO $$
+DECLARE
+    collisions BIGINT;
+BEGIN
+    SELECT COUNT(*) INTO collisions
+    FROM (SELECT 1 FROM app_user
+          GROUP BY lower(trim(email_address))
+          HAVING COUNT(*) > 1) dup;
+    IF collisions > 0 THEN
+        RAISE EXCEPTION 'app_user has % email addresses shared by several accounts when case is ignored; merge them before migrating',
+            collisions;
+    END IF;
+END $$;
+
+UPDATE app_user
+SET email_address = lower(trim(email_address))
+WHERE email_address <> lower(trim(email_address));
+
+-- The indexes that depend on the normalized values are built in V12, outside a transaction
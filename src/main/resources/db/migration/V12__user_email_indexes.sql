@@ -0,0 +1,31 @@
+-- Indexes for the emails normalized in V11, built CONCURRENTLY so sign-ups and logins keep
+-- writing to app_user meanwhile; that needs the migration to run outside a transaction
+-- (V12__user_email_indexes.sql.conf). A failed build leaves an INVALID index behind: drop it
+-- before re-running, as IF NOT EXISTS would keep it.
+
+-- findByEmail / existsByEmail look up lower(email_address), which this index serves;
+-- it replaces the case-sensitive UNIQUE constraint from V1
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_app_user_email_lower
+    ON app_user (lower(email_address));
+
+-- Only give up the old constraint once the new index is valid, so uniqueness is never unenforced
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_index
+                   WHERE indexrelid = to_regclass('uq_app_user_email_lower') AND indisvalid) THEN
+        RAISE EXCEPTION 'uq_app_user_email_lower is missing or INVALID; drop it and re-run the migration';
+    END IF;
+    ALTER TABLE app_user DROP CONSTRAINT IF EXISTS app_user_email_address_key;
+END $$;
+
+-- Admin user search: substring LIKE on names and email
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_first_name_trgm
+    ON app_user USING gin (lower(first_name) public.gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_last_name_trgm
+    ON app_user USING gin (lower(last_name) public.gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_email_trgm
+    ON app_user USING gin (lower(email_address) public.gin_trgm_ops);
@@ -0,0 +1,9 @@
+-- Merchant SKU on product, used as the natural key for bulk imports.
+-- The unique index is the arbiter for the import merge's ON CONFLICT (sku) clause;
+-- existing rows keep a NULL sku, which the index permits any number of times.
+
+ALTER TABLE product
+ADD COLUMN sku VARCHAR(100);
+
+CREATE UNIQUE INDEX uq_product_sku
+ON product (sku);
@@ -0,0 +1,108 @@
+-- Indexes matched to the filter + sort of each repository query.
+-- A composite index whose leading column is a foreign key also serves plain lookups on
+-- that key, so the single-column V1 indexes it covers are dropped.
+-- customer_order.order_number needs nothing extra: its UNIQUE constraint is a btree index.
+-- RepositoryQueryPlanTest checks these plans against a seeded database.
+--
+-- Built CONCURRENTLY so writes to these tables keep flowing while the indexes build; that needs
+-- the migration to run outside a transaction (V6__query_shape_indexes.sql.conf). A failed build
+-- leaves an INVALID index behind: drop it before re-running, as IF NOT EXISTS would keep it.
+
+-- ============================
+-- CUSTOMER ORDER
+-- ============================
+-- findAll(page, size)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_order_created_at
+    ON customer_order (created_at DESC);
+
+-- findByStatus / countByStatus
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_order_status_created_at
+    ON customer_order (status, created_at DESC);
+
+-- findByUserId / countByUserId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_order_user_id_created_at
+    ON customer_order (user_id, created_at DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_customer_order_user_id;
+
+-- streamForExport(since)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_customer_order_updated_at_id
+    ON customer_order (updated_at, id);
+
+-- ============================
+-- PRODUCT
+-- ============================
+-- findAll(page, size)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_created_at
+    ON product (created_at DESC);
+
+-- findActiveProducts
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_active_created_at
+    ON product (is_active, created_at DESC);
+
+-- findByCategoryId / countByCategory
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_category_active_name
+    ON product (category_id, is_active, name);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_product_category_id;
+
+-- findByPriceRange
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_active_price
+    ON product (is_active, price);
+
+-- findInStock and search: both walk active products in name order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_active_name
+    ON product (name)
+    WHERE is_active = true;
+
+-- streamForExport(since)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_updated_at_id
+    ON product (updated_at, id);
+
+-- ============================
+-- PRODUCT REVIEW
+-- ============================
+-- findAll(page, size)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_review_created_at
+    ON product_review (created_at DESC);
+
+-- findByProductId / countByProductId / average rating
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_review_product_id_created_at
+    ON product_review (product_id, created_at DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_product_review_product_id;
+
+-- findByUserId / existsByUserIdAndProductId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_review_user_id_created_at
+    ON product_review (user_id, created_at DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_product_review_user_id;
+
+-- ============================
+-- PAYMENT METHOD
+-- ============================
+-- findByUserId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payment_method_user_id_created_at
+    ON payment_method (user_id, created_at DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_payment_method_user_id;
+
+-- ============================
+-- APP USER
+-- ============================
+-- findAll(page, size)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_created_at
+    ON app_user (created_at DESC);
+
+-- findActiveUsers
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_user_active_created_at
+    ON app_user (is_active, created_at DESC);
+
+-- ============================
+-- ADDRESS
+-- ============================
+-- findByUserId / findByUserIdAndType / findDefaultByUserId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_address_user_id_created_at
+    ON address (user_id, created_at DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_address_user_id;
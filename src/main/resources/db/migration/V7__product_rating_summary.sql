@@ -0,0 +1,28 @@
+-- Per-product rating aggregate, kept up to date by the review service with deltas
+-- so reading a product's rating is a primary-key lookup instead of AVG/COUNT over its reviews.
+
+CREATE TABLE product_rating_summary (
+    product_id UUID PRIMARY KEY
+        REFERENCES product(id) ON DELETE CASCADE,
+    review_count BIGINT NOT NULL DEFAULT 0,
+    rating_sum BIGINT NOT NULL DEFAULT 0,
+    rating_1 BIGINT NOT NULL DEFAULT 0,
+    rating_2 BIGINT NOT NULL DEFAULT 0,
+    rating_3 BIGINT NOT NULL DEFAULT 0,
+    rating_4 BIGINT NOT NULL DEFAULT 0,
+    rating_5 BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+INSERT INTO product_rating_summary (product_id, review_count, rating_sum,
+                                    rating_1, rating_2, rating_3, rating_4, rating_5)
+SELECT product_id,
+       COUNT(*),
+       SUM(rating),
+       COUNT(*) FILTER (WHERE rating = 1),
+       COUNT(*) FILTER (WHERE rating = 2),
+       COUNT(*) FILTER (WHERE rating = 3),
+       COUNT(*) FILTER (WHERE rating = 4),
+       COUNT(*) FILTER (WHERE rating = 5)
+FROM product_review
+GROUP BY product_id;
@@ -0,0 +1,16 @@
+-- Review feeds page by (created_at DESC, id DESC) keyset; id breaks ties between reviews
+-- written in the same microsecond, so it joins the V6 indexes it replaces.
+-- The user index also answers countByUserId with an index-only scan.
+--
+-- Built CONCURRENTLY, outside a transaction (V8__review_keyset_indexes.sql.conf), so review
+-- writes are not blocked; each old index is dropped only after its replacement is built.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_review_user_keyset
+    ON product_review (user_id, created_at DESC, id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_product_review_user_id_created_at;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_review_product_keyset
+    ON product_review (product_id, created_at DESC, id DESC);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_product_review_product_id_created_at;
@@ -0,0 +1,58 @@
+-- One review per user and product, enforced by the database so review creation can be a
+-- single INSERT ... ON CONFLICT instead of check-then-insert.
+--
+-- Runs outside a transaction (V9__review_unique_user_product.sql.conf) so the unique index can
+-- be built CONCURRENTLY without blocking review writes; the constraint then adopts the finished
+-- index. Each other step is a single statement, so it is atomic on its own. A failed build
+-- leaves an INVALID index behind: drop it before re-running, as IF NOT EXISTS would keep it.
+
+-- Duplicates are not deleted outright: all but each user's most recent review of a product
+-- move here, to be reconciled by hand if needed
+CREATE TABLE IF NOT EXISTS product_review_duplicate (
+    LIKE product_review,
+    archived_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- Most recent wins; updated_at falls back to created_at, and id breaks exact ties
+WITH ranked AS (
+    SELECT id,
+           row_number() OVER (PARTITION BY user_id, product_id
+                              ORDER BY COALESCE(updated_at, created_at) DESC, id DESC) AS position
+    FROM product_review
+),
+archived AS (
+    DELETE FROM product_review r
+    USING ranked
+    WHERE r.id = ranked.id
+      AND ranked.position > 1
+    RETURNING r.*
+)
+INSERT INTO product_review_duplicate (id, user_id, product_id, rating, comment, created_at, updated_at)
+SELECT id, user_id, product_id, rating, comment, created_at, updated_at
+FROM archived;
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uq_product_review_user_product
+    ON product_review (user_id, product_id);
+
+ALTER TABLE product_review
+ADD CONSTRAINT uq_product_review_user_product UNIQUE USING INDEX uq_product_review_user_product;
+
+-- The rating summaries counted the archived duplicates; rebuilt in one statement so readers
+-- never see them empty
+DO $$
+BEGIN
+    DELETE FROM product_rating_summary;
+
+    INSERT INTO product_rating_summary (product_id, review_count, rating_sum,
+                                        rating_1, rating_2, rating_3, rating_4, rating_5)
+    SELECT product_id,
+           COUNT(*),
+           SUM(rating),
+           COUNT(*) FILTER (WHERE rating = 1),
+           COUNT(*) FILTER (WHERE rating = 2),
+           COUNT(*) FILTER (WHERE rating = 3),
+           COUNT(*) FILTER (WHERE rating = 4),
+           COUNT(*) FILTER (WHERE rating = 5)
+    FROM product_review
+    GROUP BY product_id;
+END $$;
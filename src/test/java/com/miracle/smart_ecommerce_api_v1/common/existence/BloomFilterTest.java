@@ -0,0 +1,33 @@
+package com.miracle.smart_ecommerce_api_v1.common.existence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void neverMissesAnInsertedId_andKeepsFalsePositivesNearTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        List<UUID> inserted = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = UUID.randomUUID();
+            inserted.add(id);
+            filter.put(id);
+        }
+
+        assertTrue(inserted.stream().allMatch(filter::mightContain));
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "false positive rate too high: " + falsePositives + " / 100000");
+    }
+}
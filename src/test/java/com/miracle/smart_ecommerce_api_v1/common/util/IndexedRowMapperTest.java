@@ -0,0 +1,64 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
+import com.miracle.smart_ecommerce_api_v1.domain.user.mapper.UserMapper;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IndexedRowMapperTest {
+
+    private final UserMapper mapper = new UserMapper();
+
+    @Test
+    void mapsByResolvedPosition_withAlternativesAndAbsentColumns() throws SQLException {
+        UUID id = UUID.randomUUID();
+        // Narrow projection: no names, hash or timestamps; the role column is the legacy 'role'
+        ResultSet rs = resultSet("ID", "email_address", "role", "email_address");
+        when(rs.getObject(1, UUID.class)).thenReturn(id);
+        when(rs.getString(2)).thenReturn("a@example.com");
+        when(rs.getString(3)).thenReturn("ADMIN");
+        when(rs.isLast()).thenReturn(false, true);
+
+        User first = mapper.mapRow(rs, 0);
+        mapper.mapRow(rs, 1);
+
+        assertEquals(id, first.getId());
+        assertEquals("a@example.com", first.getEmailAddress());
+        assertEquals("ADMIN", first.getRole());
+        assertNull(first.getFirstName());
+        assertNull(first.getCreatedAt());
+        // Positions are resolved once per ResultSet, not per row
+        verify(rs, times(1)).getMetaData();
+        verify(rs, never()).getString("email_address");
+    }
+
+    @Test
+    void resolvedPositions_areDroppedAfterTheLastRow() throws SQLException {
+        ResultSet rs = resultSet("id");
+        when(rs.isLast()).thenReturn(true);
+
+        mapper.mapRow(rs, 0);
+        // Nothing kept for this thread, so the same object is treated as a fresh result
+        mapper.mapRow(rs, 0);
+
+        verify(rs, times(2)).getMetaData();
+    }
+
+    private static ResultSet resultSet(String... labels) throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            when(metaData.getColumnLabel(i + 1)).thenReturn(labels[i]);
+        }
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        return rs;
+    }
+}
@@ -0,0 +1,89 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Regex split vs. single-pass decoding of product image arrays as jsonb returns them:
+ * {@code BENCH_CODEC=1 mvn test -Dtest=JsonbArrayCodecBenchmarkTest}
+ */
+@EnabledIfEnvironmentVariable(named = "BENCH_CODEC", matches = ".+")
+class JsonbArrayCodecBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonbArrayCodecBenchmarkTest.class);
+
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private static final String[] SAMPLES = {
+            "[]",
+            "[\"https://cdn.example.com/products/1/main.jpg\"]",
+            "[\"https://cdn.example.com/products/2/main.jpg\", \"https://cdn.example.com/products/2/side.jpg\", "
+                    + "\"https://cdn.example.com/products/2/back.jpg\", \"https://cdn.example.com/products/2/box.jpg\"]",
+    };
+
+    @Test
+    void compareRegexAndSinglePassDecoding() {
+        for (String sample : SAMPLES) {
+            assertEquals(regexDecode(sample), JsonbArrayCodec.decode(sample));
+            double regex = nanosPerOp(JsonbArrayCodecBenchmarkTest::regexDecode, sample);
+            double codec = nanosPerOp(JsonbArrayCodec::decode, sample);
+            log.info("{} chars: regex {} ns/op, single pass {} ns/op", sample.length(),
+                    String.format("%.1f", regex), String.format("%.1f", codec));
+            // The regex decoder short-circuits "[]"; with elements it runs the lookahead split, which a single pass must beat
+            if (!regexDecode(sample).isEmpty()) {
+                assertTrue(codec < regex, "single pass (" + codec + " ns/op) slower than regex (" + regex + " ns/op)");
+            }
+        }
+    }
+
+    private static double nanosPerOp(Function<String, List<String>> decoder, String json) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += decoder.apply(json).size();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += decoder.apply(json).size();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (sink < 0) {
+            throw new IllegalStateException();
+        }
+        return (double) elapsed / ITERATIONS;
+    }
+
+    // The parser JdbcUtils used before JsonbArrayCodec
+    private static List<String> regexDecode(String json) {
+        if (json == null || json.isEmpty() || json.equals("null")) {
+            return new ArrayList<>();
+        }
+        json = json.trim();
+        if (json.startsWith("[") && json.endsWith("]")) {
+            json = json.substring(1, json.length() - 1);
+        }
+        if (json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<String> result = new ArrayList<>();
+        for (String part : json.split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)")) {
+            String cleaned = part.trim();
+            if (cleaned.startsWith("\"") && cleaned.endsWith("\"")) {
+                cleaned = cleaned.substring(1, cleaned.length() - 1);
+            }
+            if (!cleaned.isEmpty()) {
+                result.add(cleaned);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonbArrayCodecTest {
+
+    @Test
+    void decode_emptyAndNullInputs() {
+        assertTrue(JsonbArrayCodec.decode(null).isEmpty());
+        assertTrue(JsonbArrayCodec.decode("").isEmpty());
+        assertTrue(JsonbArrayCodec.decode("null").isEmpty());
+        assertTrue(JsonbArrayCodec.decode("[]").isEmpty());
+        assertTrue(JsonbArrayCodec.decode("  [ ]  ").isEmpty());
+    }
+
+    @Test
+    void decode_postgresJsonbFormatting() {
+        // jsonb output puts a space after each comma
+        List<String> images = JsonbArrayCodec.decode("[\"https://example.com/a.jpg\", \"https://example.com/b.jpg\"]");
+        assertEquals(List.of("https://example.com/a.jpg", "https://example.com/b.jpg"), images);
+    }
+
+    @Test
+    void decode_escapedQuotesAndCommas() {
+        List<String> values = JsonbArrayCodec.decode("[\"a \\\"quoted\\\", value\", \"b,c\"]");
+        assertEquals(List.of("a \"quoted\", value", "b,c"), values);
+    }
+
+    @Test
+    void decode_allEscapes() {
+        List<String> values = JsonbArrayCodec.decode("[\"\\\\ \\/ \\b\\f\\n\\r\\t \\u00e9\\u0041\"]");
+        assertEquals(List.of("\\ / \b\f\n\r\t \u00e9A"), values);
+    }
+
+    @Test
+    void decode_skipsNullsAndKeepsScalarLiterals() {
+        assertEquals(List.of("x", "42", "true"), JsonbArrayCodec.decode("[\"x\", null, 42, true]"));
+    }
+
+    @Test
+    void decode_skipsNestedValues() {
+        assertEquals(List.of("a", "d"),
+                JsonbArrayCodec.decode("[\"a\", [\"b\", [1]], {\"k\": \"v ] } \\\" [\"}, \"d\"]"));
+    }
+
+    @Test
+    void decode_rejectsMalformedInput() {
+        assertThrows(IllegalArgumentException.class, () -> JsonbArrayCodec.decode("[\"unterminated"));
+        assertThrows(IllegalArgumentException.class, () -> JsonbArrayCodec.decode("[\"a\" \"b\"]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonbArrayCodec.decode("[\"bad \\x escape\"]"));
+        assertThrows(IllegalArgumentException.class, () -> JsonbArrayCodec.decode("{\"a\": 1}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonbArrayCodec.decode("nullx"));
+        assertThrows(IllegalArgumentException.class, () -> JsonbArrayCodec.decode("null,\"a\""));
+    }
+
+    @Test
+    void encode_escapesSpecialCharacters() {
+        String json = JsonbArrayCodec.encode(Arrays.asList("a\"b", "c\\d", "line\nbreak", "\u0001", null));
+        assertEquals("[\"a\\\"b\",\"c\\\\d\",\"line\\nbreak\",\"\\u0001\",null]", json);
+    }
+
+    @Test
+    void encode_emptyInputs() {
+        assertEquals("[]", JsonbArrayCodec.encode(null));
+        assertEquals("[]", JsonbArrayCodec.encode(List.of()));
+    }
+
+    @Test
+    void roundTrip() {
+        List<String> values = List.of("plain", "with \"quotes\"", "comma, inside", "tab\tand\\slash", "\u00e9\u4e2d");
+        assertEquals(values, JsonbArrayCodec.decode(JsonbArrayCodec.encode(values)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import com.miracle.smart_ecommerce_api_v1.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTrip_keepsMicrosecondPrecision() {
+        KeysetCursor cursor = new KeysetCursor(
+                OffsetDateTime.of(2024, 3, 1, 12, 30, 45, 123_456_000, ZoneOffset.UTC), UUID.randomUUID());
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void decode_blankIsFirstPage_garbageIsBadRequest() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("!!!"));
+    }
+}
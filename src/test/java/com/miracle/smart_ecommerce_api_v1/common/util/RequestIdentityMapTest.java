@@ -0,0 +1,45 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestIdentityMapTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestIdentityMap.close();
+    }
+
+    @Test
+    void find_loadsOnce_andCallerMutationsDoNotLeakIntoLaterLookups() {
+        RequestIdentityMap.open();
+        UUID id = UUID.randomUUID();
+        AtomicInteger loads = new AtomicInteger();
+
+        Product first = find(id, loads).orElseThrow();
+        first.setPrice(new BigDecimal("1.00"));
+        first.getImages().add("mutated.png");
+
+        Product second = find(id, loads).orElseThrow();
+        assertEquals(1, loads.get());
+        assertNotSame(first, second);
+        assertEquals(new BigDecimal("9.99"), second.getPrice());
+        assertTrue(second.getImages().isEmpty());
+    }
+
+    private static Optional<Product> find(UUID id, AtomicInteger loads) {
+        return RequestIdentityMap.find(Product.class, id, () -> {
+            loads.incrementAndGet();
+            return Optional.of(Product.builder().id(id).name("Lamp").price(new BigDecimal("9.99")).build());
+        }, product -> product.toBuilder().images(new ArrayList<>(product.getImages())).build());
+    }
+}
@@ -0,0 +1,179 @@
+package com.miracle.smart_ecommerce_api_v1.common.util;
+
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
+import com.miracle.smart_ecommerce_api_v1.domain.product.mapper.ProductMapper;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Label-based vs. position-resolved mapping of product rows over an in-memory ResultSet that
+ * resolves labels the way a driver does, so only the mapping is measured. Both mappers must
+ * produce the same products; the position-resolved one must not look up any label per row.
+ * Timings are logged for comparison, not asserted.
+ */
+class RowMappingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RowMappingBenchmarkTest.class);
+
+    private static final int ROWS = 2_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final String[] COLUMNS = {"id", "category_id", "name", "description", "price",
+            "stock_quantity", "is_active", "images", "created_at", "updated_at", "sku"};
+
+    // What the product mapper did before positions were resolved once per ResultSet
+    private static final RowMapper<Product> BY_LABEL = (rs, rowNum) -> Product.builder()
+            .id(JdbcUtils.getUUID(rs, "id"))
+            .categoryId(JdbcUtils.getUUID(rs, "category_id"))
+            .name(rs.getString("name"))
+            .sku(rs.getString("sku"))
+            .description(rs.getString("description"))
+            .price(rs.getBigDecimal("price"))
+            .stockQuantity(JdbcUtils.getInteger(rs, "stock_quantity"))
+            .isActive(JdbcUtils.getBoolean(rs, "is_active"))
+            .images(JdbcUtils.getStringListFromJsonb(rs, "images"))
+            .createdAt(JdbcUtils.getOffsetDateTime(rs, "created_at"))
+            .updatedAt(JdbcUtils.getOffsetDateTime(rs, "updated_at"))
+            .build();
+
+    @Test
+    void positionMapping_matchesLabelMapping_withoutPerRowLabelLookups() throws SQLException {
+        InMemoryResultSet source = new InMemoryResultSet(COLUMNS, rows());
+        ResultSet rs = source.resultSet();
+        ProductMapper byPosition = new ProductMapper();
+
+        assertEquals(mapAll(rs, BY_LABEL), mapAll(rs, byPosition));
+
+        source.labelLookups = 0;
+        mapAll(rs, BY_LABEL);
+        assertEquals((long) ROWS * COLUMNS.length, source.labelLookups);
+        source.labelLookups = 0;
+        mapAll(rs, byPosition);
+        assertEquals(0, source.labelLookups);
+
+        double label = nanosPerRow(rs, BY_LABEL);
+        double position = nanosPerRow(rs, byPosition);
+        log.info("by label: {} ns/row, by position: {} ns/row",
+                String.format("%.1f", label), String.format("%.1f", position));
+    }
+
+    private static Object[][] rows() {
+        Object[][] rows = new Object[ROWS][];
+        Timestamp now = Timestamp.from(Instant.parse("2024-03-01T12:00:00Z"));
+        for (int g = 1; g <= ROWS; g++) {
+            rows[g - 1] = new Object[] {UUID.randomUUID(), UUID.randomUUID(), "Product " + g,
+                    g % 11 == 0 ? null : "Description " + g, BigDecimal.valueOf(g % 500).add(new BigDecimal("0.99")),
+                    g % 100, g % 7 != 0, "[\"a.jpg\", \"b.jpg\"]", now, now, "SKU-" + g};
+        }
+        return rows;
+    }
+
+    private static double nanosPerRow(ResultSet rs, RowMapper<Product> mapper) throws SQLException {
+        for (int i = 0; i < WARMUP; i++) {
+            mapAll(rs, mapper);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapAll(rs, mapper);
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS / ROWS;
+    }
+
+    private static List<Product> mapAll(ResultSet rs, RowMapper<Product> mapper) throws SQLException {
+        rs.beforeFirst();
+        List<Product> products = new ArrayList<>(ROWS);
+        int rowNum = 0;
+        while (rs.next()) {
+            products.add(mapper.mapRow(rs, rowNum++));
+        }
+        return products;
+    }
+
+    /**
+     * Scrollable, read-only ResultSet over fixed rows. Label access goes through a
+     * case-insensitive lookup per call, as in the PostgreSQL driver's findColumn.
+     */
+    private static final class InMemoryResultSet {
+
+        private final String[] columns;
+        private final Object[][] rows;
+        private final Map<String, Integer> positions = new HashMap<>();
+        private int cursor = -1;
+        private boolean wasNull;
+        long labelLookups;
+
+        InMemoryResultSet(String[] columns, Object[][] rows) {
+            this.columns = columns;
+            this.rows = rows;
+            for (int i = 0; i < columns.length; i++) {
+                positions.put(columns[i], i + 1);
+            }
+        }
+
+        ResultSet resultSet() {
+            ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {ResultSetMetaData.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "getColumnCount" -> columns.length;
+                        case "getColumnLabel", "getColumnName" -> columns[(int) args[0] - 1];
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+                        case "next" -> ++cursor < rows.length;
+                        case "isLast" -> cursor == rows.length - 1;
+                        case "beforeFirst" -> {
+                            cursor = -1;
+                            yield null;
+                        }
+                        case "getMetaData" -> metaData;
+                        case "wasNull" -> wasNull;
+                        case "getObject", "getString", "getBigDecimal", "getTimestamp" -> value(args[0]);
+                        case "getInt" -> {
+                            Object value = value(args[0]);
+                            yield value == null ? 0 : value;
+                        }
+                        case "getBoolean" -> {
+                            Object value = value(args[0]);
+                            yield value != null && (boolean) value;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        private Object value(Object column) throws SQLException {
+            int position;
+            if (column instanceof String label) {
+                labelLookups++;
+                Integer found = positions.get(label.toLowerCase(Locale.ROOT));
+                if (found == null) {
+                    throw new SQLException("Column not found: " + label);
+                }
+                position = found;
+            } else {
+                position = (int) column;
+            }
+            Object value = rows[cursor][position - 1];
+            wasNull = value == null;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Gate behaviour against a stand-in pool; no database needed.
+ */
+class GatedDataSourceTest {
+
+    @Test
+    void connectionProxy_isItsOwnIdentityAndCannotBeUnwrappedPastTheGate() throws SQLException {
+        Connection target = mock(Connection.class, withSettings().extraInterfaces(PGConnection.class));
+        when(target.unwrap(PGConnection.class)).thenReturn((PGConnection) target);
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(target);
+        GatedDataSource gate = new GatedDataSource(pool, 1, Duration.ofMillis(10));
+
+        Connection con = gate.getConnection();
+        Set<Connection> held = new HashSet<>();
+        held.add(con);
+
+        assertTrue(held.contains(con));
+        assertNotEquals(con, target);
+        assertSame(con, con.unwrap(Connection.class));
+        assertTrue(con.isWrapperFor(Connection.class));
+        assertSame(target, con.unwrap(PGConnection.class));
+        assertEquals(0, gate.getAvailablePermits());
+
+        con.close();
+        con.close();
+        assertEquals(1, gate.getAvailablePermits());
+    }
+}
@@ -0,0 +1,123 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import com.miracle.smart_ecommerce_api_v1.domain.product.mapper.ProductSummaryMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.postgresql.PGStatement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unprepared vs. tuned driver settings for the repositories' hottest query shapes, executed the
+ * way JdbcTemplate does: a new PreparedStatement per call with UUIDs bound via setObject.
+ * Needs a local Postgres with the schema migrated:
+ * {@code BENCH_DB_URL=jdbc:postgresql://localhost:5432/smart_ecommerce BENCH_DB_USER=... mvn test}
+ *
+ * Both settings must return the same rows. Under the tuned settings a freshly prepared statement
+ * must come out of the driver's statement cache already past the prepare threshold, which is
+ * what saves the parse; with prepareThreshold=0 it never does. Timings are logged, not asserted.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCH_DB_URL", matches = ".+")
+class PreparedStatementBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PreparedStatementBenchmarkTest.class);
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    // ProductRepositoryImpl.findById, ProductRepositoryImpl.findByCategoryId, ReviewRepositoryImpl.countByProductId
+    private static final String[] QUERIES = {
+            "SELECT * FROM product WHERE id = ?",
+            "SELECT " + ProductSummaryMapper.COLUMNS + " FROM product WHERE category_id = ? AND is_active = true ORDER BY name LIMIT ? OFFSET ?",
+            "SELECT COUNT(*) FROM product_review WHERE product_id = ?",
+    };
+
+    @Test
+    void compareUnpreparedAndTunedSettings() throws SQLException {
+        DriverTuningProperties unprepared = new DriverTuningProperties();
+        unprepared.setPrepareThreshold(0);
+        DriverTuningProperties tuned = new DriverTuningProperties();
+
+        for (String sql : QUERIES) {
+            Run baseline = run(unprepared, sql);
+            Run optimized = run(tuned, sql);
+            assertEquals(baseline.rows(), optimized.rows(), sql);
+            assertFalse(baseline.serverPrepared(), "prepareThreshold=0 must not server-prepare: " + sql);
+            assertTrue(optimized.serverPrepared(), "statement cache did not keep the prepared plan: " + sql);
+            log.info("{}: prepareThreshold=0 {} us/op, tuned {} us/op", sql,
+                    String.format("%.1f", baseline.microsPerOp()), String.format("%.1f", optimized.microsPerOp()));
+        }
+    }
+
+    private record Run(List<List<Object>> rows, boolean serverPrepared, double microsPerOp) {
+    }
+
+    private static Run run(DriverTuningProperties properties, String sql) throws SQLException {
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setJdbcUrl(System.getenv("BENCH_DB_URL"));
+            pool.setUsername(System.getenv("BENCH_DB_USER"));
+            pool.setPassword(System.getenv("BENCH_DB_PASSWORD"));
+            pool.setMaximumPoolSize(1);
+            DatabaseDriverConfig.apply(pool, properties);
+
+            try (Connection con = pool.getConnection()) {
+                UUID id = anyId(con, sql);
+                List<List<Object>> rows = execute(con, sql, id);
+                for (int i = 0; i < WARMUP; i++) {
+                    execute(con, sql, id);
+                }
+                boolean serverPrepared;
+                try (PreparedStatement ps = con.prepareStatement(sql)) {
+                    serverPrepared = ps.unwrap(PGStatement.class).isUseServerPrepare();
+                }
+                long start = System.nanoTime();
+                for (int i = 0; i < ITERATIONS; i++) {
+                    execute(con, sql, id);
+                }
+                return new Run(rows, serverPrepared, (System.nanoTime() - start) / 1_000.0 / ITERATIONS);
+            }
+        }
+    }
+
+    private static UUID anyId(Connection con, String sql) throws SQLException {
+        String lookup = sql.contains("category_id") ? "SELECT category_id FROM product LIMIT 1" : "SELECT id FROM product LIMIT 1";
+        try (PreparedStatement ps = con.prepareStatement(lookup); ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getObject(1, UUID.class) : UUID.randomUUID();
+        }
+    }
+
+    private static List<List<Object>> execute(Connection con, String sql, UUID id) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            ps.setObject(1, id);
+            if (sql.endsWith("LIMIT ? OFFSET ?")) {
+                ps.setInt(2, 20);
+                ps.setInt(3, 0);
+            }
+            List<List<Object>> rows = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                int columns = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    List<Object> row = new ArrayList<>(columns);
+                    for (int i = 1; i <= columns; i++) {
+                        row.add(rs.getObject(i));
+                    }
+                    rows.add(row);
+                }
+            }
+            return rows;
+        }
+    }
+}
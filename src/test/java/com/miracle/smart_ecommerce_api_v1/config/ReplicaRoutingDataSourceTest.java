@@ -0,0 +1,146 @@
+package com.miracle.smart_ecommerce_api_v1.config;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.ParallelReads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.*;
+
+/**
+ * Routing decisions against stand-in pools; no database needed.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setup() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        routing = new ReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(10));
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void cleanup() {
+        setActualTransactionActive(false);
+        setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.clearPin();
+    }
+
+    @Test
+    void readOnlyTransaction_goesToReplica() throws SQLException {
+        beginTransaction(true);
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void readWriteAndNonTransactionalWork_goesToPrimary() throws SQLException {
+        assertSame(primaryConnection, routing.getConnection());
+        beginTransaction(false);
+        assertSame(primaryConnection, routing.getConnection());
+    }
+
+    @Test
+    void readAfterWriteInSameRequest_isPinnedToPrimary() throws SQLException {
+        beginTransaction(false);
+        routing.getConnection();
+
+        beginTransaction(true);
+        assertSame(primaryConnection, routing.getConnection());
+
+        ReplicaRoutingDataSource.clearPin();
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void unreachableReplica_isEjectedUntilItRecovers() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        routing.checkHealth();
+
+        beginTransaction(true);
+        assertSame(primaryConnection, routing.getConnection());
+        ReplicaRoutingDataSource.PoolStats stats = routing.getStats().get(1);
+        assertFalse(stats.healthy());
+        assertEquals("connection refused", stats.lastError());
+
+        doReturn(lagProbe(0.0)).doReturn(replicaConnection).when(replica).getConnection();
+        routing.checkHealth();
+        assertSame(replicaConnection, routing.getConnection());
+    }
+
+    @Test
+    void laggingReplica_isEjected() throws SQLException {
+        doReturn(lagProbe(30.0)).when(replica).getConnection();
+        routing.checkHealth();
+
+        beginTransaction(true);
+        assertSame(primaryConnection, routing.getConnection());
+        assertEquals(1, routing.getStats().get(0).fallbackReads());
+    }
+
+    @Test
+    void parallelReadLegs_useReplicasButKeepTheRequestsPin() {
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(routing);
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        ParallelReads parallelReads = new ParallelReads(new DataSourceTransactionManager(lazy));
+
+        // Each leg opens its own read-only transaction on its own thread
+        ParallelReads.Both<Connection, Connection> unpinned = parallelReads.both(this::connect, this::connect);
+        assertSame(replicaConnection, unpinned.first());
+        assertSame(replicaConnection, unpinned.second());
+
+        // After a write the request reads its own writes, including from the legs
+        ReplicaRoutingDataSource.pin();
+        List<Connection> pinned = parallelReads.all(List.of(this::connect, this::connect));
+        assertEquals(List.of(primaryConnection, primaryConnection), pinned);
+    }
+
+    private Connection connect() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        setActualTransactionActive(true);
+        setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private static Connection lagProbe(double lagSeconds) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.next()).thenReturn(true);
+        when(rs.getDouble(1)).thenReturn(lagSeconds);
+        Statement st = mock(Statement.class);
+        when(st.executeQuery(anyString())).thenReturn(rs);
+        Connection con = mock(Connection.class);
+        when(con.createStatement()).thenReturn(st);
+        return con;
+    }
+}
@@ -0,0 +1,304 @@
+package com.miracle.smart_ecommerce_api_v1.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miracle.smart_ecommerce_api_v1.common.existence.ExistenceFilters;
+import com.miracle.smart_ecommerce_api_v1.common.util.KeysetCursor;
+import com.miracle.smart_ecommerce_api_v1.domain.order.mapper.CustomerOrderMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.order.mapper.PaymentMethodMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.order.repository.OrderItemRepositoryImpl;
+import com.miracle.smart_ecommerce_api_v1.domain.order.repository.OrderRepositoryImpl;
+import com.miracle.smart_ecommerce_api_v1.domain.order.repository.PaymentMethodRepositoryImpl;
+import com.miracle.smart_ecommerce_api_v1.domain.product.mapper.ProductMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.product.mapper.ProductSummaryMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepositoryImpl;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ReviewRepositoryImpl;
+import com.miracle.smart_ecommerce_api_v1.domain.user.mapper.AddressMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.user.mapper.UserMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.user.mapper.UserSummaryMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.user.repository.AddressRepositoryImpl;
+import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepositoryImpl;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs EXPLAIN for the statements the repositories actually send, against a seeded copy of
+ * the schema, and fails when one of them sequentially scans a large table.
+ *
+ * The repositories run against a connection that EXPLAINs every statement with its bound
+ * parameters before executing it, so the check follows the shipped SQL instead of a copy.
+ * Migrates into a throwaway schema and rolls back whatever the calls write, so any reachable
+ * Postgres works:
+ * {@code PLAN_CHECK_DB_URL=jdbc:postgresql://localhost:5432/ecommerce_db PLAN_CHECK_DB_USER=... mvn test}
+ *
+ * Methods that read a whole table by design (unpaged lists, full exports, counts over most
+ * rows) are left out. Add new repository methods here along with their index.
+ */
+@EnabledIfEnvironmentVariable(named = "PLAN_CHECK_DB_URL", matches = ".+")
+class RepositoryQueryPlanTest {
+
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "app_user", "address", "product", "product_review", "customer_order", "order_item", "payment_method");
+
+    private static final String SCHEMA = "plan_check_" + Long.toHexString(System.nanoTime());
+
+    private static final UUID ID = UUID.randomUUID();
+    private static final OffsetDateTime SINCE = OffsetDateTime.now().minusHours(1);
+
+    private static final String SEED_SQL = """
+            INSERT INTO app_user (email_address, password_hash, is_active, created_at)
+            SELECT 'plan' || g || '@example.com', 'x', g % 10 <> 0, now() - g * interval '1 minute'
+            FROM generate_series(1, 20000) g;
+
+            INSERT INTO product_category (category_name)
+            SELECT 'Plan category ' || g FROM generate_series(1, 50) g;
+
+            INSERT INTO product (category_id, name, price, stock_quantity, is_active, created_at, updated_at)
+            SELECT c.ids[1 + g % array_length(c.ids, 1)], 'Product ' || g, (g % 500) + 0.99, g % 7, g % 10 <> 0,
+                   now() - g * interval '1 minute', now() - g * interval '1 minute'
+            FROM generate_series(1, 50000) g, (SELECT array_agg(id) AS ids FROM product_category) c;
+
+            INSERT INTO address (user_id, address_line, city, country, address_type, created_at)
+            SELECT u.ids[1 + g % array_length(u.ids, 1)], g || ' Main St', 'Accra', 'Ghana',
+                   CASE WHEN g % 2 = 0 THEN 'shipping' ELSE 'billing' END, now() - g * interval '1 minute'
+            FROM generate_series(1, 40000) g, (SELECT array_agg(id) AS ids FROM app_user) u;
+
+            INSERT INTO payment_method (user_id, payment_type, provider, created_at)
+            SELECT u.ids[1 + g % array_length(u.ids, 1)], 'card', 'visa', now() - g * interval '1 minute'
+            FROM generate_series(1, 30000) g, (SELECT array_agg(id) AS ids FROM app_user) u;
+
+            INSERT INTO customer_order (user_id, order_number, status, subtotal, total_amount, created_at, updated_at)
+            SELECT u.ids[1 + g % array_length(u.ids, 1)], 'PLAN-' || g,
+                   (ARRAY['pending', 'processing', 'shipped', 'delivered', 'cancelled'])[1 + g % 5],
+                   100, 110, now() - g * interval '1 minute', now() - g * interval '1 minute'
+            FROM generate_series(1, 60000) g, (SELECT array_agg(id) AS ids FROM app_user) u;
+
+            INSERT INTO order_item (order_id, product_id, unit_price, quantity)
+            SELECT o.id, p.ids[1 + (abs(hashtext(o.id::text)) + n) % array_length(p.ids, 1)], 9.99, n
+            FROM customer_order o, generate_series(1, 2) n, (SELECT array_agg(id) AS ids FROM product) p;
+
+            INSERT INTO product_review (user_id, product_id, rating, created_at)
+            SELECT u.ids[1 + g % array_length(u.ids, 1)], p.ids[1 + g % array_length(p.ids, 1)], 1 + g % 5,
+                   now() - g * interval '1 minute'
+            FROM generate_series(1, 100000) g,
+                 (SELECT array_agg(id) AS ids FROM app_user) u,
+                 (SELECT array_agg(id) AS ids FROM product) p;
+            """;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        String url = System.getenv("PLAN_CHECK_DB_URL");
+        String user = System.getenv("PLAN_CHECK_DB_USER");
+        String password = System.getenv("PLAN_CHECK_DB_PASSWORD");
+
+        Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas(SCHEMA)
+                .createSchemas(true)
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(url, user, password);
+        try (Statement st = connection.createStatement()) {
+            st.execute("SET search_path TO " + SCHEMA + ", public");
+            st.execute(SEED_SQL);
+            st.execute("VACUUM ANALYZE");
+        }
+    }
+
+    @AfterAll
+    static void dropSchema() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Test
+    void repositoryQueries_doNotSeqScanLargeTables() throws Exception {
+        Map<String, JsonNode> plans = new LinkedHashMap<>();
+        connection.setAutoCommit(false);
+        try {
+            runRepositoryQueries(explaining(connection, plans));
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+
+        assertFalse(plans.isEmpty(), "No statements were captured");
+        List<String> failures = new ArrayList<>();
+        plans.forEach((sql, plan) -> {
+            List<String> scanned = new ArrayList<>();
+            collectSeqScans(plan.get("Plan"), scanned);
+            if (!scanned.isEmpty()) {
+                failures.add(sql + "\n    seq scan on " + scanned + "\n    " + plan.get("Plan"));
+            }
+        });
+        assertTrue(failures.isEmpty(), "Sequential scans on large tables:\n" + String.join("\n", failures));
+    }
+
+    private static void runRepositoryQueries(Connection con) {
+        JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(con, true));
+        ExistenceFilters existenceFilters = new ExistenceFilters(jdbc, new DataSourceTransactionManager(jdbc.getDataSource()));
+
+        OrderRepositoryImpl orders = new OrderRepositoryImpl(jdbc, new CustomerOrderMapper());
+        orders.findById(ID);
+        orders.findByOrderNumber("ORD-1");
+        orders.findAll(0, 20);
+        orders.findByUserId(ID, 0, 20);
+        orders.findByStatus("pending", 0, 20);
+        orders.countByStatus("pending");
+        orders.countByUserId(ID);
+        orders.streamForExport(SINCE, (order, items) -> { });
+        orders.updateStatus(ID, "shipped");
+
+        OrderItemRepositoryImpl orderItems = new OrderItemRepositoryImpl(jdbc);
+        orderItems.findByOrderId(ID);
+        orderItems.findByOrderIds(List.of(ID));
+        orderItems.countByOrderId(ID);
+        orderItems.deleteByOrderId(ID);
+
+        new PaymentMethodRepositoryImpl(jdbc, new PaymentMethodMapper()).findByUserId(ID, 0, 20);
+
+        ProductRepositoryImpl products = new ProductRepositoryImpl(jdbc, new ProductMapper(), new ProductSummaryMapper(), existenceFilters);
+        products.findById(ID);
+        products.findBySku("SKU-1");
+        products.streamForExport(SINCE, product -> { });
+        products.findSummariesByIds(List.of(ID));
+        products.findAll(0, 20);
+        products.findActiveProducts(0, 20);
+        products.findByCategoryId(ID, 0, 20);
+        products.findByPriceRange(new BigDecimal("10.00"), new BigDecimal("20.00"), 0, 20);
+        products.findInStock(0, 20);
+        products.countByCategoryId(ID);
+        products.updateStock(ID, 1);
+
+        ReviewRepositoryImpl reviews = new ReviewRepositoryImpl(jdbc);
+        reviews.findByProductId(ID, 0, 20);
+        reviews.findByUserId(ID, 0, 20);
+        reviews.findByUserIdAfter(ID, new KeysetCursor(SINCE, ID), 20);
+        reviews.countByUserId(ID);
+        reviews.findAll(0, 20);
+        reviews.getAverageRatingByProductId(ID);
+        reviews.countByProductId(ID);
+        reviews.existsByUserIdAndProductId(ID, ID);
+
+        UserRepositoryImpl users = new UserRepositoryImpl(jdbc, new UserMapper(), new UserSummaryMapper(), existenceFilters);
+        users.findById(ID);
+        users.findSummariesByIds(List.of(ID));
+        users.findByEmail("nobody@example.com");
+        users.search("nobody", 0, 20);
+        users.findAll(0, 20);
+        users.findActiveUsers(0, 20);
+
+        AddressRepositoryImpl addresses = new AddressRepositoryImpl(jdbc, new AddressMapper());
+        addresses.findByUserId(ID);
+        addresses.findByUserIdAndType(ID, "shipping");
+        addresses.findDefaultByUserId(ID);
+    }
+
+    /**
+     * A connection whose statements EXPLAIN themselves, with the parameters bound so far, right
+     * before they execute
+     */
+    private static Connection explaining(Connection target, Map<String, JsonNode> plans) {
+        return (Connection) Proxy.newProxyInstance(RepositoryQueryPlanTest.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (method.getName().equals("prepareStatement")) {
+                        return explainingStatement((PreparedStatement) result, PreparedStatement.class,
+                                target, (String) args[0], plans);
+                    }
+                    if (method.getName().equals("createStatement")) {
+                        return explainingStatement((Statement) result, Statement.class, target, null, plans);
+                    }
+                    return result;
+                });
+    }
+
+    private static Object explainingStatement(Statement target, Class<? extends Statement> type, Connection con,
+                                              String preparedSql, Map<String, JsonNode> plans) {
+        List<Object[]> bindings = new ArrayList<>();
+        return Proxy.newProxyInstance(RepositoryQueryPlanTest.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                        bindings.add(new Object[]{method, args});
+                    } else if (name.equals("clearParameters")) {
+                        bindings.clear();
+                    } else if (name.startsWith("execute")) {
+                        String sql = args == null || args.length == 0 ? preparedSql : (String) args[0];
+                        plans.putIfAbsent(sql, explain(con, sql, bindings));
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static JsonNode explain(Connection con, String sql, List<Object[]> bindings) throws Exception {
+        try (PreparedStatement ps = con.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+            for (Object[] binding : bindings) {
+                ((Method) binding[0]).invoke(ps, (Object[]) binding[1]);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                return objectMapper.readTree(rs.getString(1)).get(0);
+            }
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> scanned) {
+        if (node == null) {
+            return;
+        }
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && LARGE_TABLES.contains(node.path("Relation Name").asText())) {
+            scanned.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, scanned);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.miracle.smart_ecommerce_api_v1.domain;
+
+import com.miracle.smart_ecommerce_api_v1.common.existence.ExistenceFilters;
+import com.miracle.smart_ecommerce_api_v1.domain.product.mapper.ProductMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.product.mapper.ProductSummaryMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepositoryImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Repository calls with and without the per-method transactions that used to sit on every
+ * repository method, both on their own and inside a service transaction:
+ * {@code BENCH_DB_URL=jdbc:postgresql://localhost:5432/smart_ecommerce BENCH_DB_USER=... mvn test -Dtest=RepositoryTransactionBenchmarkTest}
+ *
+ * The "transactional" repository is the real one behind a transaction interceptor configured
+ * the way the removed annotations were: readOnly for finders, REQUIRED for the rest.
+ * Both must return the same rows. A standalone call without the annotation must make fewer
+ * driver calls that cost a round trip. Inside a service transaction the repository transaction
+ * joins the outer one, so the call counts must match. Timings are logged, not asserted.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCH_DB_URL", matches = ".+")
+class RepositoryTransactionBenchmarkTest {
+
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 5_000;
+    private static final int READS_PER_SERVICE_CALL = 5;
+
+    private static final Logger log = LoggerFactory.getLogger(RepositoryTransactionBenchmarkTest.class);
+
+    // Connection methods that reach the server (or toggle session state the driver sends on the next statement)
+    private static final Set<String> ROUND_TRIPS = Set.of(
+            "prepareStatement", "createStatement", "commit", "rollback", "setAutoCommit", "setReadOnly");
+
+    @Test
+    void compareRepositoryCallsWithAndWithoutTransactions() {
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setJdbcUrl(System.getenv("BENCH_DB_URL"));
+            pool.setUsername(System.getenv("BENCH_DB_USER"));
+            pool.setPassword(System.getenv("BENCH_DB_PASSWORD"));
+            pool.setMaximumPoolSize(2);
+
+            AtomicLong calls = new AtomicLong();
+            DataSource counting = counting(pool, calls);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(counting);
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(counting);
+            ProductRepository plain = new ProductRepositoryImpl(jdbcTemplate, new ProductMapper(),
+                    new ProductSummaryMapper(), new ExistenceFilters(jdbcTemplate, transactionManager));
+            ProductRepository transactional = withRepositoryTransactions(plain, transactionManager);
+            TransactionTemplate service = new TransactionTemplate(transactionManager);
+            service.setReadOnly(true);
+
+            List<UUID> ids = jdbcTemplate.queryForList("SELECT id FROM product LIMIT 100", UUID.class);
+            if (ids.isEmpty()) {
+                ids = List.of(UUID.randomUUID());
+            }
+            List<UUID> productIds = ids;
+
+            Consumer<ProductRepository> single = repository -> repository.findById(productIds.get(0));
+            Consumer<ProductRepository> serviceCall = repository -> service.executeWithoutResult(status -> {
+                for (int i = 0; i < READS_PER_SERVICE_CALL; i++) {
+                    repository.findById(productIds.get(i % productIds.size()));
+                }
+            });
+
+            for (UUID id : productIds) {
+                assertEquals(plain.findById(id), transactional.findById(id));
+            }
+
+            long plainCalls = callsPerOp(calls, plain, single);
+            long transactionalCalls = callsPerOp(calls, transactional, single);
+            assertTrue(plainCalls < transactionalCalls,
+                    "standalone: " + plainCalls + " driver calls without vs " + transactionalCalls + " with @Transactional");
+            assertEquals(callsPerOp(calls, transactional, serviceCall), callsPerOp(calls, plain, serviceCall),
+                    "a joined repository transaction must not add driver calls");
+
+            report("standalone findById", micros(plain, single), micros(transactional, single));
+            report(READS_PER_SERVICE_CALL + " reads in a service transaction",
+                    micros(plain, serviceCall), micros(transactional, serviceCall));
+        }
+    }
+
+    private static ProductRepository withRepositoryTransactions(ProductRepository target,
+                                                                DataSourceTransactionManager transactionManager) {
+        RuleBasedTransactionAttribute readOnly = new RuleBasedTransactionAttribute();
+        readOnly.setReadOnly(true);
+        NameMatchTransactionAttributeSource attributes = new NameMatchTransactionAttributeSource();
+        attributes.addTransactionalMethod("find*", readOnly);
+        attributes.addTransactionalMethod("exists*", readOnly);
+        attributes.addTransactionalMethod("count*", readOnly);
+        attributes.addTransactionalMethod("*", new RuleBasedTransactionAttribute());
+
+        ProxyFactory proxy = new ProxyFactory(target);
+        proxy.addInterface(ProductRepository.class);
+        proxy.addAdvice(new TransactionInterceptor(transactionManager, attributes));
+        return (ProductRepository) proxy.getProxy();
+    }
+
+    private static long callsPerOp(AtomicLong calls, ProductRepository repository, Consumer<ProductRepository> call) {
+        long before = calls.get();
+        call.accept(repository);
+        return calls.get() - before;
+    }
+
+    private static DataSource counting(DataSource target, AtomicLong calls) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                        (proxy, method, args) -> {
+                            if (ROUND_TRIPS.contains(method.getName())) {
+                                calls.incrementAndGet();
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        });
+            }
+        };
+    }
+
+    private static double micros(ProductRepository repository, Consumer<ProductRepository> call) {
+        for (int i = 0; i < WARMUP; i++) {
+            call.accept(repository);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            call.accept(repository);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private static void report(String scenario, double plain, double transactional) {
+        log.info("{}: plain {} us/op, per-method @Transactional {} us/op",
+                scenario, String.format("%.1f", plain), String.format("%.1f", transactional));
+    }
+}
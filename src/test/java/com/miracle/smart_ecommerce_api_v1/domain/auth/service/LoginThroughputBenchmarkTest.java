@@ -0,0 +1,130 @@
+package com.miracle.smart_ecommerce_api_v1.domain.auth.service;
+
+import com.miracle.smart_ecommerce_api_v1.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rough comparison of login throughput and concurrent browsing throughput with BCrypt on the
+ * request threads vs. on the bounded hashing pool. Browsing is simulated as short CPU-bound
+ * requests on the same (virtual) request threads: {@code BENCH_LOGIN=1 mvn test -Dtest=LoginThroughputBenchmarkTest}
+ *
+ * Moving the hashing onto the pool must leave more throughput for browsing than hashing inline.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCH_LOGIN", matches = ".+")
+class LoginThroughputBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginThroughputBenchmarkTest.class);
+
+    private static final Duration RUN = Duration.ofSeconds(10);
+    private static final int LOGIN_CLIENTS = 200;
+    private static final int BROWSE_CLIENTS = 200;
+    private static final Duration RETRY_AFTER = Duration.ofMillis(200);
+
+    @Test
+    void compareInlineAndPooledHashing() throws Exception {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(10);
+        String hash = encoder.encode("correct horse battery staple");
+
+        Result inline = run(() -> encoder.matches("correct horse battery staple", hash));
+
+        PasswordHasher hasher = new PasswordHasher(encoder, 10, 0, 64, Duration.ofSeconds(2));
+        Result pooled;
+        try {
+            pooled = run(() -> hasher.matches("correct horse battery staple", hash));
+        } finally {
+            hasher.shutdown();
+        }
+
+        log.info("inline: {}", inline);
+        log.info("pooled: {}", pooled);
+        log.info("pool stats: {}", hasher.getStats());
+        // The point of the pool: logins keep going, but no longer starve the other requests of carrier threads
+        assertTrue(pooled.logins() > 0, "no login completed on the hashing pool");
+        assertTrue(pooled.pages() > inline.pages(),
+                "browsing did not gain from pooled hashing: " + pooled.pages() + " vs " + inline.pages() + " pages/s");
+    }
+
+    private static Result run(BooleanSupplier login) throws InterruptedException {
+        LongAdder logins = new LongAdder();
+        LongAdder shed = new LongAdder();
+        LongAdder pages = new LongAdder();
+        LongAdder pageNanos = new LongAdder();
+        AtomicBoolean stop = new AtomicBoolean();
+
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < LOGIN_CLIENTS; i++) {
+                requests.execute(() -> {
+                    while (!stop.get()) {
+                        try {
+                            if (login.getAsBoolean()) {
+                                logins.increment();
+                            }
+                        } catch (ServiceUnavailableException e) {
+                            // A well-behaved client honours Retry-After instead of hammering
+                            shed.increment();
+                            sleep(RETRY_AFTER);
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < BROWSE_CLIENTS; i++) {
+                requests.execute(() -> {
+                    while (!stop.get()) {
+                        long started = System.nanoTime();
+                        renderPage();
+                        pageNanos.add(System.nanoTime() - started);
+                        pages.increment();
+                    }
+                });
+            }
+            TimeUnit.MILLISECONDS.sleep(RUN.toMillis());
+            stop.set(true);
+        }
+
+        double seconds = RUN.toMillis() / 1000.0;
+        long pageCount = pages.sum();
+        return new Result(logins.sum() / seconds, shed.sum() / seconds, pageCount / seconds,
+                pageCount > 0 ? pageNanos.sum() / pageCount / 1_000_000.0 : 0);
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Stand-in for serializing a product page: a little CPU, then yield like an I/O wait would
+    private static void renderPage() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"product-").append(i).append("\"}");
+        }
+        if (sb.length() == 0) {
+            throw new IllegalStateException();
+        }
+        Thread.yield();
+    }
+
+    private record Result(double logins, double shed, double pages, double pageMillis) {
+        @Override
+        public String toString() {
+            return "%8.1f logins/s  %8.1f shed/s  %10.1f pages/s  %6.2f ms/page".formatted(logins, shed, pages, pageMillis);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.miracle.smart_ecommerce_api_v1.domain.auth.service;
+
+import com.miracle.smart_ecommerce_api_v1.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hasher.shutdown();
+    }
+
+    @Test
+    void fullQueue_isRejectedImmediately() throws Exception {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches(anyString(), anyString())).thenAnswer(inv -> release.await(5, TimeUnit.SECONDS));
+        hasher = new PasswordHasher(encoder, 10, 1, 1, Duration.ofSeconds(5));
+
+        // One call hashing, one waiting in the single queue slot
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> hasher.matches("a", "h"));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> hasher.matches("b", "h"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((int) hasher.getStats().get("queued") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        long started = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> hasher.matches("c", "h"));
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1L, hasher.getStats().get("rejected"));
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void needsUpgrade_onlyForBcryptHashesAtAnotherCost() {
+        hasher = new PasswordHasher(mock(PasswordEncoder.class), 12, 1, 1, Duration.ofSeconds(1));
+
+        assertTrue(hasher.needsUpgrade("$2a$10$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234"));
+        assertFalse(hasher.needsUpgrade("$2a$12$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234"));
+        assertFalse(hasher.needsUpgrade("{noop}plain"));
+        assertFalse(hasher.needsUpgrade(null));
+    }
+}
@@ -0,0 +1,83 @@
+package com.miracle.smart_ecommerce_api_v1.domain.category.service;
+
+import com.miracle.smart_ecommerce_api_v1.domain.category.entity.Category;
+import com.miracle.smart_ecommerce_api_v1.domain.category.repository.CategoryRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.CategoryProductCount;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CategoryCatalogTest {
+
+    private final UUID electronics = UUID.randomUUID();
+    private final UUID phones = UUID.randomUUID();
+    private final UUID books = UUID.randomUUID();
+
+    private CategoryRepository categoryRepository;
+    private ProductRepository productRepository;
+    private CategoryCatalog catalog;
+
+    @BeforeEach
+    void setup() {
+        categoryRepository = mock(CategoryRepository.class);
+        productRepository = mock(ProductRepository.class);
+        when(categoryRepository.findAll()).thenReturn(List.of(
+                Category.builder().id(books).categoryName("Books").build(),
+                Category.builder().id(electronics).categoryName("Electronics").build(),
+                Category.builder().id(phones).categoryName("Phones").parentId(electronics).build()));
+        when(productRepository.countGroupedByCategory()).thenReturn(List.of(
+                new CategoryProductCount(phones, 3, 2)));
+        catalog = new CategoryCatalog(categoryRepository, productRepository, Duration.ZERO);
+    }
+
+    @Test
+    void readsAndCountChangesAfterLoad_doNotQueryDatabase() {
+        assertEquals(List.of(books, electronics), catalog.findChildren(null).stream().map(Category::getId).toList());
+        assertEquals(List.of(phones), catalog.findChildren(electronics).stream().map(Category::getId).toList());
+
+        catalog.productAdded(phones, true);
+        catalog.productChanged(phones, true, books, false);
+        catalog.activeStatusChanged(books, true);
+        catalog.productRemoved(phones, false);
+
+        assertEquals(2, catalog.productCount(phones));
+        assertEquals(2, catalog.activeProductCount(phones));
+        assertEquals(1, catalog.productCount(books));
+        assertEquals(1, catalog.activeProductCount(books));
+        assertEquals(0, catalog.productCount(electronics));
+
+        verify(categoryRepository, times(1)).findAll();
+        verify(productRepository, times(1)).countGroupedByCategory();
+    }
+
+    @Test
+    void findById_miss_fallsBackToDatabaseAndMergesTheRow() {
+        UUID laptops = UUID.randomUUID();
+        Category created = Category.builder().id(laptops).categoryName("Laptops").parentId(electronics).build();
+        when(categoryRepository.findById(laptops)).thenReturn(Optional.of(created));
+
+        assertEquals(Optional.of(created), catalog.findById(laptops));
+        assertEquals(Optional.of(created), catalog.findById(laptops));
+        assertEquals(List.of(laptops, phones), catalog.findChildren(electronics).stream().map(Category::getId).toList());
+
+        verify(categoryRepository, times(1)).findById(laptops);
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    void invalidate_reloadsOnNextRead() {
+        catalog.findAll();
+        catalog.invalidate();
+        catalog.findAll();
+
+        verify(categoryRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,75 @@
+package com.miracle.smart_ecommerce_api_v1.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 500_000;
+
+    @Test
+    void concurrentGeneration_neverRepeatsAnId() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(7);
+        long[] all = new long[THREADS * PER_THREAD];
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(THREADS)) {
+            Future<?>[] workers = IntStream.range(0, THREADS).mapToObj(t -> pool.submit(() -> {
+                long previous = -1;
+                for (int i = 0; i < PER_THREAD; i++) {
+                    long id = generator.nextId();
+                    assertTrue(id > previous, "ids must increase on each thread");
+                    all[t * PER_THREAD + i] = previous = id;
+                }
+            })).toArray(Future[]::new);
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i], "duplicate id");
+        }
+    }
+
+    @Test
+    void clockGoingBackwards_keepsCounting() {
+        AtomicLong now = new AtomicLong(OrderNumberGenerator.EPOCH + 1_000_000);
+        OrderNumberGenerator generator = new OrderNumberGenerator(3, now::get);
+
+        String first = generator.next();
+        now.addAndGet(-5_000);
+        String second = generator.next();
+
+        assertTrue(second.compareTo(first) > 0);
+        assertEquals(17, first.length());
+        assertTrue(first.startsWith(OrderNumberGenerator.PREFIX));
+    }
+
+    @Test
+    void encoding_sortsLikeTheNumber() {
+        assertEquals("0000000000000", OrderNumberGenerator.encode(0));
+        assertEquals("7ZZZZZZZZZZZZ", OrderNumberGenerator.encode(Long.MAX_VALUE));
+        assertTrue(OrderNumberGenerator.encode(31).compareTo(OrderNumberGenerator.encode(32)) < 0);
+    }
+
+    @Test
+    void nodeIdOutOfRange_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumberGenerator(1024));
+    }
+
+    @Test
+    void missingNodeId_failsStartup() {
+        assertThrows(IllegalStateException.class, () -> new OrderNumberGenerator(""));
+        assertEquals(5, new OrderNumberGenerator(" 5 ").nextId() >>> 12 & OrderNumberGenerator.MAX_NODE_ID);
+    }
+}
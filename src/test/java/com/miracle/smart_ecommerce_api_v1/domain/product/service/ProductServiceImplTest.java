@@ -0,0 +1,52 @@
+package com.miracle.smart_ecommerce_api_v1.domain.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.miracle.smart_ecommerce_api_v1.domain.category.repository.CategoryRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.category.service.CategoryCatalog;
+import com.miracle.smart_ecommerce_api_v1.domain.product.dto.ProductResponse;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.ProductSummary;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductRatingSummary;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ProductRatingSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProductServiceImplTest {
+
+    @Test
+    void listPage_attachesEveryRatingFromOneBatchedLookup() {
+        UUID reviewed = UUID.randomUUID();
+        UUID unreviewed = UUID.randomUUID();
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findAll(0, 20)).thenReturn(List.of(summary(reviewed), summary(unreviewed)));
+        when(productRepository.count()).thenReturn(2L);
+
+        ProductRatingSummaryRepository ratingSummaryRepository = mock(ProductRatingSummaryRepository.class);
+        when(ratingSummaryRepository.findByProductIds(List.of(reviewed, unreviewed))).thenReturn(Map.of(
+                reviewed, new ProductRatingSummary(reviewed, 2, 7, new long[]{0, 0, 1, 1, 0}),
+                unreviewed, ProductRatingSummary.empty(unreviewed)));
+
+        ProductServiceImpl productService = new ProductServiceImpl(productRepository, mock(CategoryRepository.class),
+                ratingSummaryRepository, mock(CategoryCatalog.class), mock(CacheManager.class), new ObjectMapper());
+
+        List<ProductResponse> page = productService.getAllProducts(0, 20).getContent();
+
+        assertEquals(3.5, page.get(0).getRating().getAverageRating());
+        assertEquals(List.of(0L, 0L, 1L, 1L, 0L), page.get(0).getRating().getHistogram());
+        assertEquals(0L, page.get(1).getRating().getReviewCount());
+        verify(ratingSummaryRepository, times(1)).findByProductIds(any());
+        verify(ratingSummaryRepository, never()).findByProductId(any());
+    }
+
+    private static ProductSummary summary(UUID id) {
+        return ProductSummary.builder().id(id).name("Product").stockQuantity(1).isActive(true).build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.miracle.smart_ecommerce_api_v1.domain.review;
+
+import com.miracle.smart_ecommerce_api_v1.common.util.KeysetCursor;
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductReview;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ReviewRepositoryImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Offset vs. keyset paging of a user's review history at 10M reviews (override with
+ * BENCH_REVIEW_ROWS). Seeds a throwaway schema, so expect several minutes on first run:
+ * {@code BENCH_DB_URL=jdbc:postgresql://localhost:5432/ecommerce_db BENCH_DB_USER=... mvn test}
+ *
+ * The deep keyset page must return the same reviews as the OFFSET page and come back faster.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCH_DB_URL", matches = ".+")
+class ReviewPagingBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewPagingBenchmarkTest.class);
+
+    private static final String SCHEMA = "review_bench_" + Long.toHexString(System.nanoTime());
+    private static final int PRODUCTS = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 50;
+
+    private static HikariDataSource dataSource;
+    private static ReviewRepositoryImpl reviewRepository;
+    private static UUID heavyUser;
+
+    @BeforeAll
+    static void seed() {
+        String url = System.getenv("BENCH_DB_URL");
+        String user = System.getenv("BENCH_DB_USER");
+        String password = System.getenv("BENCH_DB_PASSWORD");
+        long rows = Long.parseLong(System.getenv().getOrDefault("BENCH_REVIEW_ROWS", "10000000"));
+
+        Flyway.configure()
+                .dataSource(url, user, password)
+                .schemas(SCHEMA)
+                .createSchemas(true)
+                .load()
+                .migrate();
+
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(user);
+        dataSource.setPassword(password);
+        dataSource.setSchema(SCHEMA);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // Every user reviews every product once, so each user has PRODUCTS reviews
+        long users = Math.max(1, rows / PRODUCTS);
+        jdbcTemplate.update("""
+                INSERT INTO app_user (email_address, password_hash)
+                SELECT 'bench' || g || '@example.com', 'x' FROM generate_series(1, ?) g
+                """, users);
+        jdbcTemplate.update("INSERT INTO product_category (category_name) VALUES ('Bench')");
+        jdbcTemplate.update("""
+                INSERT INTO product (category_id, name, price)
+                SELECT (SELECT id FROM product_category LIMIT 1), 'Product ' || g, 9.99
+                FROM generate_series(1, ?) g
+                """, PRODUCTS);
+        jdbcTemplate.update("""
+                INSERT INTO product_review (user_id, product_id, rating, created_at, updated_at)
+                SELECT u.ids[1 + g / ?], p.ids[1 + g % ?], 1 + g % 5,
+                       now() - g * interval '1 second', now() - g * interval '1 second'
+                FROM generate_series(0, ? - 1) g,
+                     (SELECT array_agg(id ORDER BY id) AS ids FROM app_user) u,
+                     (SELECT array_agg(id ORDER BY id) AS ids FROM product) p
+                """, PRODUCTS, PRODUCTS, users * PRODUCTS);
+        jdbcTemplate.execute("VACUUM ANALYZE");
+
+        heavyUser = jdbcTemplate.queryForObject("SELECT id FROM app_user ORDER BY id LIMIT 1", UUID.class);
+        reviewRepository = new ReviewRepositoryImpl(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        if (dataSource == null) {
+            return;
+        }
+        new JdbcTemplate(dataSource).execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        dataSource.close();
+    }
+
+    @Test
+    void deepPage_offsetVersusKeyset() {
+        int deepPage = (PRODUCTS - PAGE_SIZE * 2) / PAGE_SIZE;
+        List<ProductReview> previous = reviewRepository.findByUserId(heavyUser, deepPage - 1, PAGE_SIZE);
+        ProductReview last = previous.get(previous.size() - 1);
+        KeysetCursor cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+
+        List<ProductReview> byOffset = reviewRepository.findByUserId(heavyUser, deepPage, PAGE_SIZE);
+        List<ProductReview> byKeyset = reviewRepository.findByUserIdAfter(heavyUser, cursor, PAGE_SIZE);
+        assertEquals(byOffset.stream().map(ProductReview::getId).toList(),
+                byKeyset.stream().map(ProductReview::getId).toList());
+
+        report("first page (keyset)", () -> reviewRepository.findByUserIdAfter(heavyUser, null, PAGE_SIZE));
+        double offset = report("page " + deepPage + " (OFFSET)", () -> reviewRepository.findByUserId(heavyUser, deepPage, PAGE_SIZE));
+        double keyset = report("page " + deepPage + " (keyset)", () -> reviewRepository.findByUserIdAfter(heavyUser, cursor, PAGE_SIZE));
+        report("countByUserId", () -> reviewRepository.countByUserId(heavyUser));
+
+        // OFFSET walks ~PRODUCTS index entries to reach the page, the keyset seeks straight to it
+        assertTrue(keyset < offset, "keyset page (" + keyset + " ms) not faster than OFFSET (" + offset + " ms)");
+    }
+
+    private static double report(String label, Supplier<?> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        log.info("{}: {} ms/op", label, String.format("%.2f", millis));
+        return millis;
+    }
+}
@@ -0,0 +1,72 @@
+package com.miracle.smart_ecommerce_api_v1.domain.review.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductRatingSummary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ProductRatingSummaryRepositoryImplTest {
+
+    private final UUID productId = UUID.randomUUID();
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductRatingSummaryRepositoryImpl repository;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repository = new ProductRatingSummaryRepositoryImpl(jdbcTemplate);
+    }
+
+    @Test
+    void applyDelta_changedRatingMovesOneReviewBetweenBuckets() {
+        repository.applyDelta(productId, 4, 2);
+
+        // count, sum, then the 1..5 star buckets
+        verify(jdbcTemplate).update(anyString(), eq(productId), eq(0L), eq(-2L),
+                eq(0L), eq(1L), eq(0L), eq(-1L), eq(0L));
+    }
+
+    @Test
+    void applyDelta_addAndRemoveChangeTheCount() {
+        repository.applyDelta(productId, null, 5);
+        repository.applyDelta(productId, 3, null);
+
+        verify(jdbcTemplate).update(anyString(), eq(productId), eq(1L), eq(5L),
+                eq(0L), eq(0L), eq(0L), eq(0L), eq(1L));
+        verify(jdbcTemplate).update(anyString(), eq(productId), eq(-1L), eq(-3L),
+                eq(0L), eq(0L), eq(-1L), eq(0L), eq(0L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findByProductIds_keepsRequestOrderAndFillsProductsWithoutReviews() {
+        UUID unreviewed = UUID.randomUUID();
+        ProductRatingSummary stored = new ProductRatingSummary(productId, 1, 4, new long[]{0, 0, 0, 1, 0});
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of(stored));
+
+        Map<UUID, ProductRatingSummary> summaries = repository.findByProductIds(List.of(unreviewed, productId));
+
+        assertEquals(List.of(unreviewed, productId), List.copyOf(summaries.keySet()));
+        assertEquals(0, summaries.get(unreviewed).getReviewCount());
+        assertSame(stored, summaries.get(productId));
+    }
+
+    @Test
+    void findByProductIds_skipsTheQueryForNoIds() {
+        assertTrue(repository.findByProductIds(List.of()).isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
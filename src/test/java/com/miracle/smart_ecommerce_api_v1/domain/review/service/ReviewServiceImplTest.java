@@ -0,0 +1,92 @@
+package com.miracle.smart_ecommerce_api_v1.domain.review.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.miracle.smart_ecommerce_api_v1.domain.product.entity.Product;
+import com.miracle.smart_ecommerce_api_v1.domain.product.repository.ProductRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.review.dto.CreateReviewRequest;
+import com.miracle.smart_ecommerce_api_v1.domain.review.entity.ProductReview;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ProductRatingSummaryRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ReviewRepository;
+import com.miracle.smart_ecommerce_api_v1.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.miracle.smart_ecommerce_api_v1.config.CacheConfig.PRODUCTS_CACHE;
+import static com.miracle.smart_ecommerce_api_v1.config.CacheConfig.REVIEWS_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReviewServiceImplTest {
+
+    private final UUID reviewId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+
+    private ReviewRepository reviewRepository;
+    private ProductRatingSummaryRepository ratingSummaryRepository;
+    private Cache productCache;
+    private ReviewServiceImpl reviewService;
+
+    @BeforeEach
+    void setup() {
+        reviewRepository = mock(ReviewRepository.class);
+        ratingSummaryRepository = mock(ProductRatingSummaryRepository.class);
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findById(productId))
+                .thenReturn(Optional.of(Product.builder().id(productId).sku("SKU-1").build()));
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new CaffeineCache(PRODUCTS_CACHE, Caffeine.newBuilder().build()),
+                new CaffeineCache(REVIEWS_CACHE, Caffeine.newBuilder().build())));
+        cacheManager.initializeCaches();
+        productCache = cacheManager.getCache(PRODUCTS_CACHE);
+        reviewService = new ReviewServiceImpl(reviewRepository, ratingSummaryRepository, productRepository, cacheManager);
+    }
+
+    @Test
+    void updateReview_movesThePreviousRatingFromTheWriteAndEvictsBothProductKeys() {
+        productCache.put("id:" + productId, "cached");
+        productCache.put("sku:SKU-1", "cached");
+        when(reviewRepository.update(any())).thenReturn(Optional.of(new ReviewRepository.UpdatedReview(review(2), 4)));
+
+        reviewService.updateReview(reviewId, request(2));
+
+        verify(ratingSummaryRepository).applyDelta(productId, 4, 2);
+        assertNull(productCache.get("id:" + productId));
+        assertNull(productCache.get("sku:SKU-1"));
+    }
+
+    @Test
+    void updateReview_leavesTheSummaryAloneWhenTheReviewIsGone() {
+        when(reviewRepository.update(any())).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> reviewService.updateReview(reviewId, request(5)));
+        verifyNoInteractions(ratingSummaryRepository);
+    }
+
+    @Test
+    void deleteReview_subtractsOnlyForTheDeleteThatRemovedTheRow() {
+        when(reviewRepository.deleteById(reviewId)).thenReturn(Optional.of(review(3)), Optional.empty());
+
+        reviewService.deleteReview(reviewId);
+        assertThrows(ResourceNotFoundException.class, () -> reviewService.deleteReview(reviewId));
+
+        verify(ratingSummaryRepository, times(1)).applyDelta(productId, 3, null);
+    }
+
+    private ProductReview review(int rating) {
+        return ProductReview.builder().id(reviewId).productId(productId).userId(UUID.randomUUID()).rating(rating).build();
+    }
+
+    private CreateReviewRequest request(int rating) {
+        return CreateReviewRequest.builder().productId(productId).rating(rating).build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.miracle.smart_ecommerce_api_v1.domain.user.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.miracle.smart_ecommerce_api_v1.domain.user.dto.request.CreateAddressRequest;
+import com.miracle.smart_ecommerce_api_v1.domain.user.entity.Address;
+import com.miracle.smart_ecommerce_api_v1.domain.user.repository.AddressRepository;
+import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.miracle.smart_ecommerce_api_v1.config.CacheConfig.ADDRESSES_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AddressServiceImplTest {
+
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID aliceShipping = UUID.randomUUID();
+
+    private AddressRepository addressRepository;
+    private AddressServiceImpl addressService;
+
+    @BeforeEach
+    void setup() {
+        addressRepository = mock(AddressRepository.class);
+        when(addressRepository.findByUserId(alice)).thenReturn(List.of(
+                address(aliceShipping, alice, "SHIPPING"),
+                address(UUID.randomUUID(), alice, "billing"),
+                address(UUID.randomUUID(), alice, null)));
+        when(addressRepository.findByUserId(bob)).thenReturn(List.of(address(UUID.randomUUID(), bob, "billing")));
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(new CaffeineCache(ADDRESSES_CACHE, Caffeine.newBuilder().build())));
+        cacheManager.initializeCaches();
+        addressService = new AddressServiceImpl(addressRepository, mock(UserRepository.class), cacheManager);
+    }
+
+    @Test
+    void typeLookups_shareOneLoadPerUser() {
+        assertEquals(2, addressService.getAddressesByUserIdAndType(alice, "shipping").size());
+        assertEquals(1, addressService.getAddressesByUserIdAndType(alice, "billing").size());
+        assertEquals(3, addressService.getAddressesByUserId(alice).size());
+
+        verify(addressRepository, times(1)).findByUserId(alice);
+        verify(addressRepository, never()).findByUserIdAndType(any(), any());
+    }
+
+    @Test
+    void write_evictsOnlyThatUsersAddressBook() {
+        addressService.getAddressesByUserId(alice);
+        addressService.getAddressesByUserId(bob);
+
+        Address existing = address(aliceShipping, alice, "shipping");
+        when(addressRepository.findById(aliceShipping)).thenReturn(Optional.of(existing));
+        when(addressRepository.update(any())).thenReturn(existing);
+        addressService.updateAddress(aliceShipping, CreateAddressRequest.builder()
+                .userId(alice).addressLine("1 New St").addressType("shipping").build());
+
+        addressService.getAddressesByUserId(alice);
+        addressService.getAddressesByUserId(bob);
+
+        verify(addressRepository, times(2)).findByUserId(alice);
+        verify(addressRepository, times(1)).findByUserId(bob);
+    }
+
+    private static Address address(UUID id, UUID userId, String type) {
+        return Address.builder().id(id).userId(userId).addressLine("1 Main St").addressType(type).build();
+    }
+}
@@ -1,8 +1,12 @@
 package com.miracle.smart_ecommerce_api_v1.domain.user.service.impl;
 
+import com.miracle.smart_ecommerce_api_v1.domain.auth.service.PrincipalCache;
+import com.miracle.smart_ecommerce_api_v1.domain.review.repository.ProductRatingSummaryRepository;
 import com.miracle.smart_ecommerce_api_v1.domain.user.dto.request.CreateUserRequest;
 import com.miracle.smart_ecommerce_api_v1.domain.user.dto.response.UserResponse;
+import com.miracle.smart_ecommerce_api_v1.domain.user.entity.Address;
 import com.miracle.smart_ecommerce_api_v1.domain.user.entity.User;
+import com.miracle.smart_ecommerce_api_v1.domain.user.repository.AddressRepository;
 import com.miracle.smart_ecommerce_api_v1.domain.user.repository.UserRepository;
 import com.miracle.smart_ecommerce_api_v1.exception.DuplicateResourceException;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +18,8 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +37,15 @@ class UserServiceImplTest {
     @Mock
     private Cache cache;
 
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private ProductRatingSummaryRepository ratingSummaryRepository;
+
+    @Mock
+    private PrincipalCache principalCache;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -95,5 +110,19 @@ class UserServiceImplTest {
 
         verify(userRepository, never()).save(any());
     }
+
+    @Test
+    void deleteUser_evictsTheAddressBookAndEachCascadeDeletedAddress() {
+        UUID id = UUID.randomUUID();
+        UUID addressId = UUID.randomUUID();
+        when(userRepository.findById(id)).thenReturn(Optional.of(User.builder().id(id).emailAddress("gone@example.com").build()));
+        when(ratingSummaryRepository.subtractReviewsByUser(id)).thenReturn(List.of());
+        when(addressRepository.findByUserId(id)).thenReturn(List.of(Address.builder().id(addressId).userId(id).build()));
+
+        userService.deleteUser(id);
+
+        verify(cache).evict("user:" + id);
+        verify(cache).evict("id:" + addressId);
+    }
 }
 
@@ -0,0 +1,55 @@
+package com.miracle.smart_ecommerce_api_v1.graphql.persisted;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.Parser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistedQueryDocumentProviderTest {
+
+    private static final String REGISTERED = "query { products { id } }";
+    private static final String UNREGISTERED = "query { users { id emailAddress } }";
+
+    private static final Function<ExecutionInput, PreparsedDocumentEntry> PARSE =
+            input -> new PreparsedDocumentEntry(Parser.parse(input.getQuery()));
+
+    @Test
+    void allowUnregistered_executesAnyText() throws Exception {
+        PersistedQueryDocumentProvider provider = provider(true);
+
+        assertFalse(provider.getDocumentAsync(plain(UNREGISTERED), PARSE).get().hasErrors());
+        assertFalse(provider.getDocumentAsync(persisted(UNREGISTERED), PARSE).get().hasErrors());
+    }
+
+    @Test
+    void registryOnly_rejectsUnregisteredTextSentWithOrWithoutAHash() throws Exception {
+        PersistedQueryDocumentProvider provider = provider(false);
+
+        assertTrue(provider.getDocumentAsync(plain(UNREGISTERED), PARSE).get().hasErrors());
+        assertTrue(provider.getDocumentAsync(persisted(UNREGISTERED), PARSE).get().hasErrors());
+        assertFalse(provider.getDocumentAsync(plain(REGISTERED), PARSE).get().hasErrors());
+        assertFalse(provider.getDocumentAsync(persisted(REGISTERED), PARSE).get().hasErrors());
+    }
+
+    private static PersistedQueryDocumentProvider provider(boolean allowUnregistered) {
+        PersistedQueryRegistry registry = new PersistedQueryRegistry();
+        registry.register(REGISTERED);
+        return new PersistedQueryDocumentProvider(new PersistedQueryDocumentCache(registry, 100, allowUnregistered));
+    }
+
+    private static ExecutionInput plain(String query) {
+        return ExecutionInput.newExecutionInput(query).build();
+    }
+
+    private static ExecutionInput persisted(String query) {
+        return ExecutionInput.newExecutionInput(query)
+                .extensions(Map.of("persistedQuery",
+                        Map.of("version", 1, "sha256Hash", PersistedQueryRegistry.sha256(query))))
+                .build();
+    }
+}